@@ -0,0 +1,88 @@
+package de.tuda.stg.reclipse.logger;
+
+import java.io.Serializable;
+
+/**
+ * Compact description of an exception which occurred during the evaluation of
+ * a node. Instead of the exception itself, only its class, its message and its
+ * stack trace are transferred. The stack trace is identified by an id and only
+ * included the first time it is sent, later records just reference the id.
+ */
+public class ExceptionRecord implements Serializable {
+
+  private static final long serialVersionUID = -6023394416290521395L;
+
+  /**
+   * Id of records whose stack trace is not shared with other records.
+   */
+  public static final int NO_TRACE_ID = -1;
+
+  /**
+   * The full name of the exception class.
+   *
+   * Example: java.lang.ArithmeticException
+   */
+  private final String className;
+
+  /**
+   * The message of the exception, may be <code>null</code>.
+   */
+  private final String message;
+
+  /**
+   * The id of the stack trace, unique within a logging session.
+   */
+  private final int traceId;
+
+  /**
+   * The stack trace or <code>null</code>, if it has been sent before with the
+   * same trace id.
+   */
+  private final StackTraceElement[] stackTrace;
+
+  public ExceptionRecord(final String className, final String message, final int traceId, final StackTraceElement[] stackTrace) {
+    this.className = className;
+    this.message = message;
+    this.traceId = traceId;
+    this.stackTrace = stackTrace;
+  }
+
+  /**
+   * Creates a record which includes the whole stack trace of the exception.
+   *
+   * @param t
+   *          the exception
+   * @return the record of the exception
+   */
+  public static ExceptionRecord of(final Throwable t) {
+    return new ExceptionRecord(t.getClass().getName(), t.getMessage(), NO_TRACE_ID, t.getStackTrace());
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public int getTraceId() {
+    return traceId;
+  }
+
+  public StackTraceElement[] getStackTrace() {
+    return stackTrace;
+  }
+
+  public boolean hasStackTrace() {
+    return stackTrace != null;
+  }
+
+  /**
+   * @return the same text as {@link Throwable#toString()}
+   */
+  @Override
+  public String toString() {
+    return message != null ? className + ": " + message : className; //$NON-NLS-1$
+  }
+}
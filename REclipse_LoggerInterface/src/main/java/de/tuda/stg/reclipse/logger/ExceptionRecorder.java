@@ -0,0 +1,56 @@
+package de.tuda.stg.reclipse.logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the {@link ExceptionRecord}s of a logging session on the side of the
+ * language-specific logger. Every distinct stack trace gets an id and is only
+ * included in the records which reference it until one of them has been sent
+ * successfully.
+ */
+public class ExceptionRecorder {
+
+  private final Map<List<StackTraceElement>, Integer> traceIds = new HashMap<>();
+  private final Set<Integer> sentTraceIds = new HashSet<>();
+
+  /**
+   * Creates the record of an exception. The record has to be passed to
+   * {@link #sent(ExceptionRecord)} once it has been sent, otherwise later
+   * records keep including the stack trace.
+   *
+   * @param t
+   *          the exception
+   * @return the record of the exception
+   */
+  public synchronized ExceptionRecord record(final Throwable t) {
+    final List<StackTraceElement> trace = Arrays.asList(t.getStackTrace());
+    Integer traceId = traceIds.get(trace);
+
+    if (traceId == null) {
+      traceId = traceIds.size();
+      traceIds.put(trace, traceId);
+    }
+
+    final StackTraceElement[] stackTrace = sentTraceIds.contains(traceId) ? null : t.getStackTrace();
+    return new ExceptionRecord(t.getClass().getName(), t.getMessage(), traceId, stackTrace);
+  }
+
+  /**
+   * Marks the stack trace of a record as sent, so later records only
+   * reference it by its id.
+   *
+   * @param record
+   *          a record created by {@link #record(Throwable)}, which has been
+   *          received by the other side
+   */
+  public synchronized void sent(final ExceptionRecord record) {
+    if (record.hasStackTrace()) {
+      sentTraceIds.add(record.getTraceId());
+    }
+  }
+}
@@ -17,8 +17,14 @@ public interface RemoteLoggerInterface extends Remote {
 
   public void logNodeEvaluationEnded(final ReactiveVariable r, final BreakpointInformation breakpointInformation) throws RemoteException;
 
+  /**
+   * Transfers the whole exception, loggers should rather send an
+   * {@link ExceptionRecord}, which includes every stack trace only once.
+   */
   public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception e, final BreakpointInformation breakpointInformation) throws RemoteException;
 
+  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord e, final BreakpointInformation breakpointInformation) throws RemoteException;
+
   public void logNodeEvaluationStarted(final ReactiveVariable r, final BreakpointInformation breakpointInformation) throws RemoteException;
 
   public void logNodeValueSet(final ReactiveVariable r, final BreakpointInformation breakpointInformation) throws RemoteException;
@@ -15,6 +15,7 @@ import de.tuda.stg.reclipse.logger.RemoteLoggerInterface
 import de.tuda.stg.reclipse.logger.ReactiveVariable
 import java.rmi.RMISecurityManager
 import de.tuda.stg.reclipse.logger.BreakpointInformation
+import de.tuda.stg.reclipse.logger.ExceptionRecorder
 import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType
 import rescala.DepHolder
 import de.tuda.stg.reclipse.logger.ReactiveVariableType
@@ -102,6 +103,11 @@ object REScalaLogger {
  */
 class REScalaLogger extends Logging {
 
+  /**
+   * Sends every distinct stack trace only once per session.
+   */
+  private val exceptionRecorder = new ExceptionRecorder
+
   private lazy val remoteLogger: RemoteLoggerInterface = {
     val breakpointInformation = getBreakpointInformation()
     
@@ -169,7 +175,10 @@ class REScalaLogger extends Logging {
     val breakpointInformation = getBreakpointInformation()
     val reVar = REScalaLogger.createReactiveVariable(r, DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION)
     reVar.setExceptionOccured(true)
-    remoteLogger.logNodeEvaluationEndedWithException(reVar, e, breakpointInformation)
+    val exceptionRecord = exceptionRecorder.record(e)
+    remoteLogger.logNodeEvaluationEndedWithException(reVar, exceptionRecord, breakpointInformation)
+    // only a received stack trace may be referenced by later records
+    exceptionRecorder.sent(exceptionRecord)
   }
 
   override def nodeValueSet(r: Reactive) {
@@ -2,10 +2,10 @@ package de.tuda.stg.reclipse.graphview.model;
 
 import java.io.IOException;
 import java.rmi.RemoteException;
+import java.util.Collections;
 import java.util.Random;
+import java.util.function.Consumer;
 
-import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Path;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeAttached;
@@ -15,6 +15,13 @@ import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvaluat
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvaluationStarted;
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvent;
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeValueSet;
+import de.tuda.stg.reclipse.graphview.model.persistence.EventCursor;
+import de.tuda.stg.reclipse.graphview.model.persistence.StandingQuery;
+import de.tuda.stg.reclipse.graphview.model.persistence.TestSessionConfiguration;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueHistory;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Queries;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 
 public class ReadPerformanceTestCase extends PerformanceTestCase {
@@ -23,30 +30,66 @@ public class ReadPerformanceTestCase extends PerformanceTestCase {
   private static final int ITERATIONS = 10;
   private static final int READS = 1000;
   
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    
+    SessionManager.getInstance().setConfiguration(new TestSessionConfiguration(1024, 1000));
+  }
+  
   public void testReadPerformance() throws Exception {
-    SessionManager.getInstance().setConfiguration(new ISessionConfiguration() {
+    SessionContext ctx = prepareSession();
 
-      @Override
-      public IPath getDatabaseFilesDir() {
-        return new Path(System.getProperty("java.io.tmpdir"));
-      }
+    for (int i = 0; i < ITERATIONS; i++) {
+      startMeasuring();
+      emulateReads(i + 1, ctx);
+      stopMeasuring();
+    }
+    commitMeasurements();
+    assertPerformance();
+  }
 
-      @Override
-      public boolean isEventLogging() {
-        return false;
-      }
+  public void testVariableReadPerformance() throws Exception {
+    measure(this::emulateVariableReads);
+  }
 
-      @Override
-      public boolean isSuspendOnSessionStart() {
-        return false;
-      }
-    });
-    
+  public void testVariableHistoryReadPerformance() throws Exception {
+    measure(this::emulateVariableHistoryReads);
+  }
+
+  public void testValueHistoryReadPerformance() throws Exception {
+    measure(this::emulateValueHistoryReads);
+  }
+
+  public void testNeighbourhoodReadPerformance() throws Exception {
+    measure(this::emulateNeighbourhoodReads);
+  }
+
+  public void testEventCursorReadPerformance() throws Exception {
+    measure(this::emulateEventCursorReads);
+  }
+
+  public void testQueryReadPerformance() throws Exception {
+    measure(this::emulateQueryReads);
+  }
+
+  public void testAggregationReadPerformance() throws Exception {
+    measure(this::emulateAggregationReads);
+  }
+
+  public void testStandingQueryReadPerformance() throws Exception {
+    measure(this::emulateStandingQueryReads);
+  }
+
+  /**
+   * Measures a read scenario on a fresh session for a number of iterations.
+   */
+  private void measure(Consumer<SessionContext> scenario) throws IOException {
     SessionContext ctx = prepareSession();
 
     for (int i = 0; i < ITERATIONS; i++) {
       startMeasuring();
-      emulateReads(i + 1, ctx);
+      scenario.accept(ctx);
       stopMeasuring();
     }
     commitMeasurements();
@@ -87,7 +130,7 @@ public class ReadPerformanceTestCase extends PerformanceTestCase {
     }
     else if (nodeEvent instanceof NodeEvaluationEndedWithException) {
       NodeEvaluationEndedWithException event = (NodeEvaluationEndedWithException) nodeEvent;
-      logger.logNodeEvaluationEndedWithException(event.getReactiveVariable(), event.getException());
+      logger.logNodeEvaluationEndedWithException(event.getReactiveVariable(), event.getExceptionRecord());
     }
     else if (nodeEvent instanceof NodeEvaluationStarted) {
       NodeEvaluationStarted event = (NodeEvaluationStarted) nodeEvent;
@@ -109,7 +152,111 @@ public class ReadPerformanceTestCase extends PerformanceTestCase {
       int point = rand.nextInt(last) + 1;
       ctx.getPersistence().getDependencyGraph(point);
     }
+  }
+
+  /**
+   * Reads the variables of every point in time separately, like the heatmap did
+   * before the variable history was introduced.
+   */
+  private void emulateVariableReads(SessionContext ctx) {
+    int first = ctx.getPersistence().getFirstPointInTime();
+    int last = ctx.getPersistence().getLastPointInTime();
+    
+    for (int point = first; point <= last; point++) {
+      ctx.getPersistence().getReVars(point);
+    }
+  }
+  
+  private void emulateVariableHistoryReads(SessionContext ctx) {
+    int first = ctx.getPersistence().getFirstPointInTime();
+    int last = ctx.getPersistence().getLastPointInTime();
+    
+    ctx.getPersistence().getVariableHistory(first, last);
+  }
+
+  private void emulateEventCursorReads(SessionContext ctx) {
+    int first = ctx.getPersistence().getFirstPointInTime();
+    int last = ctx.getPersistence().getLastPointInTime();
+    
+    EventCursor cursor = ctx.getPersistence().getEventCursor(first, last);
     
+    while (cursor.next()) {
+      cursor.getValueString();
+    }
+  }
+
+  /**
+   * Queries the evaluations and the creation of every variable, separately,
+   * combined and in sequence, and compares the values of its evaluations.
+   */
+  private void emulateQueryReads(SessionContext ctx) {
+    int last = ctx.getPersistence().getLastPointInTime();
+
+    for (ReactiveVariable variable : ctx.getPersistence().getReVars(last)) {
+      ctx.getQueryEngine().executeQuery(Queries.parse("nodeEvaluated(" + variable.getName() + ")"));
+      ctx.getQueryEngine().executeQuery(Queries.parse("nodeCreated(" + variable.getName() + ")"));
+      ctx.getQueryEngine().executeQuery(Queries.parse("nodeEvaluated(" + variable.getName() + ") and not evaluationException(" + variable.getName() + ")"));
+      ctx.getQueryEngine().executeQuery(Queries.parse("nodeCreated(" + variable.getName() + ") then nodeEvaluated(" + variable.getName() + ") within 100"));
+      ctx.getQueryEngine().executeQuery(Queries.parse("evaluationYielded(" + variable.getName() + ", [100, 200])"));
+      ctx.getQueryEngine().executeQuery(Queries.parse("evaluationYielded(" + variable.getName() + ", ~ \"1.*\")"));
+    }
+  }
+
+  /**
+   * Counts the events by node, by type and per turn.
+   */
+  private void emulateAggregationReads(SessionContext ctx) {
+    ctx.getQueryEngine().executeAggregation(Aggregation.create(Queries.parse("topK(10, nodeEvaluated()) groupBy node")));
+    ctx.getQueryEngine().executeAggregation(Aggregation.create(Queries.parse("count() groupBy type")));
+    ctx.getQueryEngine().executeAggregation(Aggregation.create(Queries.parse("rate(nodeEvaluated(), turn)")));
+  }
+
+  /**
+   * Registers a query for the evaluations of every variable and navigates
+   * through its matches.
+   */
+  private void emulateStandingQueryReads(SessionContext ctx) {
+    int last = ctx.getPersistence().getLastPointInTime();
+
+    for (ReactiveVariable variable : ctx.getPersistence().getReVars(last)) {
+      StandingQuery query = ctx.getQueryEngine().register(Queries.parse("nodeEvaluated(" + variable.getName() + ")"), null);
+
+      for (int i = 0; i < query.getMatchCount(); i++) {
+        query.getMatch(i);
+      }
+
+      query.close();
+    }
+  }
+
+  /**
+   * Reads the neighbourhood of every variable at random points in time.
+   */
+  private void emulateNeighbourhoodReads(SessionContext ctx) {
+    Random rand = new Random();
+    int last = ctx.getPersistence().getLastPointInTime();
+
+    for (ReactiveVariable variable : ctx.getPersistence().getReVars(last)) {
+      int point = rand.nextInt(last) + 1;
+      ctx.getPersistence().getNeighbourhood(Collections.singleton(variable.getId()), 2, point);
+    }
+  }
+
+  /**
+   * Reads the values of every variable over time and looks up the value of
+   * each variable at random points in time.
+   */
+  private void emulateValueHistoryReads(SessionContext ctx) {
+    Random rand = new Random();
+    int last = ctx.getPersistence().getLastPointInTime();
+
+    for (ReactiveVariable variable : ctx.getPersistence().getReVars(last)) {
+      ValueHistory history = ctx.getPersistence().getValueHistory(variable.getId());
+
+      for (int i = 0; i < READS; i++) {
+        history.getValueAt(rand.nextInt(last) + 1);
+      }
+    }
   }
 
 }
@@ -0,0 +1,112 @@
+package de.tuda.stg.reclipse.graphview.model;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DatabaseHelper;
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph;
+import de.tuda.stg.reclipse.graphview.model.persistence.TestSessionConfiguration;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary;
+import de.tuda.stg.reclipse.logger.BreakpointInformation;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+import de.tuda.stg.reclipse.logger.ReactiveVariableType;
+
+/**
+ * Saves a session whose history has been compacted and whose long values have
+ * been spilled and checks that the opened session reads the same history.
+ */
+public class SessionArchiveTestCase extends TestCase {
+
+  private static final String LONG_VALUE = "a value which is spilled"; //$NON-NLS-1$
+
+  private final UUID a = UUID.randomUUID();
+  private final UUID b = UUID.randomUUID();
+
+  private SessionContext saved;
+  private SessionContext opened;
+  private File archive;
+
+  @Override
+  protected void setUp() throws Exception {
+    // values longer than three characters are spilled
+    saved = new SessionContext(new TestSessionConfiguration(3, 2), null);
+    archive = File.createTempFile("reclipse", "." + SessionArchive.FILE_EXTENSION);
+
+    final DatabaseHelper db = saved.getDbHelper();
+    db.logNodeCreated(variable(a, "a", DependencyGraphHistoryType.NODE_CREATED, "1"));
+    db.logNodeCreated(variable(b, "b", DependencyGraphHistoryType.NODE_CREATED, "0"));
+    db.logNodeAttached(variable(b, "b", DependencyGraphHistoryType.NODE_ATTACHED, "0"), a);
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, LONG_VALUE));
+    db.logNodeValueSet(variable(b, "b", DependencyGraphHistoryType.NODE_VALUE_SET, "5"));
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "6"));
+    db.compactHistory(3);
+
+    saved.putVariableLocation(a, new BreakpointInformation("src/Main.scala", "Main", 12, "main"));
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    saved.close();
+
+    if (opened != null) {
+      opened.close();
+    }
+
+    archive.delete();
+  }
+
+  public void testRoundTrip() throws Exception {
+    SessionArchive.save(saved, archive);
+    opened = SessionArchive.open(archive, new TestSessionConfiguration(3, 2));
+
+    final DatabaseHelper savedDb = saved.getDbHelper();
+    final DatabaseHelper openedDb = opened.getDbHelper();
+
+    assertFalse(saved.getId().equals(opened.getId()));
+    assertEquals(saved.getCreated(), opened.getCreated());
+    assertEquals(3, openedDb.getFirstPointInTime());
+    assertEquals(savedDb.getLastPointInTime(), openedDb.getLastPointInTime());
+
+    for (int pointInTime = savedDb.getFirstPointInTime(); pointInTime <= savedDb.getLastPointInTime(); pointInTime++) {
+      assertEquals("at " + pointInTime, describe(savedDb.getDependencyGraph(pointInTime)), describe(openedDb.getDependencyGraph(pointInTime)));
+      assertEquals("at " + pointInTime, savedDb.getReVarsWithDependencies(pointInTime).size(), openedDb.getReVarsWithDependencies(pointInTime).size());
+      assertEquals("at " + pointInTime, savedDb.getValueHistory(a).getValueAt(pointInTime), openedDb.getValueHistory(a).getValueAt(pointInTime));
+    }
+
+    // the abbreviation in the database refers to the spilled value in the archive
+    final ValueDictionary dictionary = openedDb.getValueDictionary();
+    final String abbreviation = dictionary.loadValueString(dictionary.findValue(LONG_VALUE));
+    assertFalse(LONG_VALUE.equals(abbreviation));
+    assertEquals(LONG_VALUE, dictionary.loadFullValue(abbreviation));
+
+    final BreakpointInformation location = opened.getVariableLocation(a);
+    assertEquals("src/Main.scala", location.getSourcePath());
+    assertEquals("Main", location.getClassName());
+    assertEquals(12, location.getLineNumber());
+    assertEquals("main", location.getThreadName());
+    assertNull(opened.getVariableLocation(b));
+  }
+
+  private static ReactiveVariable variable(final UUID id, final String name, final DependencyGraphHistoryType type, final String value) {
+    return new ReactiveVariable(id, ReactiveVariableType.VAR, 0, type, null, "Int", "scala.Int", name, value);
+  }
+
+  /**
+   * @return the names of the variables of the graph with their values, sorted
+   *         by name
+   */
+  private static String describe(final DependencyGraph graph) {
+    final Map<String, String> values = new TreeMap<>();
+
+    for (final DependencyGraph.Vertex vertex : graph.getVertices()) {
+      values.put(vertex.getVariable().getName(), vertex.getVariable().getValueString() + graph.getConnectedIds(vertex.getId()).size());
+    }
+
+    return values.toString();
+  }
+}
@@ -2,8 +2,6 @@ package de.tuda.stg.reclipse.graphview.model;
 
 import java.rmi.RemoteException;
 
-import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Path;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeAttached;
@@ -13,6 +11,7 @@ import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvaluat
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvaluationStarted;
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeEvent;
 import de.tuda.stg.reclipse.graphview.model.SerializationEventLogger.NodeValueSet;
+import de.tuda.stg.reclipse.graphview.model.persistence.TestSessionConfiguration;
 
 public class WritePerformanceTestCase extends PerformanceTestCase {
   
@@ -20,23 +19,7 @@ public class WritePerformanceTestCase extends PerformanceTestCase {
   private static final int ITERATIONS = 10;
 
   public void testWritePerformance() throws Exception {
-    SessionManager.getInstance().setConfiguration(new ISessionConfiguration() {
-
-      @Override
-      public IPath getDatabaseFilesDir() {
-        return new Path(System.getProperty("java.io.tmpdir"));
-      }
-
-      @Override
-      public boolean isEventLogging() {
-        return false;
-      }
-
-      @Override
-      public boolean isSuspendOnSessionStart() {
-        return false;
-      }
-    });
+    SessionManager.getInstance().setConfiguration(new TestSessionConfiguration(1024, 1000));
 
     for (int i = 0; i < ITERATIONS; i++) {
       startMeasuring();
@@ -78,7 +61,7 @@ public class WritePerformanceTestCase extends PerformanceTestCase {
     }
     else if (nodeEvent instanceof NodeEvaluationEndedWithException) {
       NodeEvaluationEndedWithException event = (NodeEvaluationEndedWithException) nodeEvent;
-      logger.logNodeEvaluationEndedWithException(event.getReactiveVariable(), event.getException());
+      logger.logNodeEvaluationEndedWithException(event.getReactiveVariable(), event.getExceptionRecord());
     }
     else if (nodeEvent instanceof NodeEvaluationStarted) {
       NodeEvaluationStarted event = (NodeEvaluationStarted) nodeEvent;
@@ -0,0 +1,234 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+import de.tuda.stg.reclipse.logger.ReactiveVariableType;
+
+/**
+ * Checks the results of the reads of the history on a small session with two
+ * variables: a is created at 1, b at 2, b is attached to a at 3, a is
+ * evaluated to 2 at 4 and b is set to 5 at 5.
+ */
+public class DatabaseHelperTestCase extends TestCase {
+
+  private final UUID a = UUID.randomUUID();
+  private final UUID b = UUID.randomUUID();
+
+  private DatabaseHelper db;
+
+  @Override
+  protected void setUp() throws Exception {
+    db = new DatabaseHelper(UUID.randomUUID().toString(), new TestSessionConfiguration(1024, 2));
+
+    db.logNodeCreated(variable(a, "a", DependencyGraphHistoryType.NODE_CREATED, "1"));
+    db.logNodeCreated(variable(b, "b", DependencyGraphHistoryType.NODE_CREATED, "0"));
+    db.logNodeAttached(variable(b, "b", DependencyGraphHistoryType.NODE_ATTACHED, "0"), a);
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "2"));
+    db.logNodeValueSet(variable(b, "b", DependencyGraphHistoryType.NODE_VALUE_SET, "5"));
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    db.close();
+  }
+
+  public void testReVarsWithDependencies() throws Exception {
+    assertEquals(5, db.getLastPointInTime());
+
+    assertEquals("{a=1[]}", describe(db.getReVarsWithDependencies(1)));
+    assertEquals("{a=1[], b=0[]}", describe(db.getReVarsWithDependencies(2)));
+    assertEquals("{a=1[], b=0[a]}", describe(db.getReVarsWithDependencies(3)));
+    assertEquals("{a=2[], b=0[a]}", describe(db.getReVarsWithDependencies(4)));
+    assertEquals("{a=2[], b=5[a]}", describe(db.getReVarsWithDependencies(5)));
+  }
+
+  public void testReadsAreLimitedToCommittedPointsInTime() throws Exception {
+    assertEquals(describe(db.getReVarsWithDependencies(5)), describe(db.getReVarsWithDependencies(100)));
+  }
+
+  public void testVariableHistoryAgreesWithPointReads() throws Exception {
+    for (int from = 0; from <= 5; from++) {
+      final VariableHistory history = db.getVariableHistory(from, 5);
+
+      for (int pointInTime = from; pointInTime <= 5; pointInTime++) {
+        assertEquals("from " + from + " at " + pointInTime, describe(db.getReVarsWithDependencies(pointInTime)), describe(history.getReVars(pointInTime)));
+      }
+    }
+  }
+
+  public void testVariableHistoryChanges() throws Exception {
+    final VariableHistory history = db.getVariableHistory(2, 5);
+
+    assertEquals("{a=1[], b=0[]}", describe(history.getInitialVariables()));
+    assertEquals(3, history.getChanges().size());
+    assertEquals(3, history.getChanges().get(0).getPointInTime());
+    assertEquals(5, history.getChanges().get(2).getPointInTime());
+  }
+
+  public void testValueHistory() throws Exception {
+    final ValueHistory history = db.getValueHistory(a);
+
+    assertEquals("1", history.getValueAt(1));
+    assertEquals("1", history.getValueAt(3));
+    assertEquals("2", history.getValueAt(4));
+    assertEquals("2", history.getValueAt(5));
+  }
+
+  public void testDependencyGraphAgreesWithVariables() throws Exception {
+    for (int pointInTime = 1; pointInTime <= 5; pointInTime++) {
+      final DependencyGraph graph = db.getDependencyGraph(pointInTime);
+      final Map<String, String> values = new TreeMap<>();
+
+      for (final DependencyGraph.Vertex vertex : graph.getVertices()) {
+        values.put(vertex.getVariable().getName(), vertex.getVariable().getValueString());
+      }
+
+      final Map<String, String> expected = new TreeMap<>();
+
+      for (final ReactiveVariable variable : db.getReVarsWithDependencies(pointInTime)) {
+        expected.put(variable.getName(), variable.getValueString());
+      }
+
+      assertEquals("at " + pointInTime, expected, values);
+    }
+  }
+
+  public void testCompactionKeepsLaterPointsInTime() throws Exception {
+    // with a checkpoint every second point in time, the cutoff lies between two checkpoints
+    for (int value = 3; value <= 8; value++) {
+      db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, Integer.toString(value)));
+      db.logNodeValueSet(variable(b, "b", DependencyGraphHistoryType.NODE_VALUE_SET, Integer.toString(value * 10)));
+    }
+
+    final int cutoff = 7;
+    final int last = db.getLastPointInTime();
+    final List<String> variablesBefore = new ArrayList<>();
+    final List<String> graphsBefore = new ArrayList<>();
+
+    for (int pointInTime = cutoff; pointInTime <= last; pointInTime++) {
+      variablesBefore.add(describe(db.getReVarsWithDependencies(pointInTime)));
+      graphsBefore.add(describe(db.getDependencyGraph(pointInTime)));
+    }
+
+    db.compactHistory(cutoff);
+
+    assertEquals(cutoff, db.getFirstPointInTime());
+
+    for (int pointInTime = cutoff; pointInTime <= last; pointInTime++) {
+      assertEquals("at " + pointInTime, variablesBefore.get(pointInTime - cutoff), describe(db.getReVarsWithDependencies(pointInTime)));
+      assertEquals("at " + pointInTime, graphsBefore.get(pointInTime - cutoff), describe(db.getDependencyGraph(pointInTime)));
+    }
+
+    // the graphs of the removed points in time are the baseline
+    assertEquals(graphsBefore.get(0), describe(db.getDependencyGraph(1)));
+  }
+
+  public void testRollbackForgetsCreatedValue() throws Exception {
+    // an event without a type fails after its value has been stored
+    try {
+      db.logNodeEvaluationEnded(variable(a, "a", null, "rolled back"));
+      fail();
+    }
+    catch (final NullPointerException e) {
+      // expected
+    }
+
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "3"));
+
+    final ValueDictionary dictionary = db.getValueDictionary();
+    assertNull(dictionary.findValue("rolled back"));
+    assertEquals("3", dictionary.loadValueString(dictionary.findValue("3")));
+
+    final List<ReactiveVariable> variables = db.getReVarsWithDependencies(db.getLastPointInTime());
+    assertEquals(2, variables.size());
+    assertEquals("{a=3[], b=5[a]}", describe(variables));
+  }
+
+  public void testRollbackForgetsCreatedStackTrace() throws Exception {
+    final StackTraceElement[] stackTrace = { new StackTraceElement("Cls", "method", "Cls.scala", 12) };
+
+    // an event without a type fails after its exception has been stored
+    try {
+      db.logNodeEvaluationEndedWithException(variable(a, "a", null, "x"), new ExceptionRecord("E", "first", 7, stackTrace));
+      fail();
+    }
+    catch (final NullPointerException e) {
+      // expected
+    }
+
+    try {
+      db.logNodeEvaluationEndedWithException(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, "x"), new ExceptionRecord("E", "second", 7, null));
+      fail();
+    }
+    catch (final PersistenceException e) {
+      // the stack trace has been rolled back
+    }
+
+    db.logNodeEvaluationEndedWithException(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, "x"), new ExceptionRecord("E", "third", 7, stackTrace));
+
+    final ExceptionRecord record = db.getExceptionRecord(a, db.getLastPointInTime());
+    assertEquals("third", record.getMessage());
+    assertEquals(Arrays.asList(stackTrace), Arrays.asList(record.getStackTrace()));
+  }
+
+  /**
+   * @return the names of the variables of the graph with their values and the
+   *         names of the variables they are connected with, sorted by name
+   */
+  private static String describe(final DependencyGraph graph) {
+    final Map<String, String> descriptions = new TreeMap<>();
+
+    for (final DependencyGraph.Vertex vertex : graph.getVertices()) {
+      final List<String> connected = new ArrayList<>();
+
+      for (final DependencyGraph.Vertex other : graph.getConnectedVertices(vertex)) {
+        connected.add(other.getVariable().getName());
+      }
+
+      Collections.sort(connected);
+      descriptions.put(vertex.getVariable().getName(), vertex.getVariable().getValueString() + connected);
+    }
+
+    return descriptions.toString();
+  }
+
+  private static ReactiveVariable variable(final UUID id, final String name, final DependencyGraphHistoryType type, final String value) {
+    return new ReactiveVariable(id, ReactiveVariableType.VAR, 0, type, null, "Int", "scala.Int", name, value);
+  }
+
+  /**
+   * @return the names of the variables with their values and the names of the
+   *         variables they are connected with, sorted by name
+   */
+  private String describe(final List<ReactiveVariable> variables) {
+    final Map<UUID, String> names = new TreeMap<>();
+    names.put(a, "a");
+    names.put(b, "b");
+
+    final Map<String, String> descriptions = new TreeMap<>();
+
+    for (final ReactiveVariable variable : variables) {
+      final List<String> connected = new ArrayList<>();
+
+      for (final UUID id : variable.getConnectedWith()) {
+        connected.add(names.get(id));
+      }
+
+      Collections.sort(connected);
+      descriptions.put(variable.getName(), variable.getValueString() + connected);
+    }
+
+    return descriptions.toString();
+  }
+}
@@ -0,0 +1,111 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+import de.tuda.stg.reclipse.logger.ReactiveVariableType;
+
+public class DependencyGraphTestCase extends TestCase {
+
+  private DependencyGraph graph;
+
+  @Override
+  protected void setUp() throws Exception {
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    connections.put(1, ids(2, 3));
+    connections.put(2, ids(3));
+
+    graph = new DependencyGraph(Arrays.asList(vertex(1, "a"), vertex(2, "b"), vertex(3, "c")), connections, 10);
+  }
+
+  public void testApplyDelta() {
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    connections.put(2, ids(4));
+    connections.put(4, ids());
+    final List<Vertex> updated = Arrays.asList(vertex(2, "b2"), vertex(4, "d"));
+    final DependencyGraph next = graph.applyDelta(new DependencyGraphDelta(10, 12, updated, connections, ids(3)));
+
+    assertEquals(12, next.getPointInTime());
+    assertEquals(3, next.getVertices().size());
+    assertEquals("b2", next.getVertex(2).getVariable().getValueString());
+    assertEquals("d", next.getVertex(4).getVariable().getValueString());
+    assertNull(next.getVertex(3));
+    assertEquals(ids(4), next.getConnectedIds(2));
+    assertTrue(next.getConnectedIds(3).isEmpty());
+
+    // unchanged vertices are shared and the original graph stays as it was
+    assertSame(graph.getVertex(1), next.getVertex(1));
+    assertEquals("b", graph.getVertex(2).getVariable().getValueString());
+    assertEquals(ids(3), graph.getConnectedIds(2));
+  }
+
+  public void testApplyDeltaOfOtherPointInTime() {
+    try {
+      graph.applyDelta(new DependencyGraphDelta(11, 12, Collections.<Vertex> emptyList(), Collections.<Integer, Set<Integer>> emptyMap(), ids()));
+      fail();
+    }
+    catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testDiffOfSameGraphIsEmpty() {
+    assertTrue(graph.diff(graph).isEmpty());
+  }
+
+  public void testDiffRoundTrip() {
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    connections.put(1, ids(2));
+    connections.put(5, ids(1));
+    final List<Vertex> updated = Arrays.asList(vertex(1, "a"), vertex(5, "e"));
+    final DependencyGraph next = graph.applyDelta(new DependencyGraphDelta(10, 15, updated, connections, ids(3)));
+
+    final DependencyGraphDelta forward = graph.diff(next);
+    assertEquals(ids(3), forward.getRemovedVertices());
+    assertSameGraph(next, graph.applyDelta(forward));
+
+    final DependencyGraphDelta backward = next.diff(graph);
+    assertEquals(ids(5), backward.getRemovedVertices());
+    assertSameGraph(graph, next.applyDelta(backward));
+  }
+
+  public void testDiffIgnoresReloadedVertexWithSameState() {
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    connections.put(2, ids(3));
+    final DependencyGraph reloaded = graph.applyDelta(new DependencyGraphDelta(10, 11, Arrays.asList(vertex(2, "b")), connections, ids()));
+
+    assertTrue(graph.diff(reloaded).isEmpty());
+  }
+
+  private static void assertSameGraph(final DependencyGraph expected, final DependencyGraph actual) {
+    assertEquals(expected.getPointInTime(), actual.getPointInTime());
+    assertEquals(expected.getVertices().size(), actual.getVertices().size());
+
+    for (final Vertex vertex : expected.getVertices()) {
+      final Vertex actualVertex = actual.getVertex(vertex.getId());
+      assertNotNull(actualVertex);
+      assertEquals(vertex.getVariable().getValueString(), actualVertex.getVariable().getValueString());
+      assertEquals(expected.getConnectedIds(vertex.getId()), actual.getConnectedIds(vertex.getId()));
+    }
+  }
+
+  private static Vertex vertex(final int id, final String value) {
+    final ReactiveVariable variable = new ReactiveVariable(UUID.randomUUID(), ReactiveVariableType.SIGNAL, 0, DependencyGraphHistoryType.NODE_CREATED, null, "Int", "Int", "v" + id, value);
+    return new Vertex(id, 0, variable);
+  }
+
+  private static Set<Integer> ids(final Integer... ids) {
+    return new HashSet<>(Arrays.asList(ids));
+  }
+}
@@ -0,0 +1,208 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.AggregationResult.Row;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Queries;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+import de.tuda.stg.reclipse.logger.ReactiveVariableType;
+
+/**
+ * Checks the matches and aggregations of the queries on the session of
+ * {@link DatabaseHelperTestCase}: a is created at 1, b at 2, b is attached to a
+ * at 3, a is evaluated to 2 at 4 and b is set to 5 at 5.
+ */
+public class HistoryQueryEngineTestCase extends TestCase {
+
+  private final UUID a = UUID.randomUUID();
+  private final UUID b = UUID.randomUUID();
+
+  private DatabaseHelper db;
+  private HistoryQueryEngine engine;
+
+  @Override
+  protected void setUp() throws Exception {
+    db = new DatabaseHelper(UUID.randomUUID().toString(), new TestSessionConfiguration(1024, 2));
+
+    db.logNodeCreated(variable(a, "a", DependencyGraphHistoryType.NODE_CREATED, "1"));
+    db.logNodeCreated(variable(b, "b", DependencyGraphHistoryType.NODE_CREATED, "0"));
+    db.logNodeAttached(variable(b, "b", DependencyGraphHistoryType.NODE_ATTACHED, "0"), a);
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "2"));
+    db.logNodeValueSet(variable(b, "b", DependencyGraphHistoryType.NODE_VALUE_SET, "5"));
+
+    engine = new HistoryQueryEngine(db, new Executor() {
+
+      @Override
+      public void execute(final Runnable command) {
+        command.run();
+      }
+    });
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    db.close();
+  }
+
+  public void testPrimitives() {
+    assertEquals(Arrays.asList(1, 2), query("nodeCreated()"));
+    assertEquals(Arrays.asList(2), query("nodeCreated(b)"));
+    assertEquals(Arrays.asList(4), query("nodeEvaluated(a)"));
+    assertEquals(Arrays.asList(), query("nodeEvaluated(b)"));
+    assertEquals(Arrays.asList(5), query("nodeValueSet()"));
+    assertEquals(Arrays.asList(3), query("dependencyCreated(b, a)"));
+    assertEquals(Arrays.asList(), query("dependencyCreated(a, b)"));
+  }
+
+  public void testEvaluationYielded() {
+    assertEquals(Arrays.asList(4), query("evaluationYielded(a, \"2\")"));
+    assertEquals(Arrays.asList(), query("evaluationYielded(a, \"1\")"));
+    assertEquals(Arrays.asList(), query("evaluationYielded(a, \"never stored\")"));
+    assertEquals(Arrays.asList(4), query("evaluationYielded(a, [2, 3])"));
+    assertEquals(Arrays.asList(), query("evaluationYielded(a, < 2)"));
+  }
+
+  public void testEscapedValues() throws Exception {
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "say \"hi\""));
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "C:\\dir"));
+
+    assertEquals(Arrays.asList(6), query("evaluationYielded(a, \"say \\\"hi\\\"\")"));
+    assertEquals(Arrays.asList(7), query("evaluationYielded(a, \"C:\\\\dir\")"));
+
+    // a single backslash has to be escaped
+    assertNull(Queries.parse("evaluationYielded(a, \"C:\\dir\")"));
+  }
+
+  public void testBooleanOperators() {
+    assertEquals(Arrays.asList(2, 5), query("nodeCreated(b) or nodeValueSet(b)"));
+    assertEquals(Arrays.asList(), query("nodeCreated(b) and nodeValueSet(b)"));
+    assertEquals(Arrays.asList(1), query("nodeCreated() and not nodeCreated(b)"));
+    assertEquals(Arrays.asList(3, 4, 5), query("not nodeCreated()"));
+    assertEquals(Arrays.asList(3, 4), query("not (nodeCreated() or nodeValueSet())"));
+  }
+
+  public void testSequence() {
+    assertEquals(Arrays.asList(5), query("nodeCreated(a) then nodeValueSet(b) within 4"));
+    assertEquals(Arrays.asList(), query("nodeCreated(a) then nodeValueSet(b) within 3"));
+    assertEquals(Arrays.asList(4), query("nodeCreated(b) then nodeEvaluated(a)"));
+  }
+
+  public void testStandingQueryIsUpdated() throws Exception {
+    final CountDownLatch changed = new CountDownLatch(1);
+    final StandingQuery standingQuery = engine.register(Queries.parse("nodeValueSet(b) or nodeCreated(b)"), new IStandingQueryListener() {
+
+      @Override
+      public void onMatchesChanged(final StandingQuery query) {
+        changed.countDown();
+      }
+    });
+
+    assertEquals(Arrays.asList(2, 5), standingQuery.getMatches());
+
+    db.logNodeEvaluationEnded(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED, "3"));
+    db.logNodeValueSet(variable(b, "b", DependencyGraphHistoryType.NODE_VALUE_SET, "6"));
+
+    assertTrue(changed.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList(2, 5, 7), standingQuery.getMatches());
+
+    standingQuery.close();
+  }
+
+  public void testCount() {
+    assertEquals("[null=5]", aggregate("count()"));
+    assertEquals("[null=2]", aggregate("count(nodeCreated())"));
+    assertEquals("[null=0]", aggregate("count(nodeCreated(c))"));
+    assertEquals("[b=3, a=2]", aggregate("count() groupBy node"));
+    assertEquals("[b=1]", aggregate("count(nodeCreated(b)) groupBy node"));
+    assertEquals("[NODE_CREATED=2]", aggregate("count(nodeCreated()) groupBy type"));
+  }
+
+  public void testCountByType() {
+    final List<Row> rows = engine.executeAggregation(Aggregation.create(Queries.parse("count() groupBy type"))).getRows();
+
+    assertEquals(4, rows.size());
+    assertEquals(DependencyGraphHistoryType.NODE_CREATED.name(), rows.get(0).getGroup());
+    assertEquals(2, rows.get(0).getCount());
+
+    for (final Row row : rows.subList(1, rows.size())) {
+      assertEquals(1, row.getCount());
+    }
+  }
+
+  public void testTopK() {
+    assertEquals("[b=3]", aggregate("topK(1) groupBy node"));
+    assertEquals("[b=2, a=1]", aggregate("topK(5, nodeCreated() or nodeValueSet()) groupBy node"));
+    assertEquals("[NODE_CREATED=2]", aggregate("topK(1) groupBy type"));
+  }
+
+  public void testRate() {
+    // the history has one turn, which is started by the value set of b
+    assertEquals(Arrays.asList(2.0), rates("rate(nodeCreated(), turn)"));
+    assertEquals(Arrays.asList(3.0, 2.0), rates("rate(turn) groupBy node"));
+
+    // five events are one unit of five and half a unit of ten points in time
+    assertEquals(Arrays.asList(2.0), rates("rate(nodeCreated(), 5)"));
+    assertEquals(Arrays.asList(4.0), rates("rate(nodeCreated(), 10)"));
+    assertEquals(Arrays.asList(2.0), rates("rate(nodeCreated(), 5) groupBy type"));
+  }
+
+  public void testGroupByClass() throws Exception {
+    final StackTraceElement[] stackTrace = { new StackTraceElement("Cls", "method", "Cls.scala", 12) };
+
+    db.logNodeEvaluationEndedWithException(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, "2"), new ExceptionRecord("x.E", "first", 1, stackTrace));
+    db.logNodeEvaluationEndedWithException(variable(b, "b", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, "5"), new ExceptionRecord("x.F", "second", 1, null));
+    db.logNodeEvaluationEndedWithException(variable(a, "a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, "2"), new ExceptionRecord("x.E", "third", 1, null));
+
+    assertEquals(Arrays.asList(6, 7, 8), query("evaluationException()"));
+    assertEquals(Arrays.asList(6, 8), query("evaluationException(\"x.E\")"));
+    assertEquals(Arrays.asList(7), query("evaluationException(b, \"x.F\")"));
+    assertEquals(Arrays.asList(7), query("evaluationException(b, \"x\\u002eF\")"));
+    assertEquals(Arrays.asList(4, 6, 8), query("nodeEvaluated(a)"));
+
+    assertEquals("[x.E=2, x.F=1]", aggregate("count() groupBy class"));
+    assertEquals("[x.F=1]", aggregate("count(evaluationException(b)) groupBy class"));
+    assertEquals("[x.E=2]", aggregate("topK(1) groupBy class"));
+  }
+
+  private List<Integer> query(final String queryText) {
+    return engine.executeQuery(Queries.parse(queryText));
+  }
+
+  /**
+   * @return the groups of the rows with their counts in the order of the rows
+   */
+  private String aggregate(final String queryText) {
+    final List<String> rows = new ArrayList<>();
+
+    for (final Row row : engine.executeAggregation(Aggregation.create(Queries.parse(queryText))).getRows()) {
+      rows.add(row.getGroup() + "=" + row.getCount());
+    }
+
+    return rows.toString();
+  }
+
+  private List<Double> rates(final String queryText) {
+    final List<Double> rates = new ArrayList<>();
+
+    for (final Row row : engine.executeAggregation(Aggregation.create(Queries.parse(queryText))).getRows()) {
+      rates.add(row.getRate());
+    }
+
+    return rates;
+  }
+
+  private static ReactiveVariable variable(final UUID id, final String name, final DependencyGraphHistoryType type, final String value) {
+    return new ReactiveVariable(id, ReactiveVariableType.VAR, 0, type, null, "Int", "scala.Int", name, value);
+  }
+}
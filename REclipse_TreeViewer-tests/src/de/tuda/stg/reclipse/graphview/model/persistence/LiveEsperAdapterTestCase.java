@@ -0,0 +1,110 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.LiveEsperAdapter.StepSubscriber;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Queries;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+import de.tuda.stg.reclipse.logger.ReactiveVariableType;
+
+public class LiveEsperAdapterTestCase extends TestCase {
+
+  private LiveEsperAdapter adapter;
+
+  @Override
+  protected void setUp() throws Exception {
+    adapter = new LiveEsperAdapter(UUID.randomUUID().toString());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    adapter.close();
+  }
+
+  public void testSimpleQuery() {
+    adapter.addQuery(Queries.parse("nodeCreated(a)"));
+
+    assertFalse(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 1)));
+    assertTrue(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_CREATED, 2)));
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_VALUE_SET, 3)));
+  }
+
+  public void testExceptionClassWithQuote() {
+    adapter.addQuery(Queries.parse("evaluationException(a, \"Foo'Bar\")"));
+
+    final ReactiveVariable other = event("a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, 1);
+    other.setAdditionalKeyValue(LiveEsperAdapter.EXCEPTION_CLASS_KEY, "x.Foo");
+    assertFalse(adapter.sendEvent(other));
+
+    final ReactiveVariable matching = event("a", DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION, 2);
+    matching.setAdditionalKeyValue(LiveEsperAdapter.EXCEPTION_CLASS_KEY, "x.Foo'Bar");
+    assertTrue(adapter.sendEvent(matching));
+  }
+
+  public void testSequenceInWindow() {
+    adapter.addQuery(Queries.parse("nodeCreated(a) then nodeCreated(b) within 3"));
+
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_CREATED, 1)));
+    assertFalse(adapter.sendEvent(event("c", DependencyGraphHistoryType.NODE_CREATED, 2)));
+    assertTrue(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 4)));
+  }
+
+  public void testSequenceOutOfWindow() {
+    adapter.addQuery(Queries.parse("nodeCreated(a) then nodeCreated(b) within 3"));
+
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_CREATED, 1)));
+    assertFalse(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 5)));
+  }
+
+  public void testSequenceInTurn() {
+    adapter.addQuery(Queries.parse("nodeValueSet(a) then nodeCreated(b) within turn"));
+
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_VALUE_SET, 1)));
+    assertTrue(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 2)));
+
+    // the value set of c starts another turn
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_VALUE_SET, 3)));
+    assertFalse(adapter.sendEvent(event("c", DependencyGraphHistoryType.NODE_VALUE_SET, 4)));
+    assertFalse(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 5)));
+  }
+
+  public void testRemoveSequence() {
+    final String queryText = "nodeCreated(a) then nodeCreated(b)";
+    adapter.addQuery(Queries.parse(queryText));
+
+    assertFalse(adapter.sendEvent(event("a", DependencyGraphHistoryType.NODE_CREATED, 1)));
+    adapter.removeQuery(queryText);
+    assertFalse(adapter.sendEvent(event("b", DependencyGraphHistoryType.NODE_CREATED, 2)));
+  }
+
+  public void testAggregationIsRejected() {
+    assertFalse(LiveEsperAdapter.isSupported(Queries.parse("count(nodeCreated(a)) groupBy node")));
+    assertTrue(LiveEsperAdapter.isSupported(Queries.parse("nodeCreated(a)")));
+
+    try {
+      adapter.addQuery(Queries.parse("rate(nodeCreated(a), turn)"));
+      fail();
+    }
+    catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testStepSubscriber() {
+    final boolean[] matchedSteps = new boolean[3];
+
+    new StepSubscriber(matchedSteps, 1).update(7);
+
+    assertTrue(Arrays.equals(new boolean[] { false, true, false }, matchedSteps));
+  }
+
+  private static ReactiveVariable event(final String name, final DependencyGraphHistoryType type, final int pointInTime) {
+    final ReactiveVariable variable = new ReactiveVariable(UUID.randomUUID(), ReactiveVariableType.VAR, pointInTime, type, null, "Int", "scala.Int", name, "0");
+    variable.setPointInTime(pointInTime);
+    return variable;
+  }
+}
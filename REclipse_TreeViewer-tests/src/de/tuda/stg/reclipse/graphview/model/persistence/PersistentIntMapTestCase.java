@@ -0,0 +1,133 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class PersistentIntMapTestCase extends TestCase {
+
+  public void testPutGetRemove() {
+    final PersistentIntMap<String> empty = PersistentIntMap.empty();
+    final PersistentIntMap<String> one = empty.put(5, "a");
+    final PersistentIntMap<String> two = one.put(70000, "b");
+    final PersistentIntMap<String> replaced = two.put(5, "c");
+    final PersistentIntMap<String> removed = replaced.remove(70000);
+
+    assertTrue(empty.isEmpty());
+    assertNull(empty.get(5));
+
+    assertEquals(1, one.size());
+    assertEquals("a", one.get(5));
+    assertNull(one.get(70000));
+
+    assertEquals(2, two.size());
+    assertEquals("a", two.get(5));
+    assertEquals("b", two.get(70000));
+
+    assertEquals(2, replaced.size());
+    assertEquals("c", replaced.get(5));
+    assertEquals("a", two.get(5));
+
+    assertEquals(1, removed.size());
+    assertEquals("c", removed.get(5));
+    assertFalse(removed.containsKey(70000));
+    assertTrue(replaced.containsKey(70000));
+  }
+
+  public void testExtremeKeys() {
+    final PersistentIntMap<String> map = PersistentIntMap.<String> empty().put(0, "zero").put(Integer.MAX_VALUE, "max");
+
+    assertEquals("zero", map.get(0));
+    assertEquals("max", map.get(Integer.MAX_VALUE));
+    assertNull(map.get(-1));
+    assertNull(map.get(Integer.MAX_VALUE - 1));
+
+    try {
+      map.put(-1, "negative");
+      fail();
+    }
+    catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testUnchangedMapIsShared() {
+    final PersistentIntMap<String> map = PersistentIntMap.<String> empty().put(1, "a");
+
+    assertSame(map, map.put(1, map.get(1)));
+    assertSame(map, map.remove(2));
+  }
+
+  public void testRemoveCollapsesEmptyNodes() {
+    final PersistentIntMap<String> base = PersistentIntMap.<String> empty().put(1, "a");
+    final PersistentIntMap<String> grown = base.put(40000, "b").remove(40000);
+    final Set<Integer> keys = new HashSet<>();
+
+    // the emptied subtree of the removed key is pruned, so both maps only differ in their depth
+    grown.collectDifferentKeys(base, keys);
+    assertTrue(keys.isEmpty());
+
+    assertSame(PersistentIntMap.empty(), base.remove(1));
+    assertEquals(Arrays.asList("a"), new ArrayList<>(grown.values()));
+  }
+
+  public void testCollectDifferentKeysAcrossDepths() {
+    final PersistentIntMap<String> shallow = PersistentIntMap.<String> empty().put(3, "a").put(10, "b");
+    final PersistentIntMap<String> deep = shallow.put(5000000, "c").put(10, "d").remove(3);
+    final Set<Integer> keys = new HashSet<>();
+
+    shallow.collectDifferentKeys(deep, keys);
+    assertEquals(new HashSet<>(Arrays.asList(3, 10, 5000000)), keys);
+
+    keys.clear();
+    deep.collectDifferentKeys(shallow, keys);
+    assertEquals(new HashSet<>(Arrays.asList(3, 10, 5000000)), keys);
+
+    keys.clear();
+    deep.collectDifferentKeys(PersistentIntMap.<String> empty(), keys);
+    assertEquals(new HashSet<>(Arrays.asList(10, 5000000)), keys);
+  }
+
+  public void testAgreesWithHashMap() {
+    final Random random = new Random(42);
+    final Map<Integer, Integer> expected = new HashMap<>();
+    PersistentIntMap<Integer> map = PersistentIntMap.empty();
+
+    for (int i = 0; i < 10000; i++) {
+      final int key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 997);
+
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        map = map.remove(key);
+      }
+      else {
+        expected.put(key, i);
+        map = map.put(key, i);
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+
+    for (final Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), map.get(entry.getKey()));
+    }
+
+    final List<Integer> sortedKeys = new ArrayList<>(expected.keySet());
+    Collections.sort(sortedKeys);
+    final List<Integer> sortedValues = new ArrayList<>();
+
+    for (final int key : sortedKeys) {
+      sortedValues.add(expected.get(key));
+    }
+
+    assertEquals(sortedValues, new ArrayList<>(map.values()));
+  }
+}
@@ -0,0 +1,61 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import de.tuda.stg.reclipse.graphview.model.ISessionConfiguration;
+
+/**
+ * Configuration of the sessions of the tests, which stores the databases in
+ * the temporary directory and never removes points in time.
+ */
+public class TestSessionConfiguration implements ISessionConfiguration {
+
+  private final int valueSpillThreshold;
+  private final int checkpointInterval;
+
+  public TestSessionConfiguration(final int valueSpillThreshold, final int checkpointInterval) {
+    this.valueSpillThreshold = valueSpillThreshold;
+    this.checkpointInterval = checkpointInterval;
+  }
+
+  @Override
+  public IPath getDatabaseFilesDir() {
+    return new Path(System.getProperty("java.io.tmpdir"));
+  }
+
+  @Override
+  public boolean isEventLogging() {
+    return false;
+  }
+
+  @Override
+  public boolean isSuspendOnSessionStart() {
+    return false;
+  }
+
+  @Override
+  public int getValueSpillThreshold() {
+    return valueSpillThreshold;
+  }
+
+  @Override
+  public int getRetainedPointsInTime() {
+    return 0;
+  }
+
+  @Override
+  public int getHistorySizeBudget() {
+    return 0;
+  }
+
+  @Override
+  public int getCheckpointInterval() {
+    return checkpointInterval;
+  }
+
+  @Override
+  public int getVersionedPointsInTime() {
+    return 50000;
+  }
+}
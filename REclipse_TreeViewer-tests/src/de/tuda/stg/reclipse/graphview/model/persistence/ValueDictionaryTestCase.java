@@ -0,0 +1,102 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary.ParsedValues;
+
+public class ValueDictionaryTestCase extends TestCase {
+
+  private DatabaseHelper db;
+  private ValueDictionary dictionary;
+
+  @Override
+  protected void setUp() throws Exception {
+    // values longer than three characters are abbreviated
+    db = new DatabaseHelper(UUID.randomUUID().toString(), new TestSessionConfiguration(3, 100));
+    dictionary = db.getValueDictionary();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    db.close();
+  }
+
+  public void testParseNumber() {
+    assertEquals(1.0, ValueDictionary.parseNumber("1"));
+    assertEquals(-2.5, ValueDictionary.parseNumber("-2.5"));
+    assertEquals(0.0, ValueDictionary.parseNumber("0.0"));
+    assertEquals(12345678901234567890.0, ValueDictionary.parseNumber("12345678901234567890"));
+
+    for (final String valueString : new String[] { "", "-", "1.", ".5", "-.5", "1e3", "1.2.3", "--1", " 1", "0x1", "NaN", "Infinity", "abc" }) {
+      assertTrue(valueString, Double.isNaN(ValueDictionary.parseNumber(valueString)));
+    }
+  }
+
+  public void testParseBoolean() {
+    assertEquals(ParsedValues.TRUE, ValueDictionary.parseBoolean("true"));
+    assertEquals(ParsedValues.FALSE, ValueDictionary.parseBoolean("false"));
+
+    for (final String valueString : new String[] { "", "True", "FALSE", "1", "yes", "true " }) {
+      assertEquals(valueString, ParsedValues.NO_BOOLEAN, ValueDictionary.parseBoolean(valueString));
+    }
+  }
+
+  public void testParsedValuesOfBulkLoad() throws Exception {
+    final int number = dictionary.findOrCreateValue("7");
+    final int text = dictionary.findOrCreateValue("a");
+    final ParsedValues values = dictionary.getParsedValues(text);
+
+    assertEquals(7.0, values.getNumber(number));
+    assertTrue(Double.isNaN(values.getNumber(text)));
+    assertFalse(values.isBoolean(text, true));
+    assertFalse(values.isBoolean(text, false));
+  }
+
+  public void testValuesStoredAfterBulkLoadAreParsed() throws Exception {
+    dictionary.getParsedValues(0);
+
+    final int number = dictionary.findOrCreateValue("-3");
+    final int bool = dictionary.findOrCreateValue("no");
+    final ParsedValues values = dictionary.getParsedValues(bool);
+
+    assertTrue(number < values.size());
+    assertEquals(-3.0, values.getNumber(number));
+    assertTrue(Double.isNaN(values.getNumber(bool)));
+  }
+
+  public void testMissingIdIsNotParsedAgain() throws Exception {
+    final int idValue = dictionary.findOrCreateValue("1");
+    final ParsedValues values = dictionary.getParsedValues(idValue);
+
+    assertSame(values, dictionary.getParsedValues(idValue + 100));
+    assertTrue(Double.isNaN(values.getNumber(idValue + 100)));
+  }
+
+  public void testAbbreviatedValuesAreParsedInFull() throws Exception {
+    final int bulkNumber = dictionary.findOrCreateValue("12345");
+    final int bulkBoolean = dictionary.findOrCreateValue("true");
+    ParsedValues values = dictionary.getParsedValues(bulkBoolean);
+
+    assertEquals(12345.0, values.getNumber(bulkNumber));
+    assertTrue(values.isBoolean(bulkBoolean, true));
+
+    final int addedNumber = dictionary.findOrCreateValue("-678.5");
+    final int addedBoolean = dictionary.findOrCreateValue("false");
+    values = dictionary.getParsedValues(addedBoolean);
+
+    assertEquals(-678.5, values.getNumber(addedNumber));
+    assertTrue(values.isBoolean(addedBoolean, false));
+  }
+
+  public void testClearCacheLoadsValuesAgain() throws Exception {
+    final int idValue = dictionary.findOrCreateValue("42");
+    dictionary.getParsedValues(idValue);
+
+    dictionary.clearCache();
+
+    assertEquals(0, dictionary.getParsedValues(-1).size());
+    assertEquals(42.0, dictionary.getParsedValues(idValue).getNumber(idValue));
+  }
+}
@@ -0,0 +1,137 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.AndExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.DependencyCreatedContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationExceptionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationYieldedValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionQueryContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NotExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.OrExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.PrimitiveExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceQueryContext;
+
+public class QueriesTestCase extends TestCase {
+
+  private static final String[] KEYWORDS = { "not", "and", "or", "then", "within", "turn", "groupBy", "node", "type", "class", "true", "false" };
+
+  private final List<String> errors = new ArrayList<>();
+
+  private final BaseErrorListener errorListener = new BaseErrorListener() {
+
+    @Override
+    public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line, final int charPositionInLine, final String msg, final RecognitionException e) {
+      errors.add(msg);
+    }
+  };
+
+  public void testKeywordsAsNodeNames() {
+    for (final String keyword : KEYWORDS) {
+      assertEquals(keyword, nodeName(parseExpression("nodeCreated(" + keyword + ")")));
+      assertEquals(keyword, nodeName(parseExpression("nodeEvaluated(" + keyword + ")")));
+      assertEquals(keyword, nodeName(parseExpression("nodeValueSet(" + keyword + ")")));
+    }
+  }
+
+  public void testKeywordsAsNodeNamesWithArguments() {
+    final DependencyCreatedContext dependency = primitive(parseExpression("dependencyCreated(node, type)")).dependencyCreated();
+    assertEquals("node", dependency.identifier(0).getText());
+    assertEquals("type", dependency.identifier(1).getText());
+
+    final EvaluationYieldedValueContext yielded = primitive(parseExpression("evaluationYielded(true, false)")).evaluationYieldedValue();
+    assertEquals("true", yielded.identifier().getText());
+    assertEquals("false", yielded.valueCondition().getText());
+
+    final EvaluationExceptionContext exception = primitive(parseExpression("evaluationException(class, \"Foo\")")).evaluationException();
+    assertEquals("class", exception.identifier().getText());
+    assertEquals("\"Foo\"", exception.VALUE().getText());
+  }
+
+  public void testKeywordsAsNodeNamesInSequence() {
+    final ReclipseQuery query = Queries.parse("nodeCreated(then) then nodeCreated(within) within 3", errorListener);
+
+    assertEquals(errors.toString(), 0, errors.size());
+
+    final SequenceContext sequence = ((SequenceQueryContext) query.getParseTree()).sequence();
+    assertEquals(2, sequence.expression().size());
+    assertEquals("then", primitive(sequence.expression(0)).nodeCreatedQuery().identifier().getText());
+    assertEquals("within", primitive(sequence.expression(1)).nodeCreatedQuery().identifier().getText());
+    assertEquals("within3", sequence.window().getText());
+  }
+
+  public void testNotBindsStrongerThanAnd() {
+    final ExpressionContext expression = parseExpression("not nodeCreated(a) and nodeCreated(b)");
+
+    assertTrue(expression instanceof AndExpressionContext);
+
+    final AndExpressionContext and = (AndExpressionContext) expression;
+    assertTrue(and.expression(0) instanceof NotExpressionContext);
+    assertEquals("a", nodeName(((NotExpressionContext) and.expression(0)).expression()));
+    assertEquals("b", nodeName(and.expression(1)));
+  }
+
+  public void testAndBindsStrongerThanOr() {
+    final ExpressionContext expression = parseExpression("nodeCreated(a) or nodeCreated(b) and nodeCreated(c)");
+
+    assertTrue(expression instanceof OrExpressionContext);
+
+    final OrExpressionContext or = (OrExpressionContext) expression;
+    assertEquals("a", nodeName(or.expression(0)));
+    assertTrue(or.expression(1) instanceof AndExpressionContext);
+  }
+
+  public void testNotWithKeywordNamedNode() {
+    final ExpressionContext expression = parseExpression("not nodeCreated(not) and nodeCreated(and)");
+
+    final AndExpressionContext and = (AndExpressionContext) expression;
+    assertEquals("not", nodeName(((NotExpressionContext) and.expression(0)).expression()));
+    assertEquals("and", nodeName(and.expression(1)));
+  }
+
+  public void testSyntaxError() {
+    Queries.parse("nodeCreated(a b)", errorListener);
+
+    assertFalse(errors.isEmpty());
+  }
+
+  private ExpressionContext parseExpression(final String queryText) {
+    final ReclipseQuery query = Queries.parse(queryText, errorListener);
+
+    assertEquals(queryText + " " + errors, 0, errors.size());
+    assertNotNull(query);
+
+    return ((ExpressionQueryContext) query.getParseTree()).expression();
+  }
+
+  private static ReclipseParser.PrimitiveContext primitive(final ExpressionContext expression) {
+    return ((PrimitiveExpressionContext) expression).primitive();
+  }
+
+  /**
+   * @return the node name of a primitive expression which has a single node
+   *         name
+   */
+  private static String nodeName(final ExpressionContext expression) {
+    final ReclipseParser.PrimitiveContext primitive = primitive(expression);
+
+    if (primitive.nodeCreatedQuery() != null) {
+      return primitive.nodeCreatedQuery().identifier().getText();
+    }
+    else if (primitive.nodeEvaluatedQuery() != null) {
+      return primitive.nodeEvaluatedQuery().identifier().getText();
+    }
+    else {
+      return primitive.nodeValueSet().identifier().getText();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import junit.framework.TestCase;
+
+public class SequenceMatcherTestCase extends TestCase {
+
+  private static final boolean[] FIRST = { true, false };
+  private static final boolean[] SECOND = { false, true };
+  private static final boolean[] BOTH = { true, true };
+  private static final boolean[] NONE = { false, false };
+
+  public void testInWindow() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, 5, false);
+
+    assertFalse(matcher.next(1, FIRST));
+    assertFalse(matcher.next(3, NONE));
+    assertTrue(matcher.next(6, SECOND));
+  }
+
+  public void testOutOfWindow() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, 5, false);
+
+    assertFalse(matcher.next(1, FIRST));
+    assertFalse(matcher.next(7, SECOND));
+  }
+
+  public void testWithoutWindow() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, SequenceMatcher.NO_WINDOW, false);
+
+    assertFalse(matcher.next(1, FIRST));
+    assertTrue(matcher.next(100000, SECOND));
+  }
+
+  public void testStepsHaveToBeInOrder() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, 5, false);
+
+    assertFalse(matcher.next(1, SECOND));
+    assertFalse(matcher.next(2, FIRST));
+    assertTrue(matcher.next(3, SECOND));
+  }
+
+  public void testEventIsNotUsedForTwoSteps() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, 5, false);
+
+    assertFalse(matcher.next(1, BOTH));
+    assertTrue(matcher.next(2, BOTH));
+  }
+
+  public void testOverlappingMatchesKeepLatestStart() {
+    final SequenceMatcher matcher = new SequenceMatcher(3, 10, false);
+
+    assertFalse(matcher.next(1, new boolean[] { true, false, false }));
+    assertFalse(matcher.next(5, new boolean[] { true, false, false }));
+    assertFalse(matcher.next(6, new boolean[] { false, true, false }));
+
+    // the match which started at 1 is out of the window, the one at 5 is not
+    assertTrue(matcher.next(14, new boolean[] { false, false, true }));
+    assertTrue(matcher.next(15, new boolean[] { false, false, true }));
+    assertFalse(matcher.next(16, new boolean[] { false, false, true }));
+  }
+
+  public void testOverlappingMatchesOutOfWindow() {
+    final SequenceMatcher matcher = new SequenceMatcher(3, 10, false);
+
+    assertFalse(matcher.next(1, new boolean[] { true, false, false }));
+    assertFalse(matcher.next(6, new boolean[] { false, true, false }));
+    assertFalse(matcher.next(7, new boolean[] { true, false, false }));
+
+    // the later start has not reached the second step
+    assertFalse(matcher.next(14, new boolean[] { false, false, true }));
+  }
+
+  public void testTurnWindow() {
+    final SequenceMatcher matcher = new SequenceMatcher(2, SequenceMatcher.NO_WINDOW, true);
+
+    matcher.startTurn(1);
+    assertFalse(matcher.next(2, FIRST));
+    matcher.startTurn(3);
+    assertFalse(matcher.next(4, SECOND));
+
+    assertFalse(matcher.next(5, FIRST));
+    assertTrue(matcher.next(6, SECOND));
+  }
+
+  public void testCreate() {
+    final SequenceMatcher matcher = SequenceMatcher.create(Queries.parse("nodeCreated(a) then nodeCreated(b) then nodeCreated(c) within 2"));
+
+    assertEquals(3, matcher.getStepCount());
+    assertFalse(matcher.next(1, new boolean[] { true, false, false }));
+    assertFalse(matcher.next(2, new boolean[] { false, true, false }));
+    assertTrue(matcher.next(3, new boolean[] { false, false, true }));
+
+    assertNull(SequenceMatcher.create(Queries.parse("nodeCreated(a)")));
+  }
+}
@@ -0,0 +1,124 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import java.util.UUID;
+
+import junit.framework.TestCase;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DatabaseHelper;
+import de.tuda.stg.reclipse.graphview.model.persistence.TestSessionConfiguration;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionQueryContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.PrimitiveExpressionContext;
+
+public class ValueConditionTestCase extends TestCase {
+
+  private DatabaseHelper db;
+  private ValueDictionary dictionary;
+
+  @Override
+  protected void setUp() throws Exception {
+    db = new DatabaseHelper(UUID.randomUUID().toString(), new TestSessionConfiguration(1024, 100));
+    dictionary = db.getValueDictionary();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    db.close();
+  }
+
+  public void testRange() throws Exception {
+    final ValueCondition condition = condition("[1, 3]");
+
+    assertEquals(ValueCondition.Operator.RANGE, condition.getOperator());
+    assertEquals(1.0, condition.getLower());
+    assertEquals(3.0, condition.getUpper());
+
+    assertTrue(matches(condition, "1"));
+    assertTrue(matches(condition, "2.5"));
+    assertTrue(matches(condition, "3"));
+    assertFalse(matches(condition, "0.99"));
+    assertFalse(matches(condition, "3.01"));
+    assertFalse(matches(condition, "two"));
+  }
+
+  public void testNegativeRange() throws Exception {
+    final ValueCondition condition = condition("[-2.5, -1]");
+
+    assertTrue(matches(condition, "-2.5"));
+    assertTrue(matches(condition, "-1"));
+    assertFalse(matches(condition, "1"));
+  }
+
+  public void testEmptyRange() throws Exception {
+    final ValueCondition condition = condition("[3, 1]");
+
+    assertFalse(matches(condition, "2"));
+  }
+
+  public void testComparisons() throws Exception {
+    assertTrue(matches(condition("< 2"), "1"));
+    assertFalse(matches(condition("< 2"), "2"));
+    assertTrue(matches(condition(">= -1.5"), "-1.5"));
+    assertTrue(matches(condition("== 2"), "2.0"));
+    assertTrue(matches(condition("!= 2"), "3"));
+
+    // values which are no numbers do not satisfy any comparison
+    assertFalse(matches(condition("!= 2"), "x"));
+  }
+
+  public void testBoolean() throws Exception {
+    assertTrue(matches(condition("true"), "true"));
+    assertFalse(matches(condition("true"), "false"));
+    assertFalse(matches(condition("true"), "True"));
+    assertTrue(matches(condition("false"), "false"));
+  }
+
+  public void testRegexMatchesWholeValue() {
+    final ValueCondition condition = condition("~ \"a.c\"");
+
+    assertEquals(ValueCondition.Operator.REGEX, condition.getOperator());
+    assertEquals("a.c", condition.getRegex());
+    assertFalse(condition.isInvalid());
+
+    assertTrue(condition.matches("abc"));
+    assertTrue(condition.matches("a-c"));
+    assertFalse(condition.matches("abcd"));
+    assertFalse(condition.matches("xabc"));
+    assertFalse(condition.matches((String) null));
+  }
+
+  public void testRegexWithEscapes() {
+    final ValueCondition condition = condition("~ \"\\\"\\\\d+\\\"\"");
+
+    assertEquals("\"\\d+\"", condition.getRegex());
+    assertTrue(condition.matches("\"42\""));
+    assertFalse(condition.matches("42"));
+  }
+
+  public void testUnescape() {
+    assertEquals("say \"hi\"", ValueCondition.unescape("say \\\"hi\\\""));
+    assertEquals("C:\\dir", ValueCondition.unescape("C:\\\\dir"));
+    assertEquals("a\tb\n", ValueCondition.unescape("a\\tb\\n"));
+    assertEquals("\u00e9\u00ff0", ValueCondition.unescape("\\u00e9\\3770"));
+    assertEquals("no escapes", ValueCondition.unescape("no escapes"));
+  }
+
+  public void testInvalidRegex() {
+    final ValueCondition condition = condition("~ \"(\"");
+
+    assertTrue(condition.isInvalid());
+    assertFalse(condition.matches("("));
+  }
+
+  private static ValueCondition condition(final String valueCondition) {
+    final ReclipseQuery query = Queries.parse("evaluationYielded(a, " + valueCondition + ")");
+    final PrimitiveExpressionContext expression = (PrimitiveExpressionContext) ((ExpressionQueryContext) query.getParseTree()).expression();
+
+    return ValueCondition.create(expression.primitive().evaluationYieldedValue().valueCondition());
+  }
+
+  private boolean matches(final ValueCondition condition, final String valueString) throws Exception {
+    final int idValue = dictionary.findOrCreateValue(valueString);
+    return condition.matches(dictionary.getParsedValues(idValue), idValue);
+  }
+}
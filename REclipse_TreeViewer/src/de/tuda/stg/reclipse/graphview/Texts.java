@@ -25,6 +25,10 @@ public class Texts extends NLS {
   public static String SessionSelect_Text;
   public static String SessionSelect_Tooltip;
   public static String SessionSelect_Item;
+  public static String SessionSelect_Open;
+  public static String SessionSelect_Save;
+  public static String SessionSelect_OpenError;
+  public static String SessionSelect_SaveError;
 
   public static String ShowClassName_Text;
   public static String ShowClassName_Tooltip;
@@ -43,6 +47,10 @@ public class Texts extends NLS {
   public static String Query_Submit;
   public static String Query_NoResults;
   public static String Query_ParsingError_Title;
+  public static String Query_Aggregation_Group;
+  public static String Query_Aggregation_Count;
+  public static String Query_Aggregation_Rate;
+  public static String Query_Aggregation_AllEvents;
 
   public static String Search_Results;
 
@@ -52,6 +60,8 @@ public class Texts extends NLS {
   public static String MenuItem_Highlighter_RemoveHighlight;
   public static String MenuItem_Highlighter_Ancestors;
   public static String MenuItem_Highlighter_Children;
+  public static String MenuItem_Focus_Neighbourhood;
+  public static String MenuItem_Focus_ShowAll;
   public static String MenuItem_Breakpoint_Enable;
   public static String MenuItem_Breakpoint_Disable;
   public static String MenuItem_Locate;
@@ -59,6 +69,11 @@ public class Texts extends NLS {
   public static String Pref_Description;
   public static String Pref_UpdateInterval;
   public static String Pref_EventLogging;
+  public static String Pref_ValueSpillThreshold;
+  public static String Pref_RetainedPointsInTime;
+  public static String Pref_HistorySizeBudget;
+  public static String Pref_CheckpointInterval;
+  public static String Pref_VersionedPointsInTime;
 
   public static String Graph_Tooltip_Name;
   public static String Graph_Tooltip_Type;
@@ -67,8 +82,11 @@ public class Texts extends NLS {
   public static String Graph_Tooltip_Class;
   public static String Graph_Tooltip_Source;
   public static String Graph_Tooltip_Line;
+  public static String Graph_Tooltip_StackTrace;
 
   public static String BreakpointQuery_Add;
+  public static String BreakpointQuery_Unsupported_Title;
+  public static String BreakpointQuery_Aggregation;
   public static String Breakpoint_Remove;
   public static String Breakpoint_Remove_All;
 
@@ -3,25 +3,34 @@ package de.tuda.stg.reclipse.graphview.action;
 import de.tuda.stg.reclipse.graphview.Activator;
 import de.tuda.stg.reclipse.graphview.Images;
 import de.tuda.stg.reclipse.graphview.Texts;
+import de.tuda.stg.reclipse.graphview.model.SessionArchive;
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
 import de.tuda.stg.reclipse.graphview.model.SessionManager;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.action.IMenuCreator;
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Shell;
 
 public class SessionSelect extends Action implements IMenuCreator {
 
@@ -81,9 +90,93 @@ public class SessionSelect extends Action implements IMenuCreator {
       item.addSelectionListener(SELECTION_LISTENER);
     }
 
+    new MenuItem(menu, SWT.SEPARATOR);
+
+    final Shell shell = parent.getShell();
+
+    final MenuItem openItem = new MenuItem(menu, SWT.PUSH);
+    openItem.setText(Texts.SessionSelect_Open);
+    openItem.addSelectionListener(new SelectionAdapter() {
+
+      @Override
+      public void widgetSelected(final SelectionEvent evt) {
+        openSession(shell);
+      }
+    });
+
+    final MenuItem saveItem = new MenuItem(menu, SWT.PUSH);
+    saveItem.setText(Texts.SessionSelect_Save);
+    saveItem.setEnabled(SessionManager.getInstance().getSelectedSession().isPresent());
+    saveItem.addSelectionListener(new SelectionAdapter() {
+
+      @Override
+      public void widgetSelected(final SelectionEvent evt) {
+        saveSession(shell);
+      }
+    });
+
     return menu;
   }
 
+  protected void openSession(final Shell shell) {
+    final FileDialog dialog = new FileDialog(shell, SWT.OPEN);
+    dialog.setFilterExtensions(new String[] {
+      "*." + SessionArchive.FILE_EXTENSION //$NON-NLS-1$
+    });
+    final String path = dialog.open();
+
+    if (path == null) {
+      return;
+    }
+
+    BusyIndicator.showWhile(shell.getDisplay(), new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          SessionManager.getInstance().openSession(new File(path));
+        }
+        catch (final IOException e) {
+          Activator.log(e);
+          MessageDialog.openError(shell, "", Texts.SessionSelect_OpenError); //$NON-NLS-1$
+        }
+      }
+    });
+  }
+
+  protected void saveSession(final Shell shell) {
+    final Optional<SessionContext> ctx = SessionManager.getInstance().getSelectedSession();
+
+    if (!ctx.isPresent()) {
+      return;
+    }
+
+    final FileDialog dialog = new FileDialog(shell, SWT.SAVE);
+    dialog.setFilterExtensions(new String[] {
+      "*." + SessionArchive.FILE_EXTENSION //$NON-NLS-1$
+    });
+    dialog.setOverwrite(true);
+    final String path = dialog.open();
+
+    if (path == null) {
+      return;
+    }
+
+    BusyIndicator.showWhile(shell.getDisplay(), new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          SessionArchive.save(ctx.get(), new File(path));
+        }
+        catch (final IOException e) {
+          Activator.log(e);
+          MessageDialog.openError(shell, "", Texts.SessionSelect_SaveError); //$NON-NLS-1$
+        }
+      }
+    });
+  }
+
   @Override
   public Menu getMenu(final Menu parent) {
     throw new UnsupportedOperationException("the menu is designed to be opened by a button"); //$NON-NLS-1$
@@ -3,17 +3,23 @@ package de.tuda.stg.reclipse.graphview.controller;
 import de.tuda.stg.reclipse.graphview.Texts;
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
 import de.tuda.stg.reclipse.graphview.model.SessionManager;
+import de.tuda.stg.reclipse.graphview.model.persistence.AggregationResult;
+import de.tuda.stg.reclipse.graphview.model.persistence.CancellationToken;
+import de.tuda.stg.reclipse.graphview.model.persistence.IStandingQueryListener;
+import de.tuda.stg.reclipse.graphview.model.persistence.StandingQuery;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.Queries;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseErrorListener;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
 import de.tuda.stg.reclipse.graphview.view.ReactiveTreeView;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * Controller which handles all events related to the querying feature (e.g.
@@ -27,13 +33,47 @@ public class QueryController {
       "nodeValueSet(<varName>)", //$NON-NLS-1$
       "dependencyCreated(<nodeName>, <nodeName>)", //$NON-NLS-1$
       "evaluationYielded(<nodeName>, \"<value>\")", //$NON-NLS-1$
-      "evaluationException(<nodeName>?)" //$NON-NLS-1$
+      "evaluationYielded(<nodeName>, <|<=|>|>=|==|!= <number>)", //$NON-NLS-1$
+      "evaluationYielded(<nodeName>, [<number>, <number>])", //$NON-NLS-1$
+      "evaluationYielded(<nodeName>, true|false)", //$NON-NLS-1$
+      "evaluationYielded(<nodeName>, ~ \"<regex>\")", //$NON-NLS-1$
+      "evaluationException(<nodeName>?)", //$NON-NLS-1$
+      "evaluationException(<nodeName>?, \"<exceptionClass>\")", //$NON-NLS-1$
+      "nodeEvaluated(<nodeName>) and not evaluationException(<nodeName>)", //$NON-NLS-1$
+      "nodeCreated(<nodeName>) or nodeCreated(<nodeName>)", //$NON-NLS-1$
+      "nodeValueSet(<varName>) then evaluationException(<nodeName>) within <pointsInTime>", //$NON-NLS-1$
+      "nodeValueSet(<varName>) then nodeEvaluated(<nodeName>) within turn", //$NON-NLS-1$
+      "count(<expression>?) groupBy node|type|class", //$NON-NLS-1$
+      "topK(<k>, nodeEvaluated()) groupBy node", //$NON-NLS-1$
+      "rate(nodeEvaluated(), turn)", //$NON-NLS-1$
+      "rate(nodeValueSet(<varName>), 1000)" //$NON-NLS-1$
   };
 
   protected final ReactiveTreeView rtv;
-  protected List<Integer> matches;
+  protected StandingQuery matches;
+  protected CancellationToken pendingQuery;
+  protected AggregationResult aggregationResult;
   protected int selection = 0;
 
+  /**
+   * Updates the results label when new events match the submitted query.
+   */
+  protected final IStandingQueryListener matchesListener = new IStandingQueryListener() {
+
+    @Override
+    public void onMatchesChanged(final StandingQuery query) {
+      Display.getDefault().asyncExec(new Runnable() {
+
+        @Override
+        public void run() {
+          if (query == matches) {
+            rtv.updateQueryResultsLabel();
+          }
+        }
+      });
+    }
+  };
+
   public QueryController(final ReactiveTreeView reactiveTreeView) {
     rtv = reactiveTreeView;
   }
@@ -56,23 +96,19 @@ public class QueryController {
 
       final ReclipseQuery query = Queries.parse(queryText, new ReclipseErrorListener(rtv.getSite().getShell()));
 
-      selection = 0;
+      reset();
 
-      if (query != null) {
-        matches = ctx.get().getHistoryEsperAdapter().executeQuery(query);
-        if (matches != null && matches.size() > 0) {
-          Collections.sort(matches);
-          rtv.jumpToPointInTime(matches.get(0));
-        }
-        else {
-          rtv.showInformation("", Texts.Query_NoResults); //$NON-NLS-1$
-        }
+      final Aggregation aggregation = query != null ? Aggregation.create(query) : null;
+
+      if (aggregation != null) {
+        aggregate(ctx.get(), aggregation);
       }
-      else {
-        matches = Collections.emptyList();
+      else if (query != null) {
+        register(ctx.get(), query);
       }
 
       rtv.updateQueryResultsLabel();
+      rtv.updateAggregationTable();
     }
   }
 
@@ -80,13 +116,13 @@ public class QueryController {
 
     @Override
     public void widgetSelected(final SelectionEvent e) {
-      if (matches == null || matches.size() <= 1) {
+      if (matches == null || matches.getMatchCount() <= 1) {
         return;
       }
 
-      selection = Math.floorMod(selection - 1, matches.size());
+      selection = Math.floorMod(selection - 1, matches.getMatchCount());
 
-      rtv.jumpToPointInTime(matches.get(selection));
+      rtv.jumpToPointInTime(matches.getMatch(selection));
       rtv.updateQueryResultsLabel();
     }
   }
@@ -95,28 +131,145 @@ public class QueryController {
 
     @Override
     public void widgetSelected(final SelectionEvent e) {
-      if (matches == null || matches.isEmpty()) {
+      if (matches == null || matches.getMatchCount() == 0) {
         return;
       }
 
-      selection = Math.floorMod(selection + 1, matches.size());
+      selection = Math.floorMod(selection + 1, matches.getMatchCount());
 
-      rtv.jumpToPointInTime(matches.get(selection));
+      rtv.jumpToPointInTime(matches.getMatch(selection));
       rtv.updateQueryResultsLabel();
     }
   }
 
+  /**
+   * Evaluates an aggregation on the reader thread of the session and shows its
+   * result afterwards.
+   */
+  protected void aggregate(final SessionContext ctx, final Aggregation aggregation) {
+    final CancellationToken token = new CancellationToken();
+    pendingQuery = token;
+
+    ctx.getPersistence().submitRead(token, new Supplier<AggregationResult>() {
+
+      @Override
+      public AggregationResult get() {
+        return ctx.getQueryEngine().executeAggregation(aggregation);
+      }
+    }).thenAccept(new Consumer<AggregationResult>() {
+
+      @Override
+      public void accept(final AggregationResult result) {
+        Display.getDefault().asyncExec(new Runnable() {
+
+          @Override
+          public void run() {
+            showAggregation(result, token);
+          }
+        });
+      }
+    });
+  }
+
+  protected void showAggregation(final AggregationResult result, final CancellationToken token) {
+    // another query has been submitted in the meantime
+    if (token.isCancelled()) {
+      return;
+    }
+
+    pendingQuery = null;
+    aggregationResult = result;
+
+    rtv.updateAggregationTable();
+  }
+
+  /**
+   * Registers a query on the reader thread of the session, which reads the
+   * events of the history, and shows its matches afterwards.
+   */
+  protected void register(final SessionContext ctx, final ReclipseQuery query) {
+    final CancellationToken token = new CancellationToken();
+    pendingQuery = token;
+
+    ctx.getPersistence().submitRead(token, new Supplier<StandingQuery>() {
+
+      @Override
+      public StandingQuery get() {
+        // the matches are kept up to date while the history grows
+        return ctx.getQueryEngine().register(query, matchesListener);
+      }
+    }).thenAccept(new Consumer<StandingQuery>() {
+
+      @Override
+      public void accept(final StandingQuery standingQuery) {
+        Display.getDefault().asyncExec(new Runnable() {
+
+          @Override
+          public void run() {
+            showMatches(standingQuery, token);
+          }
+        });
+      }
+    });
+  }
+
+  protected void showMatches(final StandingQuery standingQuery, final CancellationToken token) {
+    // another query has been submitted in the meantime
+    if (token.isCancelled()) {
+      standingQuery.close();
+      return;
+    }
+
+    pendingQuery = null;
+    matches = standingQuery;
+
+    if (matches.getMatchCount() > 0) {
+      rtv.jumpToPointInTime(matches.getMatch(0));
+    }
+    else {
+      rtv.showInformation("", Texts.Query_NoResults); //$NON-NLS-1$
+    }
+
+    rtv.updateQueryResultsLabel();
+  }
+
+  /**
+   * Forgets the submitted query and stops updating its matches.
+   */
   public void reset() {
-    matches = Collections.emptyList();
+    if (pendingQuery != null) {
+      pendingQuery.cancel();
+      pendingQuery = null;
+    }
+
+    if (matches != null) {
+      matches.close();
+      matches = null;
+    }
+
+    aggregationResult = null;
     selection = 0;
   }
 
+  /**
+   * @return the result of the submitted aggregation query or
+   *         <code>null</code>, if no aggregation query has been submitted
+   */
+  public AggregationResult getAggregationResult() {
+    return aggregationResult;
+  }
+
   public int getResultCount() {
-    return matches != null ? matches.size() : 0;
+    return matches != null ? matches.getMatchCount() : 0;
   }
 
   public int getCurrentResultSelection() {
-    return (matches != null && matches.size() > 0) ? (selection + 1) : 0;
+    if (matches == null || matches.getMatchCount() == 0) {
+      return 0;
+    }
+
+    // matches before the selection might have been removed by the compaction
+    return Math.min(selection, matches.getMatchCount() - 1) + 1;
   }
 
 }
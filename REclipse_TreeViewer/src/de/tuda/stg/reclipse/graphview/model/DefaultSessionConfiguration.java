@@ -22,4 +22,29 @@ public class DefaultSessionConfiguration implements ISessionConfiguration {
   public boolean isSuspendOnSessionStart() {
     return Properties.getBoolean(Properties.SUSPEND_ON_SESSION_START);
   }
+
+  @Override
+  public int getValueSpillThreshold() {
+    return Activator.getDefault().getPreferenceStore().getInt(PreferenceConstants.VALUE_SPILL_THRESHOLD);
+  }
+
+  @Override
+  public int getRetainedPointsInTime() {
+    return Activator.getDefault().getPreferenceStore().getInt(PreferenceConstants.RETAINED_POINTS_IN_TIME);
+  }
+
+  @Override
+  public int getHistorySizeBudget() {
+    return Activator.getDefault().getPreferenceStore().getInt(PreferenceConstants.HISTORY_SIZE_BUDGET);
+  }
+
+  @Override
+  public int getCheckpointInterval() {
+    return Activator.getDefault().getPreferenceStore().getInt(PreferenceConstants.CHECKPOINT_INTERVAL);
+  }
+
+  @Override
+  public int getVersionedPointsInTime() {
+    return Activator.getDefault().getPreferenceStore().getInt(PreferenceConstants.VERSIONED_POINTS_IN_TIME);
+  }
 }
@@ -1,6 +1,7 @@
 package de.tuda.stg.reclipse.graphview.model;
 
 import de.tuda.stg.reclipse.logger.BreakpointInformation;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 import de.tuda.stg.reclipse.logger.RemoteLoggerInterface;
 
@@ -20,7 +21,7 @@ public interface ILoggerInterface {
 
   public void logNodeEvaluationEnded(final ReactiveVariable r);
 
-  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception e);
+  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord e);
 
   public void logNodeEvaluationStarted(final ReactiveVariable r);
 
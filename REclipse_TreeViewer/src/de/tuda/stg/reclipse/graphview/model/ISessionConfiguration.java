@@ -9,4 +9,14 @@ public interface ISessionConfiguration {
   public boolean isEventLogging();
 
   public boolean isSuspendOnSessionStart();
+
+  public int getValueSpillThreshold();
+
+  public int getRetainedPointsInTime();
+
+  public int getHistorySizeBudget();
+
+  public int getCheckpointInterval();
+
+  public int getVersionedPointsInTime();
 }
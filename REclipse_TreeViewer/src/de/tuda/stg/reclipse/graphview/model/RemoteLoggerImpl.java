@@ -6,6 +6,7 @@ import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceFacade;
 import de.tuda.stg.reclipse.graphview.util.BreakpointUtils;
 import de.tuda.stg.reclipse.graphview.view.ReactiveTreeView;
 import de.tuda.stg.reclipse.logger.BreakpointInformation;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 import de.tuda.stg.reclipse.logger.RemoteLoggerInterface;
 
@@ -44,7 +45,7 @@ public class RemoteLoggerImpl extends UnicastRemoteObject implements RemoteLogge
     }
 
     @Override
-    public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception e) {
+    public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord e) {
     }
 
     @Override
@@ -138,11 +139,18 @@ public class RemoteLoggerImpl extends UnicastRemoteObject implements RemoteLogge
 
   @Override
   public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception e, final BreakpointInformation breakpointInformation) throws RemoteException {
+    logNodeEvaluationEndedWithException(r, ExceptionRecord.of(e), breakpointInformation);
+  }
+
+  @Override
+  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord e, final BreakpointInformation breakpointInformation) throws RemoteException {
     logger.logNodeEvaluationEndedWithException(r, e);
     persistence.logNodeEvaluationEndedWithException(r, e);
 
     ctx.putBreakpointInformation(r, breakpointInformation);
 
+    // allows queries to filter by the exception class
+    r.setAdditionalKeyValue(LiveEsperAdapter.EXCEPTION_CLASS_KEY, e.getClassName());
     sendEventToEsper(r, breakpointInformation);
   }
 
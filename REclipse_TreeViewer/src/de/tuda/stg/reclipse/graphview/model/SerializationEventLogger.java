@@ -1,5 +1,6 @@
 package de.tuda.stg.reclipse.graphview.model;
 
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.Activator;
@@ -62,7 +63,7 @@ public class SerializationEventLogger implements IEventLogger {
   }
 
   @Override
-  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception e) {
+  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord e) {
     log(new NodeEvaluationEndedWithException(r, e));
     eventCount++;
   }
@@ -169,22 +170,32 @@ public class SerializationEventLogger implements IEventLogger {
 
     private static final long serialVersionUID = 425054201443151028L;
 
+    /**
+     * Only set in logs which have been written before exception records were
+     * introduced.
+     */
     private Exception exception;
 
+    private ExceptionRecord exceptionRecord;
+
     public NodeEvaluationEndedWithException() {
     }
 
-    public NodeEvaluationEndedWithException(final ReactiveVariable reactiveVariable, final Exception exception) {
+    public NodeEvaluationEndedWithException(final ReactiveVariable reactiveVariable, final ExceptionRecord exceptionRecord) {
       super(reactiveVariable);
-      this.exception = exception;
+      this.exceptionRecord = exceptionRecord;
     }
 
-    public Exception getException() {
-      return exception;
+    public ExceptionRecord getExceptionRecord() {
+      if (exceptionRecord == null && exception != null) {
+        return ExceptionRecord.of(exception);
+      }
+
+      return exceptionRecord;
     }
 
-    public void setException(final Exception exception) {
-      this.exception = exception;
+    public void setExceptionRecord(final ExceptionRecord exceptionRecord) {
+      this.exceptionRecord = exceptionRecord;
     }
   }
 
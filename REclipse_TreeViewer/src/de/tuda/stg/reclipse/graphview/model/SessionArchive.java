@@ -0,0 +1,217 @@
+package de.tuda.stg.reclipse.graphview.model;
+
+import de.tuda.stg.reclipse.logger.BreakpointInformation;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Saves a logging session to a single archive file and opens it again. The
+ * archive is a ZIP file containing the history database, the spilled values,
+ * the variable locations and some metadata. Opening an archive does not replay
+ * the events, the history database is extracted and queried directly and the
+ * bounds of the history are taken from its events. It has to be extracted to a
+ * file of its own, because SQLite cannot open a database inside a ZIP entry and
+ * the opened session writes to its database, e.g. when the history is
+ * compacted. The variable locations are stored as properties instead of
+ * serialized objects, so opening an archive does not instantiate classes chosen
+ * by its author.
+ */
+public class SessionArchive {
+
+  public static final String FILE_EXTENSION = "reclipse"; //$NON-NLS-1$
+
+  private static final String METADATA_ENTRY = "metadata.properties"; //$NON-NLS-1$
+  private static final String HISTORY_ENTRY = "history.db"; //$NON-NLS-1$
+  private static final String VALUES_ENTRY = "values"; //$NON-NLS-1$
+  private static final String LOCATIONS_ENTRY = "locations.properties"; //$NON-NLS-1$
+
+  private static final String VERSION = "4"; //$NON-NLS-1$
+  private static final String KEY_VERSION = "version"; //$NON-NLS-1$
+  private static final String KEY_SESSION_ID = "sessionId"; //$NON-NLS-1$
+  private static final String KEY_CREATED = "created"; //$NON-NLS-1$
+
+  private static final String KEY_SOURCE_PATH = ".sourcePath"; //$NON-NLS-1$
+  private static final String KEY_CLASS_NAME = ".className"; //$NON-NLS-1$
+  private static final String KEY_LINE_NUMBER = ".lineNumber"; //$NON-NLS-1$
+  private static final String KEY_THREAD_NAME = ".threadName"; //$NON-NLS-1$
+
+  private SessionArchive() {
+  }
+
+  /**
+   * Saves the session to an archive. Events which are logged while the session
+   * is saved are not included.
+   *
+   * @param ctx
+   *          the session
+   * @param archive
+   *          the archive file
+   * @throws IOException
+   *           if the archive could not be written
+   */
+  public static void save(final SessionContext ctx, final File archive) throws IOException {
+    final File historyFile = File.createTempFile("reclipse", ".db"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    try (final ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(archive)))) {
+      ctx.getDbHelper().backup(historyFile);
+
+      out.putNextEntry(new ZipEntry(METADATA_ENTRY));
+      createMetadata(ctx).store(out, null);
+      out.closeEntry();
+
+      out.putNextEntry(new ZipEntry(HISTORY_ENTRY));
+      Files.copy(historyFile.toPath(), out);
+      out.closeEntry();
+
+      // the values are written after the database, so all spilled values it references are included
+      out.putNextEntry(new ZipEntry(VALUES_ENTRY));
+      ctx.getDbHelper().writeSpilledValues(out);
+      out.closeEntry();
+
+      out.putNextEntry(new ZipEntry(LOCATIONS_ENTRY));
+      createLocations(ctx.getVariableLocations()).store(out, null);
+      out.closeEntry();
+    }
+    catch (final PersistenceException e) {
+      throw new IOException(e);
+    }
+    finally {
+      Files.deleteIfExists(historyFile.toPath());
+    }
+  }
+
+  private static Properties createMetadata(final SessionContext ctx) {
+    final Properties metadata = new Properties();
+    metadata.setProperty(KEY_VERSION, VERSION);
+    metadata.setProperty(KEY_SESSION_ID, ctx.getId().toString());
+    metadata.setProperty(KEY_CREATED, Long.toString(ctx.getCreated().getTime()));
+    return metadata;
+  }
+
+  private static Properties createLocations(final Map<UUID, BreakpointInformation> locations) {
+    final Properties properties = new Properties();
+
+    for (final Map.Entry<UUID, BreakpointInformation> location : locations.entrySet()) {
+      final String prefix = location.getKey().toString();
+      final BreakpointInformation information = location.getValue();
+      setIfPresent(properties, prefix + KEY_SOURCE_PATH, information.getSourcePath());
+      setIfPresent(properties, prefix + KEY_CLASS_NAME, information.getClassName());
+      properties.setProperty(prefix + KEY_LINE_NUMBER, Integer.toString(information.getLineNumber()));
+      setIfPresent(properties, prefix + KEY_THREAD_NAME, information.getThreadName());
+    }
+
+    return properties;
+  }
+
+  private static void setIfPresent(final Properties properties, final String key, final String value) {
+    if (value != null) {
+      properties.setProperty(key, value);
+    }
+  }
+
+  private static Map<UUID, BreakpointInformation> loadLocations(final Properties properties) {
+    final Map<UUID, BreakpointInformation> locations = new HashMap<>();
+
+    for (final String key : properties.stringPropertyNames()) {
+      if (!key.endsWith(KEY_LINE_NUMBER)) {
+        continue;
+      }
+
+      final String prefix = key.substring(0, key.length() - KEY_LINE_NUMBER.length());
+      final BreakpointInformation information = new BreakpointInformation(properties.getProperty(prefix + KEY_SOURCE_PATH), properties.getProperty(prefix + KEY_CLASS_NAME), Integer.parseInt(properties.getProperty(key)), properties.getProperty(prefix + KEY_THREAD_NAME));
+      locations.put(UUID.fromString(prefix), information);
+    }
+
+    return locations;
+  }
+
+  /**
+   * Opens a session from an archive. The opened session gets a new id, so the
+   * same archive can be opened several times.
+   *
+   * @param archive
+   *          the archive file
+   * @param configuration
+   *          the configuration of the opened session
+   * @return the opened session
+   * @throws IOException
+   *           if the archive could not be read
+   */
+  public static SessionContext open(final File archive, final ISessionConfiguration configuration) throws IOException {
+    final UUID id = UUID.randomUUID();
+    final File historyFile = configuration.getDatabaseFilesDir().append(id + ".db").toFile(); //$NON-NLS-1$
+    final File valuesFile = configuration.getDatabaseFilesDir().append(id + ".values").toFile(); //$NON-NLS-1$
+    historyFile.getParentFile().mkdirs();
+
+    Properties metadata = null;
+    Map<UUID, BreakpointInformation> locations = new HashMap<>();
+    boolean historyFound = false;
+
+    try (final ZipInputStream in = new ZipInputStream(new BufferedInputStream(new FileInputStream(archive)))) {
+      ZipEntry entry;
+
+      while ((entry = in.getNextEntry()) != null) {
+        switch (entry.getName()) {
+          case METADATA_ENTRY:
+            metadata = new Properties();
+            metadata.load(in);
+            break;
+          case HISTORY_ENTRY:
+            Files.copy(in, historyFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            historyFound = true;
+            break;
+          case VALUES_ENTRY:
+            Files.copy(in, valuesFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            break;
+          case LOCATIONS_ENTRY:
+            final Properties properties = new Properties();
+            properties.load(in);
+            locations = loadLocations(properties);
+            break;
+          default:
+            // ignore unknown entries of later versions
+            break;
+        }
+      }
+
+      if (metadata == null || !historyFound) {
+        throw new IOException(archive + " is not a session archive"); //$NON-NLS-1$
+      }
+
+      if (!VERSION.equals(metadata.getProperty(KEY_VERSION))) {
+        throw new IOException("unsupported session archive version " + metadata.getProperty(KEY_VERSION)); //$NON-NLS-1$
+      }
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(historyFile.toPath());
+      Files.deleteIfExists(valuesFile.toPath());
+      throw e instanceof IOException ? (IOException) e : new IOException(e);
+    }
+
+    final Date created = new Date(Long.parseLong(metadata.getProperty(KEY_CREATED)));
+    final SessionContext ctx = new SessionContext(configuration, id, created, historyFile);
+
+    for (final Map.Entry<UUID, BreakpointInformation> location : locations.entrySet()) {
+      ctx.putVariableLocation(location.getKey(), location.getValue());
+    }
+
+    return ctx;
+  }
+}
@@ -4,9 +4,11 @@ import de.tuda.stg.reclipse.logger.BreakpointInformation;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.model.persistence.DatabaseHelper;
-import de.tuda.stg.reclipse.graphview.model.persistence.HistoryEsperAdapter;
+import de.tuda.stg.reclipse.graphview.model.persistence.HistoryQueryEngine;
 import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceFacade;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,6 +39,18 @@ public class SessionContext {
     this.persistence = new PersistenceFacade(id, configuration);
   }
 
+  /**
+   * Creates the context of a session which has been restored from an archive.
+   * It is not attached to a launch.
+   */
+  protected SessionContext(final ISessionConfiguration configuration, final UUID id, final Date created, final File databaseFile) {
+    this.configuration = configuration;
+    this.launch = null;
+    this.id = id;
+    this.created = created;
+    this.persistence = new PersistenceFacade(id, configuration, databaseFile);
+  }
+
   public void close() {
     persistence.close();
   }
@@ -49,6 +63,10 @@ public class SessionContext {
     return variableLocations.get(idVariable);
   }
 
+  public Map<UUID, BreakpointInformation> getVariableLocations() {
+    return Collections.unmodifiableMap(variableLocations);
+  }
+
   public void putBreakpointInformation(final ReactiveVariable variable, final BreakpointInformation information) {
     breakpointInformation.put(variable, information);
   }
@@ -73,8 +91,8 @@ public class SessionContext {
     return persistence;
   }
 
-  public HistoryEsperAdapter getHistoryEsperAdapter() {
-    return persistence.getHistoryEsperAdapter();
+  public HistoryQueryEngine getQueryEngine() {
+    return persistence.getQueryEngine();
   }
 
   public ISessionConfiguration getConfiguration() {
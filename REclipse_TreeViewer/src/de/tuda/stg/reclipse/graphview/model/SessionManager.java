@@ -2,6 +2,8 @@ package de.tuda.stg.reclipse.graphview.model;
 
 import de.tuda.stg.reclipse.graphview.Activator;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +60,23 @@ public class SessionManager {
     return ctx;
   }
 
+  /**
+   * Opens a session which has been saved with {@link SessionArchive} and
+   * selects it.
+   *
+   * @param archive
+   *          the archive file
+   * @return the opened session
+   * @throws IOException
+   *           if the archive could not be read
+   */
+  public synchronized SessionContext openSession(final File archive) throws IOException {
+    final SessionContext ctx = SessionArchive.open(archive, configuration);
+    sessions.put(ctx.getId(), ctx);
+    selectSession(ctx);
+    return ctx;
+  }
+
   private void selectSession(final SessionContext ctx) {
     if (selectedSession.isPresent()) {
       final SessionContext ctxOld = selectedSession.get();
@@ -0,0 +1,61 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The groups of an aggregation query with the number of their events, ordered
+ * by the number of events descending.
+ */
+public class AggregationResult {
+
+  private final Aggregation aggregation;
+  private final List<Row> rows;
+
+  public AggregationResult(final Aggregation aggregation, final List<Row> rows) {
+    this.aggregation = aggregation;
+    this.rows = Collections.unmodifiableList(rows);
+  }
+
+  public Aggregation getAggregation() {
+    return aggregation;
+  }
+
+  public List<Row> getRows() {
+    return rows;
+  }
+
+  public static class Row {
+
+    private final String group;
+    private final int count;
+    private final double rate;
+
+    public Row(final String group, final int count, final double rate) {
+      this.group = group;
+      this.count = count;
+      this.rate = rate;
+    }
+
+    /**
+     * @return the name of the node, type or exception class of the group or
+     *         <code>null</code>, if the events are not grouped
+     */
+    public String getGroup() {
+      return group;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * @return the number of events per unit of a rate query
+     */
+    public double getRate() {
+      return rate;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Marks an asynchronous read as superseded. Reads whose token has been
+ * cancelled are dropped before they access the database, longer reads may
+ * additionally check the token between their steps.
+ */
+public class CancellationToken {
+
+  private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+  public void cancel() {
+    cancelled.set(true);
+  }
+
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  /**
+   * @throws CancellationException
+   *           if the token has been cancelled
+   */
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new CancellationException();
+    }
+  }
+}
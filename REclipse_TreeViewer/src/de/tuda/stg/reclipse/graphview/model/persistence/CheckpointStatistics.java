@@ -0,0 +1,45 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+/**
+ * Overhead of the graph checkpoints of a session.
+ */
+public class CheckpointStatistics {
+
+  private final int interval;
+  private final int checkpointCount;
+  private final long entryCount;
+  private final long writeTimeMillis;
+
+  public CheckpointStatistics(final int interval, final int checkpointCount, final long entryCount, final long writeTimeMillis) {
+    this.interval = interval;
+    this.checkpointCount = checkpointCount;
+    this.entryCount = entryCount;
+    this.writeTimeMillis = writeTimeMillis;
+  }
+
+  /**
+   * @return the number of points in time between two checkpoints, not positive
+   *         if checkpoints are disabled
+   */
+  public int getInterval() {
+    return interval;
+  }
+
+  public int getCheckpointCount() {
+    return checkpointCount;
+  }
+
+  /**
+   * @return the number of stored status references of all checkpoints
+   */
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * @return the total time spent on writing checkpoints
+   */
+  public long getWriteTimeMillis() {
+    return writeTimeMillis;
+  }
+}
@@ -1,6 +1,7 @@
 package de.tuda.stg.reclipse.graphview.model.persistence;
 
 import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 import de.tuda.stg.reclipse.logger.ReactiveVariableType;
 
@@ -8,6 +9,8 @@ import de.tuda.stg.reclipse.graphview.Activator;
 import de.tuda.stg.reclipse.graphview.model.ISessionConfiguration;
 import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
 
+import java.io.File;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
@@ -15,13 +18,18 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Helper class which does all the work related to the database, e.g. storing
@@ -33,25 +41,118 @@ public class DatabaseHelper {
   private static final String JDBC_USER = ""; //$NON-NLS-1$
   private static final String JDBC_PASSWORD = ""; //$NON-NLS-1$
 
+  /**
+   * The exception of a variable status references the exception table, 0 means
+   * that no exception occurred.
+   */
   private static List<String> databaseSetupQueries = Arrays
           .asList("CREATE TABLE variable (idVariable  INTEGER NOT NULL PRIMARY KEY, variableId varchar(36) NOT NULL, variableName varchar(200), reactiveType integer(10), typeSimple varchar(200), typeFull varchar(200), timeFrom integer(10) NOT NULL)", //$NON-NLS-1$
-                  "CREATE TABLE variable_status (idVariableStatus  INTEGER NOT NULL PRIMARY KEY, idVariable integer(10) NOT NULL, valueString varchar(200), timeFrom integer(10) NOT NULL, timeTo integer(10) NOT NULL, exception integer(1) NOT NULL)", //$NON-NLS-1$
+                  "CREATE TABLE variable_status (idVariableStatus  INTEGER NOT NULL PRIMARY KEY, idVariable integer(10) NOT NULL, idValue integer(10), timeFrom integer(10) NOT NULL, timeTo integer(10) NOT NULL, exception integer(10) NOT NULL)", //$NON-NLS-1$
+                  "CREATE TABLE exception (idException INTEGER NOT NULL PRIMARY KEY, exceptionClass varchar(200) NOT NULL, message text, idStackTrace integer(10), traceId integer(10) NOT NULL)", //$NON-NLS-1$
+                  "CREATE TABLE stack_trace (idStackTrace INTEGER NOT NULL PRIMARY KEY, frames text NOT NULL)", //$NON-NLS-1$
+                  "CREATE TABLE value (idValue INTEGER NOT NULL PRIMARY KEY, valueHash integer(10) NOT NULL, valueString text NOT NULL, spillOffset integer(19), spillLength integer(10))", //$NON-NLS-1$
+                  "CREATE INDEX value_hash ON value (valueHash)", //$NON-NLS-1$
                   "CREATE TABLE event (pointInTime  INTEGER NOT NULL PRIMARY KEY, type integer(10) NOT NULL, idVariable integer(10) NOT NULL, dependentVariable integer(10))", //$NON-NLS-1$
-                  "CREATE TABLE variable_dependency (idVariableStatus integer(10) NOT NULL, dependentVariable integer(10) NOT NULL, PRIMARY KEY (idVariableStatus, dependentVariable))"); //$NON-NLS-1$
+                  "CREATE TABLE variable_dependency (idVariableStatus integer(10) NOT NULL, dependentVariable integer(10) NOT NULL, PRIMARY KEY (idVariableStatus, dependentVariable))", //$NON-NLS-1$
+                  "CREATE INDEX variable_dependency_dependent ON variable_dependency (dependentVariable)", //$NON-NLS-1$
+                  "CREATE INDEX variable_status_time_from ON variable_status (timeFrom)", //$NON-NLS-1$
+                  "CREATE INDEX variable_status_variable ON variable_status (idVariable, timeFrom)", //$NON-NLS-1$
+                  "CREATE INDEX variable_variable_id ON variable (variableId)", //$NON-NLS-1$
+                  "CREATE TABLE checkpoint_status (pointInTime integer(10) NOT NULL, idVariableStatus integer(10) NOT NULL, PRIMARY KEY (pointInTime, idVariableStatus))"); //$NON-NLS-1$
+
+  /**
+   * Selects the statuses which are active at a point in time: the statuses of
+   * the nearest checkpoint and the statuses created since then, without those
+   * which have ended before the point in time.
+   */
+  private static final String ACTIVE_STATUS_CONDITION = "variable_status.idVariableStatus IN (SELECT idVariableStatus FROM checkpoint_status WHERE pointInTime = ? UNION ALL SELECT idVariableStatus FROM variable_status WHERE timeFrom > ? AND timeFrom <= ?) AND variable_status.timeTo >= ?"; //$NON-NLS-1$
+
+  /**
+   * Number of dependency graph snapshots kept in memory.
+   */
+  private static final int GRAPH_CACHE_SIZE = 32;
 
-  private final List<IDependencyGraphListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Number of points in time which a compaction removes in one transaction.
+   * The writer waits while a batch is removed, so the events which are logged
+   * during a long compaction are only delayed by a single batch.
+   */
+  private static final int COMPACTION_BATCH_SIZE = 1000;
+
+  private final DependencyGraphNotifier notifier = new DependencyGraphNotifier();
+  private final DependencyGraphCache graphCache = new DependencyGraphCache(GRAPH_CACHE_SIZE);
+  private final DependencyGraphPrefetcher prefetcher = new DependencyGraphPrefetcher(this);
+  private final DependencyGraphHistory graphHistory = new DependencyGraphHistory();
   private final String sessionId;
   private final Map<UUID, Integer> variableMap = new HashMap<>();
   private final Map<Integer, Integer> variableStatusMap = new HashMap<>();
+  private final Map<String, Integer> stackTraceMap = new HashMap<>();
+  private final Map<Integer, Integer> traceIdMap = new HashMap<>();
+
+  /**
+   * Undoes the changes of the maps above which have been made in the current
+   * transaction, so the maps do not reference rows which have been rolled
+   * back. SQLite assigns the ids of these rows again.
+   */
+  private final Deque<Runnable> undoLog = new ArrayDeque<>();
+  private final ValueSpillStore spillStore;
+  private final ValueDictionary valueDictionary;
+  private final HistoryCompactor compactor;
+  private final int checkpointInterval;
+
+  /**
+   * Number of the most recent points in time whose dependency graphs are kept
+   * as versions in memory, 0 if no versions are kept. The graphs of earlier
+   * points in time are loaded from the database. The versions share their
+   * unchanged parts, so every version only costs the path to the status which
+   * has changed at its point in time.
+   */
+  private final int versionedPointsInTime;
+  private final File databaseFile;
+  private final NavigableSet<Integer> checkpoints = new ConcurrentSkipListSet<>();
+
+  private final ReaderConnectionPool readerPool;
 
   private Connection connection;
 
   private int lastPointInTime = 0;
+  private volatile int committedPointInTime = 0;
+  private volatile int firstPointInTime = 0;
+  private volatile long checkpointWriteTime = 0;
 
   public DatabaseHelper(final String sessionId, final ISessionConfiguration configuration) {
+    this(sessionId, configuration, null);
+  }
+
+  /**
+   * Opens the history stored in a database file instead of creating a new
+   * in-memory history. The file is removed when the history is closed.
+   *
+   * @param sessionId
+   *          the id of the session
+   * @param configuration
+   *          the configuration of the session
+   * @param databaseFile
+   *          the database file or <code>null</code> to create a new in-memory
+   *          history
+   */
+  public DatabaseHelper(final String sessionId, final ISessionConfiguration configuration, final File databaseFile) {
     this.sessionId = sessionId;
+    this.databaseFile = databaseFile;
+    this.spillStore = createSpillStore(sessionId, configuration);
+    this.valueDictionary = new ValueDictionary(this, spillStore);
+    this.compactor = new HistoryCompactor(this, configuration.getRetainedPointsInTime(), configuration.getHistorySizeBudget() * 1024L * 1024L);
+    this.checkpointInterval = configuration.getCheckpointInterval();
+    this.versionedPointsInTime = configuration.getVersionedPointsInTime();
 
     establishConnection();
+    this.readerPool = new ReaderConnectionPool(getJdbcUrl());
+
+    if (databaseFile != null) {
+      restoreHistoryState();
+      return;
+    }
 
     try (final Statement stmt = connection.createStatement()) {
       for (final String sql : databaseSetupQueries) {
@@ -63,6 +164,42 @@ public class DatabaseHelper {
     }
   }
 
+  /**
+   * Restores the bounds of the history and the checkpoints from an existing
+   * database. The variables are not loaded, so no events can be appended to the
+   * restored history.
+   */
+  private void restoreHistoryState() {
+    try (final Statement stmt = connection.createStatement()) {
+      // the file is mapped into memory and read on demand
+      stmt.execute("PRAGMA mmap_size = 268435456"); //$NON-NLS-1$
+
+      try (final ResultSet rs = stmt.executeQuery("SELECT min(pointInTime), max(pointInTime) FROM event")) { //$NON-NLS-1$
+        rs.next();
+        // every point in time has one event, so the first event is the first retained point in time
+        // a history which has not been compacted starts with an empty graph at 0
+        final int first = rs.getInt(1);
+        firstPointInTime = first > 1 ? first : 0;
+        lastPointInTime = rs.getInt(2);
+        committedPointInTime = lastPointInTime;
+      }
+
+      try (final ResultSet rs = stmt.executeQuery("SELECT DISTINCT pointInTime FROM checkpoint_status")) { //$NON-NLS-1$
+        while (rs.next()) {
+          checkpoints.add(rs.getInt(1));
+        }
+      }
+    }
+    catch (final SQLException e) {
+      Activator.log(e);
+    }
+  }
+
+  private static ValueSpillStore createSpillStore(final String sessionId, final ISessionConfiguration configuration) {
+    final File file = configuration.getDatabaseFilesDir().append(sessionId + ".values").toFile(); //$NON-NLS-1$
+    return new ValueSpillStore(file, configuration.getValueSpillThreshold());
+  }
+
   /**
    * Reads the database connection settings from the Esper configuration file
    * and returns a fresh database connection, which automatically commits.
@@ -86,6 +223,8 @@ public class DatabaseHelper {
   }
 
   private void beginTx() throws PersistenceException {
+    undoLog.clear();
+
     try {
       connection.setAutoCommit(false);
     }
@@ -106,6 +245,7 @@ public class DatabaseHelper {
   private void commit() throws PersistenceException {
     try {
       connection.commit();
+      undoLog.clear();
     }
     catch (final SQLException e) {
       throw new PersistenceException(e);
@@ -119,33 +259,85 @@ public class DatabaseHelper {
     catch (final SQLException e) {
       throw new PersistenceException(e);
     }
+    finally {
+      while (!undoLog.isEmpty()) {
+        undoLog.pop().run();
+      }
+
+      // the cached ids of the values might have been rolled back
+      valueDictionary.clearCache();
+    }
+  }
+
+  /**
+   * Puts an entry into one of the maps of the writer, which is undone if the
+   * current transaction is rolled back.
+   */
+  private <K, V> void putInTx(final Map<K, V> map, final K key, final V value) {
+    final boolean existed = map.containsKey(key);
+    final V previous = map.put(key, value);
+
+    undoLog.push(new Runnable() {
+
+      @Override
+      public void run() {
+        if (existed) {
+          map.put(key, previous);
+        }
+        else {
+          map.remove(key);
+        }
+      }
+    });
   }
 
+  /**
+   * @return the connection of the writer, readers should use the
+   *         {@link #getReaderPool() reader pool}
+   */
   public Connection getConnection() {
     return connection;
   }
 
+  public ReaderConnectionPool getReaderPool() {
+    return readerPool;
+  }
+
+  public ValueDictionary getValueDictionary() {
+    return valueDictionary;
+  }
+
   public void addDependencyGraphListener(final IDependencyGraphListener listener) {
-    if (!listeners.contains(listener)) {
-      listeners.add(listener);
-    }
+    notifier.addListener(listener);
   }
 
   public void removeDependencyGraphListener(final IDependencyGraphListener listener) {
-    listeners.remove(listener);
+    notifier.removeListener(listener);
   }
 
   protected void fireChangedEvent(final DependencyGraphHistoryType type, final int pointInTime) {
-    for (final IDependencyGraphListener l : listeners) {
-      l.onDependencyGraphChanged(type, pointInTime);
+    // the point in time has been committed, so readers may see it and use its checkpoint
+    if (isCheckpoint(pointInTime)) {
+      checkpoints.add(pointInTime);
     }
+
+    committedPointInTime = pointInTime;
+    notifier.notifyChanged(type, pointInTime);
   }
 
   /**
-   * @return the last point in time of the dependency graph history
+   * @return the last committed point in time of the dependency graph history
    */
   public int getLastPointInTime() {
-    return lastPointInTime;
+    return committedPointInTime;
+  }
+
+  /**
+   * @return the first point in time which has not been removed from the
+   *         dependency graph history by the compaction
+   */
+  public int getFirstPointInTime() {
+    return firstPointInTime;
   }
 
   public synchronized void logNodeCreated(final ReactiveVariable r) throws PersistenceException {
@@ -231,7 +423,7 @@ public class DatabaseHelper {
     fireChangedEvent(DependencyGraphHistoryType.NODE_EVALUATION_ENDED, lastPointInTime);
   }
 
-  public synchronized void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception exception) throws PersistenceException {
+  public synchronized void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord exception) throws PersistenceException {
     try {
       beginTx();
 
@@ -312,6 +504,184 @@ public class DatabaseHelper {
 
   private void nextPointInTime() {
     lastPointInTime++;
+
+    if (compactor.isEnabled()) {
+      compactor.onPointInTimeAdded(lastPointInTime);
+    }
+  }
+
+  /**
+   * Removes the history before the given point in time. The statuses which are
+   * still active at the given point in time form the baseline snapshot of the
+   * remaining history, so the dependency graph at the given and all later
+   * points in time stays unchanged.
+   * <p>
+   * The history is removed in batches of {@link #COMPACTION_BATCH_SIZE} points
+   * in time, each in its own transaction, and the writer is only locked while
+   * a batch is removed. The values and exceptions which are no longer
+   * referenced are removed with the last batch.
+   *
+   * @param newFirstPointInTime
+   *          the first point in time to retain
+   * @throws PersistenceException
+   *           if the history could not be compacted
+   */
+  public void compactHistory(final int newFirstPointInTime) throws PersistenceException {
+    while (compactBatch(newFirstPointInTime)) {
+      // events may be logged between the batches
+    }
+  }
+
+  /**
+   * @return <code>true</code>, if further batches have to be removed
+   */
+  private synchronized boolean compactBatch(final int newFirstPointInTime) throws PersistenceException {
+    if (newFirstPointInTime <= firstPointInTime || newFirstPointInTime > lastPointInTime) {
+      return false;
+    }
+
+    final int batchEnd = (int) Math.min(newFirstPointInTime, (long) firstPointInTime + COMPACTION_BATCH_SIZE);
+    final boolean lastBatch = batchEnd == newFirstPointInTime;
+
+    // the graph history must not be extended while the statuses are rewritten
+    synchronized (graphHistory) {
+      removeHistoryBefore(batchEnd, lastBatch);
+      graphHistory.removeBefore(batchEnd);
+    }
+
+    return !lastBatch;
+  }
+
+  private void removeHistoryBefore(final int newFirstPointInTime, final boolean removeUnreferenced) throws PersistenceException {
+    final List<String> compactionQueries = Arrays.asList(
+            "DELETE FROM variable_dependency WHERE idVariableStatus IN (SELECT idVariableStatus FROM variable_status WHERE timeTo < ?)", //$NON-NLS-1$
+            "DELETE FROM variable_status WHERE timeTo < ?", //$NON-NLS-1$
+            "UPDATE variable_status SET timeFrom = ? WHERE timeFrom < ?", //$NON-NLS-1$
+            "DELETE FROM event WHERE pointInTime < ?", //$NON-NLS-1$
+            "DELETE FROM checkpoint_status WHERE pointInTime < ?"); //$NON-NLS-1$
+
+    try {
+      beginTx();
+
+      for (final String sql : compactionQueries) {
+        try (final PreparedStatement stmt = connection.prepareStatement(sql)) {
+          for (int i = 1; i <= stmt.getParameterMetaData().getParameterCount(); i++) {
+            stmt.setInt(i, newFirstPointInTime);
+          }
+          stmt.executeUpdate();
+        }
+      }
+
+      // scanning the values and exceptions once is enough for all batches
+      if (removeUnreferenced) {
+        try (final Statement stmt = connection.createStatement()) {
+          stmt.executeUpdate("DELETE FROM value WHERE idValue NOT IN (SELECT idValue FROM variable_status WHERE idValue IS NOT NULL)"); //$NON-NLS-1$
+          // the stack traces are kept, because the logger only sends them once
+          stmt.executeUpdate("DELETE FROM exception WHERE idException NOT IN (SELECT exception FROM variable_status)"); //$NON-NLS-1$
+        }
+      }
+
+      commit();
+
+      // the points in time are only given up once their removal is committed
+      firstPointInTime = newFirstPointInTime;
+      checkpoints.headSet(newFirstPointInTime).clear();
+      graphCache.removeBefore(newFirstPointInTime);
+    }
+    catch (final SQLException e) {
+      rollback();
+      throw new PersistenceException(e);
+    }
+    catch (PersistenceException | RuntimeException e) {
+      rollback();
+      throw e;
+    }
+    finally {
+      if (removeUnreferenced) {
+        valueDictionary.clearCache();
+      }
+
+      closeTx();
+    }
+  }
+
+  /**
+   * Writes a consistent copy of the history database to a file.
+   *
+   * @param targetFile
+   *          the file to write to
+   * @throws PersistenceException
+   *           if the copy could not be written or the path of the file cannot
+   *           be quoted
+   */
+  public synchronized void backup(final File targetFile) throws PersistenceException {
+    final String path = targetFile.getAbsolutePath();
+    // the backup command of the driver does not support escapes, so the path is quoted with a character it does not contain
+    final String quote;
+
+    if (!path.contains("\"")) { //$NON-NLS-1$
+      quote = "\""; //$NON-NLS-1$
+    }
+    else if (!path.contains("'")) { //$NON-NLS-1$
+      quote = "'"; //$NON-NLS-1$
+    }
+    else {
+      throw new PersistenceException("cannot back up to " + path + ", the path contains both kinds of quotes"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    try (final Statement stmt = connection.createStatement()) {
+      stmt.executeUpdate("backup to " + quote + path + quote); //$NON-NLS-1$
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  /**
+   * Writes the values which have been spilled from the database.
+   *
+   * @param out
+   *          the stream to write to
+   * @throws PersistenceException
+   *           if the values could not be written
+   */
+  public void writeSpilledValues(final OutputStream out) throws PersistenceException {
+    spillStore.copyTo(out);
+  }
+
+  /**
+   * Measures the part of the history which a compaction can reclaim: the used
+   * pages of the database and the spilled values which are still referenced.
+   * The spill file is append-only, so the values which have been removed from
+   * the history are not counted, although they still occupy the file.
+   *
+   * @return the number of bytes used by the history
+   * @throws PersistenceException
+   *           if the size could not be determined
+   */
+  public long getHistorySize() throws PersistenceException {
+    final Connection readConnection = readerPool.acquire();
+
+    try (final Statement stmt = readConnection.createStatement()) {
+      final long pageCount = queryLong(stmt, "PRAGMA page_count"); //$NON-NLS-1$
+      final long freePages = queryLong(stmt, "PRAGMA freelist_count"); //$NON-NLS-1$
+      final long pageSize = queryLong(stmt, "PRAGMA page_size"); //$NON-NLS-1$
+      final long spilledBytes = queryLong(stmt, "SELECT COALESCE(SUM(spillLength), 0) FROM value WHERE spillOffset IS NOT NULL"); //$NON-NLS-1$
+      return (pageCount - freePages) * pageSize + spilledBytes;
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  private static long queryLong(final Statement stmt, final String sql) throws SQLException {
+    try (final ResultSet rs = stmt.executeQuery(sql)) {
+      rs.next();
+      return rs.getLong(1);
+    }
   }
 
   private int getAutoIncrementKey(final Statement stmt) throws PersistenceException {
@@ -353,7 +723,7 @@ public class DatabaseHelper {
       stmt.executeUpdate();
 
       final int key = getAutoIncrementKey(stmt);
-      variableMap.put(variable.getId(), key);
+      putInTx(variableMap, variable.getId(), key);
       return key;
     }
     catch (final SQLException e) {
@@ -361,28 +731,32 @@ public class DatabaseHelper {
     }
   }
 
-  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final Exception exception) throws PersistenceException {
-    final String insertStmt = "INSERT INTO variable_status (idVariable, valueString, timeFrom, timeTo, exception) VALUES (?, ?, ?, ?, ?)"; //$NON-NLS-1$
+  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final ExceptionRecord exception) throws PersistenceException {
+    final String insertStmt = "INSERT INTO variable_status (idVariable, idValue, timeFrom, timeTo, exception) VALUES (?, ?, ?, ?, ?)"; //$NON-NLS-1$
+
+    // the text of an exception is stored in its own table, it is created first,
+    // because it fails for an unknown stack trace
+    final int idException = exception != null ? createException(exception) : 0;
+    final Integer idValue = valueDictionary.findOrCreateValue(variable.getValueString());
 
     try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
 
       stmt.setInt(1, idVariable);
       stmt.setInt(3, lastPointInTime);
       stmt.setInt(4, Integer.MAX_VALUE);
+      stmt.setInt(5, idException);
 
-      if (exception != null) {
-        stmt.setString(2, exception.toString());
-        stmt.setBoolean(5, true);
+      if (idValue != null) {
+        stmt.setInt(2, idValue);
       }
       else {
-        stmt.setString(2, variable.getValueString());
-        stmt.setBoolean(5, false);
+        stmt.setNull(2, Types.INTEGER);
       }
 
       stmt.executeUpdate();
 
       final int key = getAutoIncrementKey(stmt);
-      variableStatusMap.put(idVariable, key);
+      putInTx(variableStatusMap, idVariable, key);
       return key;
     }
     catch (final SQLException e) {
@@ -390,7 +764,7 @@ public class DatabaseHelper {
     }
   }
 
-  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final int oldVariableStatus, final Exception exception) throws PersistenceException {
+  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final int oldVariableStatus, final ExceptionRecord exception) throws PersistenceException {
     final String updateStmt = "UPDATE variable_status SET timeTo = ? WHERE idVariableStatus = ?"; //$NON-NLS-1$
 
     try (PreparedStatement stmt = connection.prepareStatement(updateStmt)) {
@@ -418,7 +792,7 @@ public class DatabaseHelper {
     return id;
   }
 
-  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final int oldVariableStatus, final int dependentVariable, final Exception exception)
+  private int createVariableStatus(final ReactiveVariable variable, final int idVariable, final int oldVariableStatus, final int dependentVariable, final ExceptionRecord exception)
           throws PersistenceException {
     final int id = createVariableStatus(variable, idVariable, oldVariableStatus, exception);
 
@@ -436,170 +810,1145 @@ public class DatabaseHelper {
     return id;
   }
 
-  private void createEvent(final ReactiveVariable variable, final int idVariable, final Integer dependentVariable) throws PersistenceException {
-    final String insertStmt = "INSERT INTO event (pointInTime, type, idVariable, dependentVariable) VALUES (?, ? ,?, ?)"; //$NON-NLS-1$
-
-    try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
-      stmt.setInt(1, lastPointInTime);
-      stmt.setInt(2, variable.getDependencyGraphHistoryType().ordinal());
-      stmt.setInt(3, idVariable);
+  private int createException(final ExceptionRecord exception) throws PersistenceException {
+    final String insertStmt = "INSERT INTO exception (exceptionClass, message, idStackTrace, traceId) VALUES (?, ?, ?, ?)"; //$NON-NLS-1$
 
-      if (dependentVariable != null) {
-        stmt.setInt(4, dependentVariable);
-      }
-      else {
-        stmt.setNull(4, Types.INTEGER);
-      }
+    final int idStackTrace = findOrCreateStackTrace(exception);
 
+    try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
+      stmt.setString(1, exception.getClassName());
+      stmt.setString(2, exception.getMessage());
+      stmt.setInt(3, idStackTrace);
+      stmt.setInt(4, exception.getTraceId());
       stmt.executeUpdate();
+      return getAutoIncrementKey(stmt);
     }
     catch (final SQLException e) {
       throw new PersistenceException(e);
     }
   }
 
-  public List<ReactiveVariable> getReVarsWithDependencies(final int pointInTime) throws PersistenceException {
-    final List<ReactiveVariable> variables = new ArrayList<>();
+  /**
+   * Stores every distinct stack trace once. A record without a stack trace
+   * references one which has been sent before with the same trace id.
+   *
+   * @return the id of the stack trace
+   * @throws PersistenceException
+   *           if the stack trace could not be stored or the referenced stack
+   *           trace is unknown
+   */
+  private int findOrCreateStackTrace(final ExceptionRecord exception) throws PersistenceException {
+    if (!exception.hasStackTrace()) {
+      final Integer idStackTrace = traceIdMap.get(exception.getTraceId());
 
-    final String query = "SELECT variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, event.type AS historyType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, variable_status.valueString AS valueString, variable_status.idVariableStatus AS idVariableStatus, variable_status.exception AS exception FROM variable, event JOIN variable_status ON variable_status.idVariable = variable.idVariable WHERE event.pointInTime = ? AND variable.timeFrom <= ? AND variable_status.timeFrom <= ? AND variable_status.timeTo >= ?"; //$NON-NLS-1$
-    try (final PreparedStatement stmt = connection.prepareStatement(query)) {
-      stmt.setInt(1, pointInTime);
-      stmt.setInt(2, pointInTime);
-      stmt.setInt(3, pointInTime);
-      stmt.setInt(4, pointInTime);
+      if (idStackTrace == null) {
+        throw new PersistenceException("unknown stack trace with trace id " + exception.getTraceId()); //$NON-NLS-1$
+      }
 
-      try (final ResultSet rs = stmt.executeQuery()) {
-        while (rs.next()) {
-          final ReactiveVariable r = createReVar(rs, pointInTime);
-          updateConnectedWith(r, rs);
-          variables.add(r);
-        }
+      return idStackTrace;
+    }
+
+    final String frames = encodeStackTrace(exception.getStackTrace());
+    Integer idStackTrace = stackTraceMap.get(frames);
+
+    if (idStackTrace == null) {
+      final String insertStmt = "INSERT INTO stack_trace (frames) VALUES (?)"; //$NON-NLS-1$
+
+      try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
+        stmt.setString(1, frames);
+        stmt.executeUpdate();
+        idStackTrace = getAutoIncrementKey(stmt);
+      }
+      catch (final SQLException e) {
+        throw new PersistenceException(e);
       }
+
+      putInTx(stackTraceMap, frames, idStackTrace);
     }
-    catch (final SQLException e) {
-      throw new PersistenceException(e);
+
+    if (exception.getTraceId() != ExceptionRecord.NO_TRACE_ID) {
+      putInTx(traceIdMap, exception.getTraceId(), idStackTrace);
     }
 
-    return variables;
+    return idStackTrace;
   }
 
-  private ReactiveVariable createReVar(final ResultSet rs, final int pointInTime) throws SQLException {
-    final ReactiveVariable r = new ReactiveVariable();
-    r.setId(UUID.fromString(rs.getString("variableId"))); //$NON-NLS-1$
-    r.setName(rs.getString("variableName")); //$NON-NLS-1$
-    r.setReactiveVariableType(ReactiveVariableType.values()[rs.getInt("reactiveType")]); //$NON-NLS-1$
-    r.setPointInTime(pointInTime);
-    //r.setDependencyGraphHistoryType(DependencyGraphHistoryType.values()[rs.getInt("historyType")]); //$NON-NLS-1$
-    r.setAdditionalInformation(""); // TODO load additional information field //$NON-NLS-1$
-    r.setTypeSimple(rs.getString("typeSimple")); //$NON-NLS-1$
-    r.setTypeFull(rs.getString("typeFull")); //$NON-NLS-1$
-    r.setAdditionalKeys(new HashMap<String, Object>()); // TODO load additional
-    // keys field
-    r.setValueString(rs.getString("valueString")); //$NON-NLS-1$
-    r.setExceptionOccured(rs.getBoolean("exception")); //$NON-NLS-1$
+  /**
+   * Encodes a stack trace with one line per frame and the parts of a frame
+   * separated by tabs.
+   */
+  private static String encodeStackTrace(final StackTraceElement[] stackTrace) {
+    final StringBuilder builder = new StringBuilder();
+
+    for (final StackTraceElement frame : stackTrace) {
+      builder.append(frame.getClassName()).append('\t');
+      builder.append(frame.getMethodName()).append('\t');
+      builder.append(frame.getFileName() != null ? frame.getFileName() : "").append('\t'); //$NON-NLS-1$
+      builder.append(frame.getLineNumber()).append('\n');
+    }
 
-    return r;
+    return builder.toString();
   }
 
-  private void updateConnectedWith(final ReactiveVariable r, final ResultSet rs) throws SQLException {
-    final int idVariableStatus = rs.getInt("idVariableStatus"); //$NON-NLS-1$
+  private static StackTraceElement[] decodeStackTrace(final String frames) {
+    final List<StackTraceElement> stackTrace = new ArrayList<>();
 
-    final String query = "SELECT variableId FROM variable JOIN variable_dependency ON variable_dependency.dependentVariable = variable.idVariable WHERE variable_dependency.idVariableStatus = ?"; //$NON-NLS-1$
-    try (final PreparedStatement stmt = connection.prepareStatement(query)) {
-      stmt.setInt(1, idVariableStatus);
+    for (final String line : frames.split("\n")) { //$NON-NLS-1$
+      final String[] parts = line.split("\t", -1); //$NON-NLS-1$
 
-      try (ResultSet rs2 = stmt.executeQuery()) {
-        while (rs2.next()) {
-          final String id = rs2.getString(1);
-          r.setConnectedWith(UUID.fromString(id));
-        }
+      if (parts.length == 4) {
+        final String fileName = parts[2].isEmpty() ? null : parts[2];
+        stackTrace.add(new StackTraceElement(parts[0], parts[1], fileName, Integer.parseInt(parts[3])));
       }
     }
+
+    return stackTrace.toArray(new StackTraceElement[stackTrace.size()]);
   }
 
-  public UUID getIdFromName(final String name) {
-    // TODO variables should be referenced by their IDs
+  private void createEvent(final ReactiveVariable variable, final int idVariable, final Integer dependentVariable) throws PersistenceException {
+    final String insertStmt = "INSERT INTO event (pointInTime, type, idVariable, dependentVariable) VALUES (?, ? ,?, ?)"; //$NON-NLS-1$
 
-    final String sql = "SELECT variableId FROM variable WHERE variableName = ?"; //$NON-NLS-1$
-    try (final PreparedStatement stmt = connection.prepareStatement(sql)) {
-      stmt.setString(1, name);
-      try (final ResultSet rs = stmt.executeQuery()) {
-        while (rs.next()) {
-          return UUID.fromString(rs.getString("variableId")); //$NON-NLS-1$
-        }
+    try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
+      stmt.setInt(1, lastPointInTime);
+      stmt.setInt(2, variable.getDependencyGraphHistoryType().ordinal());
+      stmt.setInt(3, idVariable);
+
+      if (dependentVariable != null) {
+        stmt.setInt(4, dependentVariable);
+      }
+      else {
+        stmt.setNull(4, Types.INTEGER);
       }
+
+      stmt.executeUpdate();
     }
     catch (final SQLException e) {
-      Activator.log(e);
+      throw new PersistenceException(e);
     }
-    return null;
-  }
 
-  public DependencyGraph getDependencyGraph(final int pointInTime) throws PersistenceException {
-    final List<Vertex> vertices = loadVertices(pointInTime);
-    connectVertices(vertices, pointInTime);
-    return new DependencyGraph(vertices);
+    // the event completes the point in time
+    if (isCheckpoint(lastPointInTime)) {
+      createCheckpoint();
+    }
   }
 
-  private List<Vertex> loadVertices(final int pointInTime) throws PersistenceException {
-    final List<Vertex> vertices = new ArrayList<>();
+  private boolean isCheckpoint(final int pointInTime) {
+    return checkpointInterval > 0 && pointInTime % checkpointInterval == 0;
+  }
 
-    final String query = "SELECT variable.idVariable AS idVariable, variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, variable_status.valueString AS valueString, variable.timeFrom AS timeFrom, variable_status.exception AS exception FROM variable JOIN variable_status ON variable_status.idVariable = variable.idVariable WHERE variable.timeFrom <= ? AND variable_status.timeFrom <= ? AND variable_status.timeTo >= ?"; //$NON-NLS-1$
-    try (final PreparedStatement stmt = connection.prepareStatement(query)) {
-      stmt.setInt(1, pointInTime);
-      stmt.setInt(2, pointInTime);
-      stmt.setInt(3, pointInTime);
+  /**
+   * Materializes the statuses which are active at the last point in time, so
+   * that the dependency graph at later points in time can be reconstructed
+   * from the checkpoint and the statuses created since then. Readers only use
+   * the checkpoint once the transaction of its point in time has been
+   * committed.
+   */
+  private void createCheckpoint() throws PersistenceException {
+    final long start = System.nanoTime();
+    final String insertStmt = "INSERT INTO checkpoint_status (pointInTime, idVariableStatus) VALUES (?, ?)"; //$NON-NLS-1$
 
-      try (final ResultSet rs = stmt.executeQuery()) {
-        while (rs.next()) {
-          final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
-          final int created = rs.getInt("timeFrom"); //$NON-NLS-1$
-          final ReactiveVariable r = createReVar(rs, pointInTime);
-          final Vertex vertex = new Vertex(idVariable, created, r);
-          vertices.add(vertex);
-        }
+    try (PreparedStatement stmt = connection.prepareStatement(insertStmt)) {
+      for (final int idVariableStatus : variableStatusMap.values()) {
+        stmt.setInt(1, lastPointInTime);
+        stmt.setInt(2, idVariableStatus);
+        stmt.addBatch();
       }
+
+      stmt.executeBatch();
     }
     catch (final SQLException e) {
       throw new PersistenceException(e);
     }
 
-    return vertices;
+    checkpointWriteTime += System.nanoTime() - start;
   }
 
-  private void connectVertices(final List<Vertex> vertices, final int pointInTime) throws PersistenceException {
-    final Map<Integer, Vertex> vertexMap = new HashMap<>();
+  /**
+   * @return the size of the checkpoints and the time spent on writing them
+   * @throws PersistenceException
+   *           if the size could not be determined
+   */
+  public CheckpointStatistics getCheckpointStatistics() throws PersistenceException {
+    final Connection readConnection = readerPool.acquire();
 
-    for (final Vertex vertex : vertices) {
-      vertexMap.put(vertex.getId(), vertex);
+    try (final Statement stmt = readConnection.createStatement()) {
+      final long entries = queryLong(stmt, "SELECT count(*) FROM checkpoint_status"); //$NON-NLS-1$
+      return new CheckpointStatistics(checkpointInterval, checkpoints.size(), entries, checkpointWriteTime / 1000000);
     }
-
-    final String dependencyQuery = "SELECT variable_status.idVariable AS idVariable, variable_dependency.dependentVariable AS dependentVariable FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus WHERE variable_status.timeFrom <= ? AND variable_status.timeTo >= ?"; //$NON-NLS-1$
-    try (final PreparedStatement stmt = connection.prepareStatement(dependencyQuery)) {
-      stmt.setInt(1, pointInTime);
-      stmt.setInt(2, pointInTime);
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Sets the parameters of the {@link #ACTIVE_STATUS_CONDITION}.
+   */
+  private void setActiveStatusParameters(final PreparedStatement stmt, final int index, final int pointInTime) throws SQLException {
+    final Integer checkpoint = checkpoints.floor(pointInTime);
+    final int checkpointPointInTime = checkpoint != null ? checkpoint : 0;
+
+    stmt.setInt(index, checkpointPointInTime);
+    stmt.setInt(index + 1, checkpointPointInTime);
+    stmt.setInt(index + 2, pointInTime);
+    stmt.setInt(index + 3, pointInTime);
+  }
+
+  /**
+   * Loads the variables at a point in time with the variables they are
+   * connected with. The statuses and their dependencies are loaded with one
+   * query each.
+   *
+   * @param pointInTime
+   *          a point in time
+   * @return the variables at the point in time
+   * @throws PersistenceException
+   *           if the variables could not be loaded
+   */
+  public List<ReactiveVariable> getReVarsWithDependencies(final int pointInTime) throws PersistenceException {
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      return loadReVarsWithDependencies(readConnection, getReadablePointInTime(pointInTime));
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Loads the variables of a range of points in time. Instead of the variables
+   * at every point in time, the variables at the first point in time and all
+   * later changes are loaded, which takes four queries for any range.
+   *
+   * @param fromPointInTime
+   *          the first point in time of the range
+   * @param toPointInTime
+   *          the last point in time of the range
+   * @return the variables of the range
+   * @throws PersistenceException
+   *           if the variables could not be loaded
+   */
+  public VariableHistory getVariableHistory(final int fromPointInTime, final int toPointInTime) throws PersistenceException {
+    final int readableFrom = getReadablePointInTime(fromPointInTime);
+    final int readableTo = getReadablePointInTime(toPointInTime);
+    final List<ReactiveVariable> changes = new ArrayList<>();
+    final Map<Integer, ReactiveVariable> statusMap = new HashMap<>();
+
+    final String statusQuery = "SELECT variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable_status.idVariableStatus AS idVariableStatus, variable_status.timeFrom AS statusTimeFrom, variable_status.exception AS exception FROM variable_status JOIN variable ON variable.idVariable = variable_status.idVariable LEFT JOIN value ON value.idValue = variable_status.idValue WHERE variable_status.timeFrom > ? AND variable_status.timeFrom <= ? ORDER BY variable_status.timeFrom"; //$NON-NLS-1$
+    final String dependencyQuery = "SELECT variable_dependency.idVariableStatus, variable.variableId FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus JOIN variable ON variable.idVariable = variable_dependency.dependentVariable WHERE variable_status.timeFrom > ? AND variable_status.timeFrom <= ?"; //$NON-NLS-1$
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      final List<ReactiveVariable> initialVariables = loadReVarsWithDependencies(readConnection, readableFrom);
+
+      try (final PreparedStatement stmt = readConnection.prepareStatement(statusQuery)) {
+        stmt.setInt(1, readableFrom);
+        stmt.setInt(2, readableTo);
+
+        try (final ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            final ReactiveVariable r = createReVar(rs, rs.getInt("statusTimeFrom")); //$NON-NLS-1$
+            statusMap.put(rs.getInt("idVariableStatus"), r); //$NON-NLS-1$
+            changes.add(r);
+          }
+        }
+      }
+
+      try (final PreparedStatement stmt = readConnection.prepareStatement(dependencyQuery)) {
+        stmt.setInt(1, readableFrom);
+        stmt.setInt(2, readableTo);
+        readConnectedWith(stmt, statusMap);
+      }
+
+      return new VariableHistory(fromPointInTime, toPointInTime, initialVariables, changes);
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Loads the statuses of one variable, which are found by the index on the
+   * variable and the first point in time of its statuses.
+   *
+   * @param variableId
+   *          the id of the variable
+   * @return the values of the variable in the retained history
+   * @throws PersistenceException
+   *           if the statuses could not be loaded
+   */
+  public ValueHistory getValueHistory(final UUID variableId) throws PersistenceException {
+    final String query = "SELECT variable_status.timeFrom, variable_status.timeTo, value.valueString, variable_status.exception FROM variable JOIN variable_status ON variable_status.idVariable = variable.idVariable LEFT JOIN value ON value.idValue = variable_status.idValue WHERE variable.variableId = ? AND variable_status.timeFrom <= ? ORDER BY variable_status.timeFrom"; //$NON-NLS-1$
+    final List<ValueHistory.Interval> intervals = new ArrayList<>();
+    final Connection readConnection = readerPool.acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setString(1, variableId.toString());
+      stmt.setInt(2, committedPointInTime);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          intervals.add(new ValueHistory.Interval(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getBoolean(4)));
+        }
+      }
+
+      return new ValueHistory(variableId, intervals);
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Reads the next chunk of events for a cursor. Every event has created the
+   * status of its variable which starts at the point in time of the event, so
+   * the value after the event is found by the index on the statuses.
+   *
+   * @param cursor
+   *          the cursor the events are added to
+   * @param afterPointInTime
+   *          the point in time of the last event which has been read
+   * @param toPointInTime
+   *          the last point in time of the range of the cursor
+   * @param limit
+   *          the maximum number of events to read
+   * @throws PersistenceException
+   *           if the events could not be read
+   */
+  void readEvents(final EventCursor cursor, final int afterPointInTime, final int toPointInTime, final int limit) throws PersistenceException {
+    final String query = "SELECT event.pointInTime, event.type, variable.variableId, variable.variableName, value.valueString, variable_status.idValue, variable_status.exception, dependent.variableId, dependent.variableName FROM event JOIN variable ON variable.idVariable = event.idVariable LEFT JOIN variable_status ON variable_status.idVariable = event.idVariable AND variable_status.timeFrom = event.pointInTime LEFT JOIN value ON value.idValue = variable_status.idValue LEFT JOIN variable AS dependent ON dependent.idVariable = event.dependentVariable WHERE event.pointInTime > ? AND event.pointInTime <= ? ORDER BY event.pointInTime LIMIT ?"; //$NON-NLS-1$
+    final Connection readConnection = readerPool.acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, afterPointInTime);
+      stmt.setInt(2, Math.min(toPointInTime, committedPointInTime));
+      stmt.setInt(3, limit);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          cursor.add(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getInt(6), rs.getInt(7), rs.getString(8), rs.getString(9));
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Finds the exceptions of a class, which matches by its full or its simple
+   * name.
+   *
+   * @param exceptionClass
+   *          the full or simple name of an exception class
+   * @return the ids of the exceptions of the class
+   * @throws PersistenceException
+   *           if the exceptions could not be read
+   */
+  public Set<Integer> findExceptionIds(final String exceptionClass) throws PersistenceException {
+    final String query = "SELECT idException FROM exception WHERE exceptionClass = ? OR exceptionClass LIKE ?"; //$NON-NLS-1$
+    final Set<Integer> ids = new HashSet<>();
+    final Connection readConnection = readerPool.acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setString(1, exceptionClass);
+      stmt.setString(2, "%." + exceptionClass); //$NON-NLS-1$
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          ids.add(rs.getInt(1));
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+
+    return ids;
+  }
+
+  /**
+   * @return the classes of all exceptions by their ids
+   * @throws PersistenceException
+   *           if the exceptions could not be read
+   */
+  public Map<Integer, String> readExceptionClasses() throws PersistenceException {
+    final String query = "SELECT idException, exceptionClass FROM exception"; //$NON-NLS-1$
+    final Map<Integer, String> classes = new HashMap<>();
+    final Connection readConnection = readerPool.acquire();
+
+    try (final Statement stmt = readConnection.createStatement(); final ResultSet rs = stmt.executeQuery(query)) {
+      while (rs.next()) {
+        classes.put(rs.getInt(1), rs.getString(2));
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+
+    return classes;
+  }
+
+  private List<ReactiveVariable> loadReVarsWithDependencies(final Connection readConnection, final int pointInTime) throws SQLException {
+    final List<ReactiveVariable> variables = new ArrayList<>();
+    final Map<Integer, ReactiveVariable> statusMap = new HashMap<>();
+
+    final String statusQuery = "SELECT variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable_status.idVariableStatus AS idVariableStatus, variable_status.exception AS exception FROM variable JOIN variable_status ON variable_status.idVariable = variable.idVariable LEFT JOIN value ON value.idValue = variable_status.idValue WHERE " + ACTIVE_STATUS_CONDITION; //$NON-NLS-1$
+    final String dependencyQuery = "SELECT variable_dependency.idVariableStatus, variable.variableId FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus JOIN variable ON variable.idVariable = variable_dependency.dependentVariable WHERE " + ACTIVE_STATUS_CONDITION; //$NON-NLS-1$
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(statusQuery)) {
+      setActiveStatusParameters(stmt, 1, pointInTime);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          final ReactiveVariable r = createReVar(rs, pointInTime);
+          statusMap.put(rs.getInt("idVariableStatus"), r); //$NON-NLS-1$
+          variables.add(r);
+        }
+      }
+    }
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(dependencyQuery)) {
+      setActiveStatusParameters(stmt, 1, pointInTime);
+      readConnectedWith(stmt, statusMap);
+    }
+
+    return variables;
+  }
+
+  /**
+   * Adds the results of a query for pairs of status ids and ids of dependent
+   * variables to the variables of the statuses.
+   */
+  private static void readConnectedWith(final PreparedStatement stmt, final Map<Integer, ReactiveVariable> statusMap) throws SQLException {
+    try (final ResultSet rs = stmt.executeQuery()) {
+      while (rs.next()) {
+        final ReactiveVariable r = statusMap.get(rs.getInt(1));
+
+        if (r != null) {
+          r.setConnectedWith(UUID.fromString(rs.getString(2)));
+        }
+      }
+    }
+  }
+
+  private ReactiveVariable createReVar(final ResultSet rs, final int pointInTime) throws SQLException {
+    final ReactiveVariable r = new ReactiveVariable();
+    r.setId(UUID.fromString(rs.getString("variableId"))); //$NON-NLS-1$
+    r.setName(rs.getString("variableName")); //$NON-NLS-1$
+    r.setReactiveVariableType(ReactiveVariableType.values()[rs.getInt("reactiveType")]); //$NON-NLS-1$
+    r.setPointInTime(pointInTime);
+    //r.setDependencyGraphHistoryType(DependencyGraphHistoryType.values()[rs.getInt("historyType")]); //$NON-NLS-1$
+    r.setAdditionalInformation(""); // TODO load additional information field //$NON-NLS-1$
+    r.setTypeSimple(rs.getString("typeSimple")); //$NON-NLS-1$
+    r.setTypeFull(rs.getString("typeFull")); //$NON-NLS-1$
+    r.setAdditionalKeys(new HashMap<String, Object>()); // TODO load additional
+    // keys field
+    r.setValueString(rs.getString("valueString")); //$NON-NLS-1$
+    r.setExceptionOccured(rs.getBoolean("exception")); //$NON-NLS-1$
+
+    return r;
+  }
+
+  /**
+   * Loads the exception of the status of a variable which is active at a point
+   * in time.
+   *
+   * @param variableId
+   *          the id of the variable
+   * @param pointInTime
+   *          the point in time
+   * @return the exception including its stack trace or <code>null</code>, if
+   *         the status has no exception
+   * @throws PersistenceException
+   *           if the exception could not be loaded
+   */
+  public ExceptionRecord getExceptionRecord(final UUID variableId, final int pointInTime) throws PersistenceException {
+    final String query = "SELECT exception.exceptionClass, exception.message, exception.traceId, stack_trace.frames FROM variable JOIN variable_status ON variable_status.idVariable = variable.idVariable JOIN exception ON exception.idException = variable_status.exception LEFT JOIN stack_trace ON stack_trace.idStackTrace = exception.idStackTrace WHERE variable.variableId = ? AND variable_status.timeFrom <= ? AND variable_status.timeTo >= ?"; //$NON-NLS-1$
+    final Connection readConnection = readerPool.acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setString(1, variableId.toString());
+      stmt.setInt(2, getReadablePointInTime(pointInTime));
+      stmt.setInt(3, getReadablePointInTime(pointInTime));
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        if (!rs.next()) {
+          return null;
+        }
+
+        final String frames = rs.getString(4);
+        final StackTraceElement[] stackTrace = frames != null ? decodeStackTrace(frames) : null;
+        // the trace id is the one of the logger, so records can be compared with the ones it sent
+        return new ExceptionRecord(rs.getString(1), rs.getString(2), rs.getInt(3), stackTrace);
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  public UUID getIdFromName(final String name) {
+    // TODO variables should be referenced by their IDs
+
+    final String sql = "SELECT variableId FROM variable WHERE variableName = ? AND timeFrom <= ?"; //$NON-NLS-1$
+    Connection readConnection = null;
+
+    try {
+      readConnection = readerPool.acquire();
+
+      try (final PreparedStatement stmt = readConnection.prepareStatement(sql)) {
+        stmt.setString(1, name);
+        stmt.setInt(2, committedPointInTime);
+        try (final ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            return UUID.fromString(rs.getString("variableId")); //$NON-NLS-1$
+          }
+        }
+      }
+    }
+    catch (final SQLException | PersistenceException e) {
+      Activator.log(e);
+    }
+    finally {
+      if (readConnection != null) {
+        readerPool.release(readConnection);
+      }
+    }
+    return null;
+  }
+
+  public DependencyGraph getDependencyGraph(final int pointInTime) throws PersistenceException {
+    final int snapshotPointInTime = getSnapshotPointInTime(pointInTime);
+    final DependencyGraph version = getGraphVersion(snapshotPointInTime);
+
+    if (version != null) {
+      return version;
+    }
+
+    final DependencyGraph cachedGraph = graphCache.get(snapshotPointInTime);
+
+    if (cachedGraph != null) {
+      return cachedGraph;
+    }
+
+    return createDependencyGraph(snapshotPointInTime);
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the dependency graph at the point in time, if it is kept in memory,
+   *         or <code>null</code>
+   */
+  public DependencyGraph getCachedDependencyGraph(final int pointInTime) {
+    final int snapshotPointInTime = getSnapshotPointInTime(pointInTime);
+
+    try {
+      final DependencyGraph version = getGraphVersion(snapshotPointInTime);
+
+      if (version != null) {
+        return version;
+      }
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+    }
+
+    return graphCache.get(snapshotPointInTime);
+  }
+
+  /**
+   * Finds the graph at a point in time in the graph history. The history is
+   * created in the background when it is used for the first time and then
+   * extended by the statuses of the points in time which have been committed
+   * since.
+   *
+   * @param snapshotPointInTime
+   *          a point in time between the first and the last committed one
+   * @return the graph or <code>null</code>, if the point in time is not kept in
+   *         memory or the history has not been created yet
+   * @throws PersistenceException
+   *           if the history could not be extended
+   */
+  private DependencyGraph getGraphVersion(final int snapshotPointInTime) throws PersistenceException {
+    if (versionedPointsInTime <= 0) {
+      return null;
+    }
+
+    synchronized (graphHistory) {
+      final int lastPointInTime = committedPointInTime;
+      final int windowStart = getGraphHistoryStart();
+
+      if (snapshotPointInTime < windowStart) {
+        return graphHistory.getVersion(snapshotPointInTime);
+      }
+
+      if (graphHistory.isEmpty() || graphHistory.getLastPointInTime() < windowStart) {
+        prefetcher.prefetchGraphHistory();
+        return null;
+      }
+
+      if (windowStart - graphHistory.getFirstPointInTime() > versionedPointsInTime / 10) {
+        // the versions are discarded in batches, since every removal shifts all versions
+        graphHistory.removeBefore(windowStart);
+      }
+
+      if (graphHistory.getLastPointInTime() < lastPointInTime) {
+        extendGraphHistory(graphHistory, lastPointInTime);
+      }
+
+      return graphHistory.getVersion(snapshotPointInTime);
+    }
+  }
+
+  private int getGraphHistoryStart() {
+    return Math.max(firstPointInTime, committedPointInTime - versionedPointsInTime + 1);
+  }
+
+  /**
+   * Creates the graph history from the graph at the start of the history and
+   * the statuses created since then. The history is only replaced if it has not
+   * been compacted in the meantime.
+   *
+   * @throws PersistenceException
+   *           if the history could not be loaded
+   */
+  void createGraphHistory() throws PersistenceException {
+    final int oldFirstPointInTime = firstPointInTime;
+    final int windowStart = getGraphHistoryStart();
+    final DependencyGraphHistory newHistory = new DependencyGraphHistory();
+
+    newHistory.reset(loadDependencyGraph(windowStart));
+    extendGraphHistory(newHistory, committedPointInTime);
+
+    synchronized (graphHistory) {
+      if (firstPointInTime == oldFirstPointInTime) {
+        graphHistory.replaceWith(newHistory);
+      }
+    }
+  }
+
+  /**
+   * Adds a version to the graph history for every point in time up to the given
+   * one. The statuses created in between are loaded with their dependencies in
+   * one pass and applied in the order of their points in time.
+   */
+  private void extendGraphHistory(final DependencyGraphHistory history, final int toPointInTime) throws PersistenceException {
+    final int fromPointInTime = history.getLastPointInTime();
+    final List<Vertex> updatedVertices = new ArrayList<>();
+    final List<Integer> updatePoints = new ArrayList<>();
+    final List<Integer> updateStatuses = new ArrayList<>();
+    final Map<Integer, Set<Integer>> statusConnections = new HashMap<>();
+
+    final String statusQuery = "SELECT variable.idVariable AS idVariable, variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable.timeFrom AS timeFrom, variable_status.idVariableStatus AS idVariableStatus, variable_status.timeFrom AS statusTimeFrom, variable_status.exception AS exception FROM variable_status JOIN variable ON variable.idVariable = variable_status.idVariable LEFT JOIN value ON value.idValue = variable_status.idValue WHERE variable_status.timeFrom > ? AND variable_status.timeFrom <= ? ORDER BY variable_status.timeFrom"; //$NON-NLS-1$
+    final String dependencyQuery = "SELECT variable_dependency.idVariableStatus, variable_dependency.dependentVariable FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus WHERE variable_status.timeFrom > ? AND variable_status.timeFrom <= ?"; //$NON-NLS-1$
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      try (final PreparedStatement stmt = readConnection.prepareStatement(statusQuery)) {
+        stmt.setInt(1, fromPointInTime);
+        stmt.setInt(2, toPointInTime);
+
+        try (final ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
+            final int statusPointInTime = rs.getInt("statusTimeFrom"); //$NON-NLS-1$
+
+            updatedVertices.add(new Vertex(idVariable, rs.getInt("timeFrom"), createReVar(rs, statusPointInTime))); //$NON-NLS-1$
+            updatePoints.add(statusPointInTime);
+            updateStatuses.add(rs.getInt("idVariableStatus")); //$NON-NLS-1$
+          }
+        }
+      }
+
+      try (final PreparedStatement stmt = readConnection.prepareStatement(dependencyQuery)) {
+        stmt.setInt(1, fromPointInTime);
+        stmt.setInt(2, toPointInTime);
+
+        try (final ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            final int idVariableStatus = rs.getInt(1);
+            Set<Integer> connected = statusConnections.get(idVariableStatus);
+
+            if (connected == null) {
+              connected = new HashSet<>();
+              statusConnections.put(idVariableStatus, connected);
+            }
+
+            connected.add(rs.getInt(2));
+          }
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+
+    // every variable has at most one status per point in time
+    int start = 0;
+
+    while (start < updatedVertices.size()) {
+      final int pointInTime = updatePoints.get(start);
+      final Map<Integer, Set<Integer>> connections = new HashMap<>();
+      int end = start;
+
+      while (end < updatedVertices.size() && updatePoints.get(end) == pointInTime) {
+        connections.put(updatedVertices.get(end).getId(), statusConnections.get(updateStatuses.get(end)));
+        end++;
+      }
+
+      history.addVersion(pointInTime, updatedVertices.subList(start, end), connections);
+      start = end;
+    }
+
+    history.extendTo(toPointInTime);
+  }
+
+  /**
+   * Loads the dependency graph at a point in time into the cache, unless it is
+   * already cached.
+   *
+   * @param pointInTime
+   *          a point in time
+   * @throws PersistenceException
+   *           if the graph could not be loaded
+   */
+  void prefetchDependencyGraph(final int pointInTime) throws PersistenceException {
+    final int snapshotPointInTime = getSnapshotPointInTime(pointInTime);
+
+    if (getGraphVersion(snapshotPointInTime) == null && !graphCache.contains(snapshotPointInTime)) {
+      createDependencyGraph(snapshotPointInTime);
+    }
+  }
+
+  /**
+   * Called when a dependency graph is shown. The graph is cached and the graphs
+   * which are likely to be shown next are prefetched.
+   *
+   * @param graph
+   *          the shown graph
+   */
+  public void onDependencyGraphShown(final DependencyGraph graph) {
+    final int pointInTime = graph.getPointInTime();
+
+    // graphs in the graph history do not need to be cached or prefetched
+    if (pointInTime < firstPointInTime || pointInTime > committedPointInTime || graphHistory.getVersion(pointInTime) != null) {
+      return;
+    }
+
+    if (!graphCache.contains(pointInTime)) {
+      graphCache.put(graph);
+    }
+
+    prefetcher.onPointInTimeShown(pointInTime);
+  }
+
+  /**
+   * The history before the first point in time has been folded into the
+   * baseline, points in time after the last committed one might still change,
+   * so they are mapped to the nearest point in time in between.
+   */
+  private int getSnapshotPointInTime(final int pointInTime) {
+    return Math.min(Math.max(pointInTime, firstPointInTime), committedPointInTime);
+  }
+
+  /**
+   * The reader connections see uncommitted rows, so every query of a reader is
+   * limited to the last committed point in time, whose rows never change.
+   */
+  private int getReadablePointInTime(final int pointInTime) {
+    return Math.min(pointInTime, committedPointInTime);
+  }
+
+  private DependencyGraph createDependencyGraph(final int snapshotPointInTime) throws PersistenceException {
+    DependencyGraph graph = null;
+    final DependencyGraph nearestGraph = graphCache.getNearest(snapshotPointInTime);
+
+    if (nearestGraph != null && nearestGraph.isNearby(snapshotPointInTime)) {
+      final DependencyGraphDelta delta = getDependencyGraphDelta(nearestGraph.getPointInTime(), snapshotPointInTime);
+
+      if (delta != null) {
+        graph = nearestGraph.applyDelta(delta);
+      }
+    }
+
+    if (graph == null) {
+      graph = loadDependencyGraph(snapshotPointInTime);
+    }
+
+    graphCache.put(graph);
+    return graph;
+  }
+
+  private DependencyGraph loadDependencyGraph(final int snapshotPointInTime) throws PersistenceException {
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      final List<Vertex> vertices = loadVertices(readConnection, snapshotPointInTime);
+      final Map<Integer, Set<Integer>> connections = loadAllConnections(readConnection, vertices, snapshotPointInTime);
+      return new DependencyGraph(vertices, connections, snapshotPointInTime);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+  }
+
+  /**
+   * Loads the part of the dependency graph at a point in time which lies
+   * within a number of hops upstream or downstream of the given variables. The
+   * graph is walked in the database one hop per query, so only the variables
+   * of the neighbourhood are loaded. Connections to variables outside of the
+   * neighbourhood are omitted.
+   *
+   * @param variableIds
+   *          the ids of the variables in the center of the neighbourhood
+   * @param depth
+   *          the maximum number of hops from the center
+   * @param pointInTime
+   *          a point in time
+   * @return the neighbourhood, which is not cached as it is only a part of the
+   *         graph
+   * @throws PersistenceException
+   *           if the neighbourhood could not be loaded
+   */
+  public DependencyGraph getNeighbourhood(final Set<UUID> variableIds, final int depth, final int pointInTime) throws PersistenceException {
+    final int snapshotPointInTime = getSnapshotPointInTime(pointInTime);
+    final List<Vertex> vertices = new ArrayList<>();
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      Set<Integer> downstream = loadVariableIds(readConnection, variableIds);
+      Set<Integer> upstream = downstream;
+      Set<Integer> added = downstream;
+
+      for (int hop = 0; !added.isEmpty(); hop++) {
+        loadNeighbourhoodVertices(readConnection, added, snapshotPointInTime, vertices, connections);
+
+        if (hop == depth) {
+          break;
+        }
+
+        final Set<Integer> nextDownstream = new HashSet<>();
+
+        for (final int id : downstream) {
+          final Set<Integer> connected = connections.get(id);
+
+          if (connected != null) {
+            nextDownstream.addAll(connected);
+          }
+        }
+
+        final Set<Integer> nextUpstream = loadUpstreamIds(readConnection, upstream, snapshotPointInTime);
+
+        nextDownstream.removeAll(connections.keySet());
+        nextUpstream.removeAll(connections.keySet());
+
+        downstream = nextDownstream;
+        upstream = nextUpstream;
+        added = new HashSet<>(nextDownstream);
+        added.addAll(nextUpstream);
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+
+    for (final Set<Integer> connected : connections.values()) {
+      connected.retainAll(connections.keySet());
+    }
+
+    return new DependencyGraph(vertices, connections, snapshotPointInTime);
+  }
+
+  private static Set<Integer> loadVariableIds(final Connection readConnection, final Set<UUID> variableIds) throws SQLException {
+    final Set<Integer> ids = new HashSet<>();
+
+    if (variableIds.isEmpty()) {
+      return ids;
+    }
+
+    final StringBuilder query = new StringBuilder("SELECT idVariable FROM variable WHERE variableId IN ("); //$NON-NLS-1$
+    String separator = ""; //$NON-NLS-1$
+
+    for (int i = 0; i < variableIds.size(); i++) {
+      query.append(separator).append('?');
+      separator = ", "; //$NON-NLS-1$
+    }
+
+    query.append(')');
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query.toString())) {
+      int index = 1;
+
+      for (final UUID variableId : variableIds) {
+        stmt.setString(index++, variableId.toString());
+      }
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          ids.add(rs.getInt(1));
+        }
+      }
+    }
+
+    return ids;
+  }
+
+  /**
+   * Loads the variables with the status which is active at a point in time and
+   * the variables they are connected with. Variables which have been created
+   * after the point in time are skipped.
+   */
+  private void loadNeighbourhoodVertices(final Connection readConnection, final Set<Integer> ids, final int pointInTime, final List<Vertex> vertices, final Map<Integer, Set<Integer>> connections) throws SQLException {
+    final Map<Integer, Integer> statusMap = new HashMap<>();
+    final String query = "SELECT variable.idVariable AS idVariable, variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable.timeFrom AS timeFrom, variable_status.idVariableStatus AS idVariableStatus, variable_status.exception AS exception FROM variable JOIN variable_status ON variable_status.idVariableStatus = (SELECT idVariableStatus FROM variable_status AS active WHERE active.idVariable = variable.idVariable AND active.timeFrom <= ? ORDER BY active.timeFrom DESC LIMIT 1) LEFT JOIN value ON value.idValue = variable_status.idValue WHERE variable.idVariable IN (" + joinIds(ids) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, pointInTime);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
+          vertices.add(new Vertex(idVariable, rs.getInt("timeFrom"), createReVar(rs, pointInTime))); //$NON-NLS-1$
+          statusMap.put(rs.getInt("idVariableStatus"), idVariable); //$NON-NLS-1$
+          connections.put(idVariable, new HashSet<Integer>());
+        }
+      }
+    }
+
+    loadConnections(readConnection, statusMap, connections);
+  }
+
+  /**
+   * Loads the ids of the variables whose status at a point in time is
+   * connected with one of the given variables.
+   */
+  private static Set<Integer> loadUpstreamIds(final Connection readConnection, final Set<Integer> ids, final int pointInTime) throws SQLException {
+    final Set<Integer> upstreamIds = new HashSet<>();
+
+    if (ids.isEmpty()) {
+      return upstreamIds;
+    }
+
+    final String query = "SELECT DISTINCT variable_status.idVariable FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus WHERE variable_dependency.dependentVariable IN (" + joinIds(ids) + ") AND variable_status.timeFrom <= ? AND variable_status.timeTo >= ?"; //$NON-NLS-1$ //$NON-NLS-2$
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, pointInTime);
+      stmt.setInt(2, pointInTime);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          upstreamIds.add(rs.getInt(1));
+        }
+      }
+    }
+
+    return upstreamIds;
+  }
+
+  private static String joinIds(final Set<Integer> ids) {
+    final StringBuilder joined = new StringBuilder();
+    String separator = ""; //$NON-NLS-1$
+
+    for (final int id : ids) {
+      joined.append(separator).append(id);
+      separator = ", "; //$NON-NLS-1$
+    }
+
+    return joined.toString();
+  }
+
+  /**
+   * @return the cache of the dependency graph snapshots
+   */
+  public DependencyGraphCache getGraphCache() {
+    return graphCache;
+  }
+
+  /**
+   * Determines the changes of the dependency graph between two points in time.
+   * The variables which have changed in between are taken from the events, for
+   * each of them the status which is active at the target point in time is
+   * loaded.
+   *
+   * @param fromPointInTime
+   *          the point in time of the graph the delta is applied to
+   * @param toPointInTime
+   *          the target point in time, before or after the first one
+   * @return the delta or <code>null</code>, if the first point in time has been
+   *         removed from the history
+   * @throws PersistenceException
+   *           if the delta could not be loaded
+   */
+  public DependencyGraphDelta getDependencyGraphDelta(final int fromPointInTime, final int toPointInTime) throws PersistenceException {
+    if (fromPointInTime < firstPointInTime || fromPointInTime > committedPointInTime) {
+      return null;
+    }
+
+    final int snapshotPointInTime = getSnapshotPointInTime(toPointInTime);
+    final List<Vertex> updatedVertices = new ArrayList<>();
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+    final Set<Integer> removedVertices = new HashSet<>();
+    final Map<Integer, Integer> statusMap = new HashMap<>();
+
+    final String query = "SELECT variable.idVariable AS idVariable, variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable.timeFrom AS timeFrom, variable_status.idVariableStatus AS idVariableStatus, variable_status.exception AS exception FROM (SELECT DISTINCT idVariable FROM event WHERE pointInTime > ? AND pointInTime <= ?) AS changed JOIN variable ON variable.idVariable = changed.idVariable LEFT JOIN variable_status ON variable_status.idVariableStatus = (SELECT idVariableStatus FROM variable_status AS active WHERE active.idVariable = changed.idVariable AND active.timeFrom <= ? ORDER BY active.timeFrom DESC LIMIT 1) LEFT JOIN value ON value.idValue = variable_status.idValue"; //$NON-NLS-1$
+    final Connection readConnection = readerPool.acquire();
+
+    try {
+      try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+        stmt.setInt(1, Math.min(fromPointInTime, snapshotPointInTime));
+        stmt.setInt(2, Math.max(fromPointInTime, snapshotPointInTime));
+        stmt.setInt(3, snapshotPointInTime);
+
+        try (final ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
+            final int idVariableStatus = rs.getInt("idVariableStatus"); //$NON-NLS-1$
+
+            // variables without an active status have been created after the target point in time
+            if (rs.wasNull()) {
+              removedVertices.add(idVariable);
+              continue;
+            }
+
+            updatedVertices.add(new Vertex(idVariable, rs.getInt("timeFrom"), createReVar(rs, snapshotPointInTime))); //$NON-NLS-1$
+            statusMap.put(idVariableStatus, idVariable);
+            connections.put(idVariable, new HashSet<Integer>());
+          }
+        }
+      }
+
+      loadConnections(readConnection, statusMap, connections);
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      readerPool.release(readConnection);
+    }
+
+    return new DependencyGraphDelta(fromPointInTime, snapshotPointInTime, updatedVertices, connections, removedVertices);
+  }
+
+  private static void loadConnections(final Connection readConnection, final Map<Integer, Integer> statusMap, final Map<Integer, Set<Integer>> connections) throws SQLException {
+    if (statusMap.isEmpty()) {
+      return;
+    }
+
+    final StringBuilder query = new StringBuilder("SELECT idVariableStatus, dependentVariable FROM variable_dependency WHERE idVariableStatus IN ("); //$NON-NLS-1$
+    String separator = ""; //$NON-NLS-1$
+
+    for (final int idVariableStatus : statusMap.keySet()) {
+      query.append(separator).append(idVariableStatus);
+      separator = ", "; //$NON-NLS-1$
+    }
+
+    query.append(')');
+
+    try (final Statement stmt = readConnection.createStatement(); final ResultSet rs = stmt.executeQuery(query.toString())) {
+      while (rs.next()) {
+        final int idVariable = statusMap.get(rs.getInt(1));
+        connections.get(idVariable).add(rs.getInt(2));
+      }
+    }
+  }
+
+  private List<Vertex> loadVertices(final Connection readConnection, final int pointInTime) throws PersistenceException {
+    final List<Vertex> vertices = new ArrayList<>();
+
+    final String query = "SELECT variable.idVariable AS idVariable, variable.variableId AS variableId, variable.variableName AS variableName, variable.reactiveType AS reactiveType, variable.typeSimple AS typeSimple, variable.typeFull AS typeFull, value.valueString AS valueString, variable.timeFrom AS timeFrom, variable_status.exception AS exception FROM variable JOIN variable_status ON variable_status.idVariable = variable.idVariable LEFT JOIN value ON value.idValue = variable_status.idValue WHERE " + ACTIVE_STATUS_CONDITION; //$NON-NLS-1$
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      setActiveStatusParameters(stmt, 1, pointInTime);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
+          final int created = rs.getInt("timeFrom"); //$NON-NLS-1$
+          final ReactiveVariable r = createReVar(rs, pointInTime);
+          final Vertex vertex = new Vertex(idVariable, created, r);
+          vertices.add(vertex);
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+
+    return vertices;
+  }
+
+  private Map<Integer, Set<Integer>> loadAllConnections(final Connection readConnection, final List<Vertex> vertices, final int pointInTime) throws PersistenceException {
+    final Map<Integer, Set<Integer>> connections = new HashMap<>();
+
+    for (final Vertex vertex : vertices) {
+      connections.put(vertex.getId(), new HashSet<Integer>());
+    }
+
+    final String dependencyQuery = "SELECT variable_status.idVariable AS idVariable, variable_dependency.dependentVariable AS dependentVariable FROM variable_dependency JOIN variable_status ON variable_status.idVariableStatus = variable_dependency.idVariableStatus WHERE " + ACTIVE_STATUS_CONDITION; //$NON-NLS-1$
+    try (final PreparedStatement stmt = readConnection.prepareStatement(dependencyQuery)) {
+      setActiveStatusParameters(stmt, 1, pointInTime);
 
       try (final ResultSet rs = stmt.executeQuery()) {
         while (rs.next()) {
           final int idVariable = rs.getInt("idVariable"); //$NON-NLS-1$
           final int dependentId = rs.getInt("dependentVariable"); //$NON-NLS-1$
 
-          if (!vertexMap.containsKey(idVariable)) {
+          if (!connections.containsKey(idVariable)) {
             throw new PersistenceException("vertex for variable with internal id " + idVariable + " is missing"); //$NON-NLS-1$ //$NON-NLS-2$
           }
 
-          final Vertex v = vertexMap.get(idVariable);
-          final Vertex dependent = vertexMap.get(dependentId);
-          v.addConnectedVertex(dependent);
+          connections.get(idVariable).add(dependentId);
         }
       }
     }
     catch (final SQLException e) {
       throw new PersistenceException(e);
     }
+
+    return connections;
   }
 
   public void close() {
+    notifier.close();
+    prefetcher.close();
+    graphCache.clear();
+    graphHistory.clear();
+    compactor.close();
+    readerPool.close();
+    spillStore.close();
+
     if (connection != null) {
       try {
         connection.close();
@@ -608,9 +1957,17 @@ public class DatabaseHelper {
         Activator.log(e);
       }
     }
+
+    if (databaseFile != null && databaseFile.exists() && !databaseFile.delete()) {
+      Activator.logMessage("unable to delete database file " + databaseFile); //$NON-NLS-1$
+    }
   }
 
   protected String getJdbcUrl() {
+    if (databaseFile != null) {
+      return "jdbc:sqlite:" + databaseFile.getAbsolutePath(); //$NON-NLS-1$
+    }
+
     // shared in-memory database
     return "jdbc:sqlite:file:" + sessionId + "?mode=memory&cache=shared"; //$NON-NLS-1$ //$NON-NLS-2$
   }
@@ -2,33 +2,226 @@ package de.tuda.stg.reclipse.graphview.model.persistence;
 
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Immutable snapshot of the dependency graph at a point in time. The vertices
+ * and connections are kept in persistent maps, so graphs which are derived from
+ * other graphs share everything which has not changed and deriving a graph
+ * only costs time proportional to the number of changes.
+ */
 public class DependencyGraph {
 
-  private final Set<Vertex> vertices;
+  /**
+   * Point in time of graphs which do not belong to the history.
+   */
+  public static final int NO_POINT_IN_TIME = -1;
 
-  public DependencyGraph(final Collection<? extends Vertex> vertices) {
-    this.vertices = new HashSet<>(vertices);
+  private final PersistentIntMap<Vertex> vertices;
+  private final PersistentIntMap<Set<Integer>> connections;
+  private final int pointInTime;
+
+  /**
+   * @param vertices
+   *          the vertices of the graph
+   * @param connections
+   *          the ids of the vertices each vertex is connected with, vertices
+   *          without connections may be omitted
+   * @param pointInTime
+   *          the point in time of the graph
+   */
+  public DependencyGraph(final Collection<? extends Vertex> vertices, final Map<Integer, Set<Integer>> connections, final int pointInTime) {
+    PersistentIntMap<Vertex> vertexMap = PersistentIntMap.empty();
+    PersistentIntMap<Set<Integer>> connectionMap = PersistentIntMap.empty();
+
+    for (final Vertex vertex : vertices) {
+      vertexMap = vertexMap.put(vertex.getId(), vertex);
+    }
+
+    for (final Map.Entry<Integer, Set<Integer>> entry : connections.entrySet()) {
+      connectionMap = connectionMap.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
+    }
+
+    this.vertices = vertexMap;
+    this.connections = connectionMap;
+    this.pointInTime = pointInTime;
+  }
+
+  DependencyGraph(final PersistentIntMap<Vertex> vertices, final PersistentIntMap<Set<Integer>> connections, final int pointInTime) {
+    this.vertices = vertices;
+    this.connections = connections;
+    this.pointInTime = pointInTime;
   }
 
   public static DependencyGraph emptyGraph() {
-    return new DependencyGraph(Collections.<Vertex> emptySet());
+    return new DependencyGraph(Collections.<Vertex> emptySet(), Collections.<Integer, Set<Integer>> emptyMap(), NO_POINT_IN_TIME);
+  }
+
+  public Collection<Vertex> getVertices() {
+    return vertices.values();
+  }
+
+  /**
+   * @param id
+   *          the internal id of a variable
+   * @return the vertex of the variable or <code>null</code>
+   */
+  public Vertex getVertex(final int id) {
+    return vertices.get(id);
+  }
+
+  /**
+   * @param id
+   *          the internal id of a variable
+   * @return the ids of the vertices the vertex of the variable is connected
+   *         with
+   */
+  public Set<Integer> getConnectedIds(final int id) {
+    final Set<Integer> connected = connections.get(id);
+    return connected != null ? connected : Collections.<Integer> emptySet();
+  }
+
+  /**
+   * @param vertex
+   *          a vertex of the graph
+   * @return the vertices the vertex is connected with
+   */
+  public Set<Vertex> getConnectedVertices(final Vertex vertex) {
+    final Set<Vertex> connected = new HashSet<>();
+
+    for (final int connectedId : getConnectedIds(vertex.getId())) {
+      connected.add(vertices.get(connectedId));
+    }
+
+    return connected;
+  }
+
+  PersistentIntMap<Vertex> getVertexMap() {
+    return vertices;
+  }
+
+  PersistentIntMap<Set<Integer>> getConnectionMap() {
+    return connections;
+  }
+
+  /**
+   * @return the point in time of the graph
+   */
+  public int getPointInTime() {
+    return pointInTime;
+  }
+
+  /**
+   * A delta contains at most one variable per point in time, so deriving the
+   * graph at another point in time from this graph is cheaper than loading it
+   * completely as long as fewer points in time lie in between than the graph
+   * has vertices.
+   *
+   * @param otherPointInTime
+   *          another point in time
+   * @return <code>true</code>, if the graph at the other point in time should
+   *         be derived from this graph by a delta
+   */
+  public boolean isNearby(final int otherPointInTime) {
+    if (pointInTime == NO_POINT_IN_TIME) {
+      return false;
+    }
+
+    return Math.abs(otherPointInTime - pointInTime) <= vertices.size();
   }
 
-  public Set<Vertex> getVertices() {
-    return Collections.unmodifiableSet(vertices);
+  /**
+   * Creates the graph at the target point in time of the delta. The vertices
+   * and connections which are not part of the delta are shared with this graph,
+   * which stays unchanged.
+   *
+   * @param delta
+   *          a delta starting at the point in time of this graph
+   * @return the graph at the target point in time of the delta
+   */
+  public DependencyGraph applyDelta(final DependencyGraphDelta delta) {
+    if (delta.getFromPointInTime() != pointInTime) {
+      throw new IllegalArgumentException("delta starts at " + delta.getFromPointInTime() + " instead of " + pointInTime); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    PersistentIntMap<Vertex> newVertices = vertices;
+    PersistentIntMap<Set<Integer>> newConnections = connections;
+
+    for (final int id : delta.getRemovedVertices()) {
+      newVertices = newVertices.remove(id);
+      newConnections = newConnections.remove(id);
+    }
+
+    for (final Vertex updated : delta.getUpdatedVertices()) {
+      newVertices = newVertices.put(updated.getId(), updated);
+      newConnections = newConnections.put(updated.getId(), delta.getConnections(updated.getId()));
+    }
+
+    return new DependencyGraph(newVertices, newConnections, delta.getToPointInTime());
   }
 
+  /**
+   * Determines the delta which turns this graph into another graph. The parts
+   * which are shared by both graphs are skipped without comparing them.
+   *
+   * @param other
+   *          the graph at another point in time
+   * @return the delta from this graph to the other graph
+   */
+  public DependencyGraphDelta diff(final DependencyGraph other) {
+    final List<Vertex> updatedVertices = new ArrayList<>();
+    final Map<Integer, Set<Integer>> updatedConnections = new HashMap<>();
+    final Set<Integer> removedVertices = new HashSet<>();
+    final Set<Integer> differentIds = new HashSet<>();
+
+    vertices.collectDifferentKeys(other.vertices, differentIds);
+    connections.collectDifferentKeys(other.connections, differentIds);
+
+    for (final int id : differentIds) {
+      final Vertex oldVertex = vertices.get(id);
+      final Vertex vertex = other.getVertex(id);
+
+      if (vertex == null) {
+        if (oldVertex != null) {
+          removedVertices.add(id);
+        }
+
+        continue;
+      }
+
+      final Set<Integer> connected = other.getConnectedIds(id);
+
+      if (oldVertex == null || !hasSameState(oldVertex.getVariable(), vertex.getVariable()) || !getConnectedIds(id).equals(connected)) {
+        updatedVertices.add(vertex);
+        updatedConnections.put(id, connected);
+      }
+    }
+
+    return new DependencyGraphDelta(pointInTime, other.getPointInTime(), updatedVertices, updatedConnections, removedVertices);
+  }
+
+  private static boolean hasSameState(final ReactiveVariable variable, final ReactiveVariable other) {
+    return Objects.equals(variable.getValueString(), other.getValueString()) && variable.isExceptionOccured() == other.isExceptionOccured();
+  }
+
+  /**
+   * A variable of the graph. The variable keeps the point in time at which it
+   * has been loaded, which lies before the point in time of the graph if the
+   * vertex is shared with an earlier graph.
+   */
   public static class Vertex {
 
     private final int id;
     private final int created;
     private final ReactiveVariable variable;
-    private final Set<Vertex> connected = new HashSet<>();
 
     public Vertex(final int id, final int created, final ReactiveVariable variable) {
       this.id = id;
@@ -36,14 +229,6 @@ public class DependencyGraph {
       this.variable = variable;
     }
 
-    public void addConnectedVertex(final Vertex v) {
-      connected.add(v);
-    }
-
-    public Set<Vertex> getConnectedVertices() {
-      return Collections.unmodifiableSet(connected);
-    }
-
     public int getId() {
       return id;
     }
@@ -0,0 +1,128 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded cache of dependency graph snapshots keyed by point in time. The
+ * least recently used snapshot is evicted first.
+ *
+ * <p>
+ * Only committed points in time are cached. Their graphs never change, so the
+ * entries never have to be invalidated, only the points in time which are
+ * removed from the history by a compaction are dropped.
+ * </p>
+ */
+public class DependencyGraphCache {
+
+  private final int capacity;
+  private final Map<Integer, DependencyGraph> graphs;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+
+  public DependencyGraphCache(final int capacity) {
+    this.capacity = capacity;
+    this.graphs = new LinkedHashMap<Integer, DependencyGraph>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 2584717413569741452L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Integer, DependencyGraph> eldest) {
+        return size() > DependencyGraphCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * @param pointInTime
+   *          a committed point in time
+   * @return the cached graph or <code>null</code>
+   */
+  public synchronized DependencyGraph get(final int pointInTime) {
+    final DependencyGraph graph = graphs.get(pointInTime);
+
+    if (graph != null) {
+      hitCount++;
+    }
+    else {
+      missCount++;
+    }
+
+    return graph;
+  }
+
+  /**
+   * Finds the cached graph whose point in time is nearest to the given one, so
+   * that the graph at the given point in time can be derived from it.
+   *
+   * @param pointInTime
+   *          a point in time
+   * @return the nearest cached graph or <code>null</code>, if the cache is
+   *         empty
+   */
+  public synchronized DependencyGraph getNearest(final int pointInTime) {
+    DependencyGraph nearest = null;
+
+    // iterating does not change the access order
+    for (final DependencyGraph graph : graphs.values()) {
+      if (nearest == null || Math.abs(graph.getPointInTime() - pointInTime) < Math.abs(nearest.getPointInTime() - pointInTime)) {
+        nearest = graph;
+      }
+    }
+
+    return nearest;
+  }
+
+  /**
+   * Checks whether a graph is cached without counting a hit or miss.
+   *
+   * @param pointInTime
+   *          a committed point in time
+   * @return <code>true</code>, if the graph at the point in time is cached
+   */
+  public synchronized boolean contains(final int pointInTime) {
+    return graphs.containsKey(pointInTime);
+  }
+
+  public synchronized void put(final DependencyGraph graph) {
+    graphs.put(graph.getPointInTime(), graph);
+  }
+
+  /**
+   * Drops the graphs of the points in time before the given one.
+   *
+   * @param firstPointInTime
+   *          the first point in time of the history
+   */
+  public synchronized void removeBefore(final int firstPointInTime) {
+    final Iterator<Integer> iterator = graphs.keySet().iterator();
+
+    while (iterator.hasNext()) {
+      if (iterator.next() < firstPointInTime) {
+        iterator.remove();
+      }
+    }
+  }
+
+  public synchronized void clear() {
+    graphs.clear();
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public synchronized int getSize() {
+    return graphs.size();
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+}
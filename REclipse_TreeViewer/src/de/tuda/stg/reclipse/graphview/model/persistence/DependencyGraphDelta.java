@@ -0,0 +1,70 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes of the dependency graph between two points in time. Only the
+ * variables which have changed in between are included, so the size of a delta
+ * depends on the number of events and not on the size of the graph.
+ */
+public class DependencyGraphDelta {
+
+  private final int fromPointInTime;
+  private final int toPointInTime;
+  private final List<Vertex> updatedVertices;
+  private final Map<Integer, Set<Integer>> connections;
+  private final Set<Integer> removedVertices;
+
+  public DependencyGraphDelta(final int fromPointInTime, final int toPointInTime, final List<Vertex> updatedVertices, final Map<Integer, Set<Integer>> connections,
+          final Set<Integer> removedVertices) {
+    this.fromPointInTime = fromPointInTime;
+    this.toPointInTime = toPointInTime;
+    this.updatedVertices = updatedVertices;
+    this.connections = connections;
+    this.removedVertices = removedVertices;
+  }
+
+  public int getFromPointInTime() {
+    return fromPointInTime;
+  }
+
+  public int getToPointInTime() {
+    return toPointInTime;
+  }
+
+  /**
+   * @return the vertices which have been added or whose variable has changed,
+   *         without their connections
+   */
+  public List<Vertex> getUpdatedVertices() {
+    return Collections.unmodifiableList(updatedVertices);
+  }
+
+  /**
+   * @param id
+   *          the id of an updated vertex
+   * @return the ids of all vertices the updated vertex is connected with at the
+   *         target point in time
+   */
+  public Set<Integer> getConnections(final int id) {
+    final Set<Integer> connected = connections.get(id);
+    return connected != null ? Collections.unmodifiableSet(connected) : Collections.<Integer> emptySet();
+  }
+
+  /**
+   * @return the ids of the vertices which do not exist at the target point in
+   *         time
+   */
+  public Set<Integer> getRemovedVertices() {
+    return Collections.unmodifiableSet(removedVertices);
+  }
+
+  public boolean isEmpty() {
+    return updatedVertices.isEmpty() && removedVertices.isEmpty();
+  }
+}
@@ -0,0 +1,147 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory versions of the dependency graph for a range of consecutive points
+ * in time. Every version is an immutable {@link DependencyGraph} which shares
+ * all unchanged vertices and connections with its predecessor, so a version
+ * costs memory proportional to the number of variables which have changed at
+ * its point in time. Any version is found in constant time, its vertices in
+ * logarithmic time.
+ */
+public class DependencyGraphHistory {
+
+  private final List<DependencyGraph> versions = new ArrayList<>();
+  private int firstPointInTime = DependencyGraph.NO_POINT_IN_TIME;
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the version at the point in time or <code>null</code>, if the
+   *         point in time is not covered
+   */
+  public synchronized DependencyGraph getVersion(final int pointInTime) {
+    if (versions.isEmpty() || pointInTime < firstPointInTime || pointInTime > getLastPointInTime()) {
+      return null;
+    }
+
+    return versions.get(pointInTime - firstPointInTime);
+  }
+
+  public synchronized boolean isEmpty() {
+    return versions.isEmpty();
+  }
+
+  /**
+   * @return the first covered point in time
+   */
+  public synchronized int getFirstPointInTime() {
+    return firstPointInTime;
+  }
+
+  /**
+   * @return the last covered point in time
+   */
+  public synchronized int getLastPointInTime() {
+    return firstPointInTime + versions.size() - 1;
+  }
+
+  /**
+   * Discards all versions and starts again with the given graph.
+   *
+   * @param baseline
+   *          the graph at the first point in time to cover
+   */
+  public synchronized void reset(final DependencyGraph baseline) {
+    versions.clear();
+    versions.add(baseline);
+    firstPointInTime = baseline.getPointInTime();
+  }
+
+  /**
+   * Replaces all versions by the versions of another history.
+   *
+   * @param other
+   *          another history, which is not changed afterwards
+   */
+  public synchronized void replaceWith(final DependencyGraphHistory other) {
+    versions.clear();
+    versions.addAll(other.versions);
+    firstPointInTime = other.firstPointInTime;
+  }
+
+  /**
+   * Adds the version at a later point in time. The points in time in between
+   * get the same graph as the last version.
+   *
+   * @param pointInTime
+   *          a point in time after the last covered one
+   * @param updatedVertices
+   *          the vertices which have been added or changed at the point in
+   *          time
+   * @param connections
+   *          the ids of the vertices each updated vertex is connected with
+   */
+  public synchronized void addVersion(final int pointInTime, final List<Vertex> updatedVertices, final Map<Integer, Set<Integer>> connections) {
+    extendTo(pointInTime - 1);
+
+    final DependencyGraph lastVersion = versions.get(versions.size() - 1);
+    PersistentIntMap<Vertex> vertices = lastVersion.getVertexMap();
+    PersistentIntMap<Set<Integer>> connectionMap = lastVersion.getConnectionMap();
+
+    for (final Vertex vertex : updatedVertices) {
+      final Set<Integer> connected = connections.get(vertex.getId());
+      vertices = vertices.put(vertex.getId(), vertex);
+      connectionMap = connectionMap.put(vertex.getId(), connected != null ? Collections.unmodifiableSet(connected) : Collections.<Integer> emptySet());
+    }
+
+    versions.add(new DependencyGraph(vertices, connectionMap, pointInTime));
+  }
+
+  /**
+   * Covers the points in time up to the given one with the graph of the last
+   * version.
+   *
+   * @param pointInTime
+   *          the last point in time to cover
+   */
+  public synchronized void extendTo(final int pointInTime) {
+    final DependencyGraph lastVersion = versions.get(versions.size() - 1);
+
+    for (int p = getLastPointInTime() + 1; p <= pointInTime; p++) {
+      versions.add(new DependencyGraph(lastVersion.getVertexMap(), lastVersion.getConnectionMap(), p));
+    }
+  }
+
+  /**
+   * Discards the versions before the given point in time.
+   *
+   * @param pointInTime
+   *          the first point in time to keep
+   */
+  public synchronized void removeBefore(final int pointInTime) {
+    if (versions.isEmpty() || pointInTime <= firstPointInTime) {
+      return;
+    }
+
+    if (pointInTime > getLastPointInTime()) {
+      clear();
+      return;
+    }
+
+    versions.subList(0, pointInTime - firstPointInTime).clear();
+    firstPointInTime = pointInTime;
+  }
+
+  public synchronized void clear() {
+    versions.clear();
+    firstPointInTime = DependencyGraph.NO_POINT_IN_TIME;
+  }
+}
@@ -0,0 +1,121 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifies the {@link IDependencyGraphListener} about changes of the history.
+ * Changes are coalesced into batches, which are delivered on a separate thread
+ * at most once per notification interval, so writers never wait for the
+ * listeners.
+ */
+public class DependencyGraphNotifier {
+
+  /**
+   * Minimum time between two notifications in milliseconds.
+   */
+  private static final long NOTIFICATION_INTERVAL = 50;
+
+  private final List<IDependencyGraphListener> listeners = new CopyOnWriteArrayList<>();
+  private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(r, "Reclipse Dependency Graph Notifier"); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+  private final Object lock = new Object();
+
+  private Set<DependencyGraphHistoryType> pendingTypes = EnumSet.noneOf(DependencyGraphHistoryType.class);
+  private int pendingPointInTime = -1;
+  private boolean deliveryScheduled = false;
+  private long lastDelivery = 0;
+
+  public void addListener(final IDependencyGraphListener listener) {
+    if (!listeners.contains(listener)) {
+      listeners.add(listener);
+    }
+  }
+
+  public void removeListener(final IDependencyGraphListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Records a change of the history and schedules its delivery, unless a
+   * delivery is already pending. Returns immediately.
+   *
+   * @param type
+   *          the type of the change
+   * @param pointInTime
+   *          the point in time of the change
+   */
+  public void notifyChanged(final DependencyGraphHistoryType type, final int pointInTime) {
+    final long delay;
+
+    synchronized (lock) {
+      pendingTypes.add(type);
+      pendingPointInTime = Math.max(pendingPointInTime, pointInTime);
+
+      if (deliveryScheduled) {
+        return;
+      }
+
+      deliveryScheduled = true;
+      delay = Math.max(0, lastDelivery + NOTIFICATION_INTERVAL - System.currentTimeMillis());
+    }
+
+    try {
+      executorService.schedule(new Runnable() {
+
+        @Override
+        public void run() {
+          deliver();
+        }
+      }, delay, TimeUnit.MILLISECONDS);
+    }
+    catch (final RejectedExecutionException e) {
+      // the notifier has been closed
+    }
+  }
+
+  private void deliver() {
+    final Set<DependencyGraphHistoryType> types;
+    final int pointInTime;
+
+    synchronized (lock) {
+      types = Collections.unmodifiableSet(pendingTypes);
+      pointInTime = pendingPointInTime;
+      pendingTypes = EnumSet.noneOf(DependencyGraphHistoryType.class);
+      deliveryScheduled = false;
+      lastDelivery = System.currentTimeMillis();
+    }
+
+    for (final IDependencyGraphListener l : listeners) {
+      try {
+        l.onDependencyGraphChanged(types, pointInTime);
+      }
+      catch (final RuntimeException e) {
+        Activator.log(e);
+      }
+    }
+  }
+
+  public void close() {
+    executorService.shutdownNow();
+  }
+}
@@ -0,0 +1,178 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads the dependency graphs of the points in time which are likely to be
+ * shown next into the graph cache, while the user steps or scrubs through the
+ * history.
+ *
+ * <p>
+ * The direction and speed of the navigation are taken from the distance
+ * between the shown points in time, smoothed over the last steps. Large jumps,
+ * for example to the result of a query, reset the prediction, afterwards both
+ * neighbours are prefetched. Prefetches which have not started yet are
+ * cancelled when the next point in time is shown.
+ * </p>
+ *
+ * <p>
+ * The prefetcher also creates the in-memory graph history, so that showing
+ * the first graph does not wait for it.
+ * </p>
+ */
+public class DependencyGraphPrefetcher {
+
+  /**
+   * Number of points in time which are prefetched in the direction of the
+   * navigation.
+   */
+  private static final int PREFETCH_COUNT = 3;
+
+  /**
+   * Steps which are larger are jumps and not part of a continuous navigation.
+   */
+  private static final int MAX_STEP = 64;
+
+  /**
+   * Weight of the last step in the smoothed step.
+   */
+  private static final double SMOOTHING = 0.5;
+
+  private final DatabaseHelper dbHelper;
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(r, "Reclipse Dependency Graph Prefetcher"); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+  private final List<Future<?>> pendingPrefetches = new ArrayList<>();
+  private final AtomicBoolean historyPending = new AtomicBoolean(false);
+
+  private int lastPointInTime = DependencyGraph.NO_POINT_IN_TIME;
+  private double step = 0;
+
+  /**
+   * @param dbHelper
+   *          the database of the session
+   */
+  public DependencyGraphPrefetcher(final DatabaseHelper dbHelper) {
+    this.dbHelper = dbHelper;
+  }
+
+  /**
+   * Called when the graph at a point in time is shown. Cancels the pending
+   * prefetches and schedules the prefetches of the points in time which are
+   * likely to be shown next.
+   *
+   * @param pointInTime
+   *          the shown point in time
+   */
+  public synchronized void onPointInTimeShown(final int pointInTime) {
+    if (pointInTime == lastPointInTime) {
+      return;
+    }
+
+    for (final Future<?> prefetch : pendingPrefetches) {
+      prefetch.cancel(false);
+    }
+
+    pendingPrefetches.clear();
+
+    for (final int predictedPointInTime : predict(pointInTime)) {
+      pendingPrefetches.add(executorService.submit(new Runnable() {
+
+        @Override
+        public void run() {
+          try {
+            dbHelper.prefetchDependencyGraph(predictedPointInTime);
+          }
+          catch (final PersistenceException e) {
+            Activator.log(e);
+          }
+        }
+      }));
+    }
+
+    lastPointInTime = pointInTime;
+  }
+
+  private Set<Integer> predict(final int pointInTime) {
+    final int lastStep = pointInTime - lastPointInTime;
+
+    if (lastPointInTime == DependencyGraph.NO_POINT_IN_TIME || Math.abs(lastStep) > MAX_STEP) {
+      step = 0;
+    }
+    else if (Math.signum(lastStep) != Math.signum(step)) {
+      step = lastStep;
+    }
+    else {
+      step = SMOOTHING * lastStep + (1 - SMOOTHING) * step;
+    }
+
+    final List<Integer> candidates = new ArrayList<>();
+
+    if (step == 0) {
+      candidates.add(pointInTime + 1);
+      candidates.add(pointInTime - 1);
+    }
+    else {
+      for (int i = 1; i <= PREFETCH_COUNT; i++) {
+        candidates.add(pointInTime + (int) Math.round(step * i));
+      }
+    }
+
+    // only committed points in time are cached
+    final Set<Integer> predicted = new LinkedHashSet<>();
+
+    for (final int candidate : candidates) {
+      if (candidate != pointInTime && candidate >= dbHelper.getFirstPointInTime() && candidate <= dbHelper.getLastPointInTime()) {
+        predicted.add(candidate);
+      }
+    }
+
+    return predicted;
+  }
+
+  /**
+   * Creates the graph history of the database in the background, unless this
+   * is already pending.
+   */
+  public void prefetchGraphHistory() {
+    if (!historyPending.compareAndSet(false, true)) {
+      return;
+    }
+
+    executorService.execute(new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          dbHelper.createGraphHistory();
+        }
+        catch (final PersistenceException e) {
+          Activator.log(e);
+        }
+        finally {
+          historyPending.set(false);
+        }
+      }
+    });
+  }
+
+  public void close() {
+    executorService.shutdownNow();
+  }
+}
@@ -0,0 +1,186 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+
+import java.util.UUID;
+
+/**
+ * Forward-only cursor over the events of a range of points in time. The events
+ * are read in chunks of fixed size into reused arrays, so a pass over the whole
+ * history is one linear scan with constant memory. The rows are not turned
+ * into variables, ids are only parsed when they are requested.
+ *
+ * <pre>
+ * final EventCursor cursor = persistence.getEventCursor(from, to);
+ *
+ * while (cursor.next()) {
+ *   ... cursor.getVariableName() ... cursor.getValueString() ...
+ * }
+ * </pre>
+ *
+ * A reader connection is only held while a chunk is read, so the cursor does
+ * not have to be closed and concurrent writes are not blocked between chunks.
+ */
+public class EventCursor {
+
+  /**
+   * Number of events read with one query.
+   */
+  public static final int CHUNK_SIZE = 1024;
+
+  private static final DependencyGraphHistoryType[] TYPES = DependencyGraphHistoryType.values();
+
+  private final DatabaseHelper dbHelper;
+  private final int toPointInTime;
+
+  private final int[] pointsInTime = new int[CHUNK_SIZE];
+  private final int[] types = new int[CHUNK_SIZE];
+  private final String[] variableIds = new String[CHUNK_SIZE];
+  private final String[] variableNames = new String[CHUNK_SIZE];
+  private final String[] valueStrings = new String[CHUNK_SIZE];
+  private final int[] valueIds = new int[CHUNK_SIZE];
+  private final int[] exceptionIds = new int[CHUNK_SIZE];
+  private final String[] dependentIds = new String[CHUNK_SIZE];
+  private final String[] dependentNames = new String[CHUNK_SIZE];
+
+  private int size = 0;
+  private int index = -1;
+  private int lastReadPointInTime;
+  private boolean exhausted = false;
+
+  /**
+   * @param dbHelper
+   *          the database of the session
+   * @param fromPointInTime
+   *          the first point in time of the range
+   * @param toPointInTime
+   *          the last point in time of the range
+   */
+  EventCursor(final DatabaseHelper dbHelper, final int fromPointInTime, final int toPointInTime) {
+    this.dbHelper = dbHelper;
+    this.toPointInTime = toPointInTime;
+    this.lastReadPointInTime = fromPointInTime - 1;
+  }
+
+  /**
+   * Moves to the next event and reads the next chunk if necessary. If a chunk
+   * cannot be read, the cursor stays before it, so calling the method again
+   * retries the read.
+   *
+   * @return <code>false</code>, if there are no more events in the range
+   * @throws IllegalStateException
+   *           if the next chunk could not be read, caused by the
+   *           {@link PersistenceException}
+   */
+  public boolean next() {
+    index++;
+
+    if (index < size) {
+      return true;
+    }
+
+    if (exhausted) {
+      return false;
+    }
+
+    final int chunkStart = lastReadPointInTime;
+    size = 0;
+    index = 0;
+
+    try {
+      dbHelper.readEvents(this, chunkStart, toPointInTime, CHUNK_SIZE);
+    }
+    catch (final PersistenceException e) {
+      // the events of the failed chunk are dropped and read again by the next call
+      size = 0;
+      index = -1;
+      lastReadPointInTime = chunkStart;
+      throw new IllegalStateException(e);
+    }
+
+    if (size < CHUNK_SIZE) {
+      exhausted = true;
+    }
+
+    return size > 0;
+  }
+
+  /**
+   * Appends an event to the current chunk.
+   */
+  void add(final int pointInTime, final int type, final String variableId, final String variableName, final String valueString, final int valueId, final int exceptionId, final String dependentId, final String dependentName) {
+    pointsInTime[size] = pointInTime;
+    types[size] = type;
+    variableIds[size] = variableId;
+    variableNames[size] = variableName;
+    valueStrings[size] = valueString;
+    valueIds[size] = valueId;
+    exceptionIds[size] = exceptionId;
+    dependentIds[size] = dependentId;
+    dependentNames[size] = dependentName;
+
+    size++;
+    lastReadPointInTime = pointInTime;
+  }
+
+  public int getPointInTime() {
+    return pointsInTime[index];
+  }
+
+  public DependencyGraphHistoryType getType() {
+    return TYPES[types[index]];
+  }
+
+  public UUID getVariableId() {
+    return UUID.fromString(variableIds[index]);
+  }
+
+  public String getVariableName() {
+    return variableNames[index];
+  }
+
+  /**
+   * @return the value of the variable after the event, which might be
+   *         abbreviated
+   */
+  public String getValueString() {
+    return valueStrings[index];
+  }
+
+  /**
+   * @return the id of the value of the variable after the event in the value
+   *         dictionary or 0, if the variable has no value
+   */
+  public int getValueId() {
+    return valueIds[index];
+  }
+
+  public boolean isExceptionOccured() {
+    return exceptionIds[index] != 0;
+  }
+
+  /**
+   * @return the id of the exception of the variable after the event or 0, if no
+   *         exception occurred
+   */
+  public int getExceptionId() {
+    return exceptionIds[index];
+  }
+
+  /**
+   * @return the id of the variable the variable has been attached to or
+   *         <code>null</code>, if the event is no attachment
+   */
+  public UUID getDependentId() {
+    final String dependentId = dependentIds[index];
+    return dependentId != null ? UUID.fromString(dependentId) : null;
+  }
+
+  /**
+   * @return the name of the variable the variable has been attached to or
+   *         <code>null</code>, if the event is no attachment
+   */
+  public String getDependentName() {
+    return dependentNames[index];
+  }
+}
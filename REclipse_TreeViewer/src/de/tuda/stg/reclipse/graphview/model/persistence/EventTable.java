@@ -0,0 +1,210 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of the events of a session, which is kept in one array per
+ * column. Values and exceptions are kept by their ids and the variables by
+ * numbers, which are assigned to their names in the order of their first
+ * event. So an event costs a few bytes, a scan over all events does not touch
+ * the database and the numbers can be used to index arrays.
+ * <p>
+ * The table is filled on demand: {@link #update()} appends the events which
+ * have been committed since the last update and drops the events which have
+ * been removed by the compaction. The table is not thread-safe, the
+ * {@link HistoryQueryEngine} serializes all accesses.
+ */
+public class EventTable {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private static final DependencyGraphHistoryType[] TYPES = DependencyGraphHistoryType.values();
+
+  public static final int NO_VARIABLE = -1;
+
+  private final DatabaseHelper dbHelper;
+  private final List<String> names = new ArrayList<>();
+  private final Map<String, Integer> variableNumbers = new HashMap<>();
+
+  private int[] pointsInTime = new int[INITIAL_CAPACITY];
+  private int[] types = new int[INITIAL_CAPACITY];
+  private int[] variables = new int[INITIAL_CAPACITY];
+  private int[] valueIds = new int[INITIAL_CAPACITY];
+  private int[] exceptionIds = new int[INITIAL_CAPACITY];
+  private int[] dependents = new int[INITIAL_CAPACITY];
+
+  private int size = 0;
+  private int lastPointInTime = DependencyGraph.NO_POINT_IN_TIME;
+
+  public EventTable(final DatabaseHelper dbHelper) {
+    this.dbHelper = dbHelper;
+  }
+
+  /**
+   * Appends the events which have been committed since the last update and
+   * removes the events which are no longer part of the history.
+   */
+  public void update() {
+    removeBefore(dbHelper.getFirstPointInTime());
+
+    final EventCursor cursor = new EventCursor(dbHelper, lastPointInTime + 1, Integer.MAX_VALUE);
+
+    while (cursor.next()) {
+      add(cursor);
+    }
+  }
+
+  private void add(final EventCursor cursor) {
+    if (size == pointsInTime.length) {
+      grow();
+    }
+
+    pointsInTime[size] = cursor.getPointInTime();
+    types[size] = cursor.getType().ordinal();
+    variables[size] = number(cursor.getVariableName());
+    valueIds[size] = cursor.getValueId();
+    exceptionIds[size] = cursor.getExceptionId();
+    dependents[size] = number(cursor.getDependentName());
+
+    lastPointInTime = pointsInTime[size];
+    size++;
+  }
+
+  private int number(final String name) {
+    if (name == null) {
+      return NO_VARIABLE;
+    }
+
+    final Integer number = variableNumbers.get(name);
+
+    if (number != null) {
+      return number;
+    }
+
+    names.add(name);
+    variableNumbers.put(name, names.size() - 1);
+    return names.size() - 1;
+  }
+
+  private void grow() {
+    final int capacity = pointsInTime.length * 2;
+    pointsInTime = Arrays.copyOf(pointsInTime, capacity);
+    types = Arrays.copyOf(types, capacity);
+    variables = Arrays.copyOf(variables, capacity);
+    valueIds = Arrays.copyOf(valueIds, capacity);
+    exceptionIds = Arrays.copyOf(exceptionIds, capacity);
+    dependents = Arrays.copyOf(dependents, capacity);
+  }
+
+  private void removeBefore(final int pointInTime) {
+    if (size == 0 || pointsInTime[0] >= pointInTime) {
+      return;
+    }
+
+    int removed = Arrays.binarySearch(pointsInTime, 0, size, pointInTime);
+
+    if (removed < 0) {
+      removed = -removed - 1;
+    }
+
+    final int remaining = size - removed;
+    System.arraycopy(pointsInTime, removed, pointsInTime, 0, remaining);
+    System.arraycopy(types, removed, types, 0, remaining);
+    System.arraycopy(variables, removed, variables, 0, remaining);
+    System.arraycopy(valueIds, removed, valueIds, 0, remaining);
+    System.arraycopy(exceptionIds, removed, exceptionIds, 0, remaining);
+    System.arraycopy(dependents, removed, dependents, 0, remaining);
+
+    size = remaining;
+  }
+
+  /**
+   * @return the number of events, the events are numbered in the order of their
+   *         points in time
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the number of the first event after the point in time or
+   *         {@link #size()}, if there is no such event
+   */
+  public int indexAfter(final int pointInTime) {
+    int index = Arrays.binarySearch(pointsInTime, 0, size, pointInTime);
+
+    if (index < 0) {
+      return -index - 1;
+    }
+
+    return index + 1;
+  }
+
+  public int getPointInTime(final int event) {
+    return pointsInTime[event];
+  }
+
+  public DependencyGraphHistoryType getType(final int event) {
+    return TYPES[types[event]];
+  }
+
+  public String getVariableName(final int event) {
+    return names.get(variables[event]);
+  }
+
+  /**
+   * @return the number of the variable of the event, which is smaller than
+   *         {@link #getVariableCount()}
+   */
+  public int getVariableNumber(final int event) {
+    return variables[event];
+  }
+
+  /**
+   * @return the number of variables which have occurred in the events
+   */
+  public int getVariableCount() {
+    return names.size();
+  }
+
+  /**
+   * @param variableNumber
+   *          the number of a variable
+   * @return the name of the variable
+   */
+  public String getNameOfVariable(final int variableNumber) {
+    return names.get(variableNumber);
+  }
+
+  /**
+   * @return the id of the value of the variable after the event in the value
+   *         dictionary or 0, if the variable has no value
+   */
+  public int getValueId(final int event) {
+    return valueIds[event];
+  }
+
+  /**
+   * @return the id of the exception of the variable after the event or 0, if no
+   *         exception occurred
+   */
+  public int getExceptionId(final int event) {
+    return exceptionIds[event];
+  }
+
+  /**
+   * @return the name of the variable the variable has been attached to or
+   *         <code>null</code>, if the event is no attachment
+   */
+  public String getDependentName(final int event) {
+    return dependents[event] != NO_VARIABLE ? names.get(dependents[event]) : null;
+  }
+}
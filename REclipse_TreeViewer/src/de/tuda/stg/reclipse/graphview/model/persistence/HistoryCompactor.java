@@ -0,0 +1,124 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Enforces the retention policy of a session. Once the history exceeds the
+ * configured number of points in time or the configured size, the oldest part
+ * of the history is folded into a baseline snapshot in the background.
+ */
+public class HistoryCompactor {
+
+  /**
+   * The history may exceed the limits by this fraction before it is compacted,
+   * so that compaction does not run after every single event.
+   */
+  private static final double SLACK = 0.1;
+
+  /**
+   * Number of points in time between two checks of the history size.
+   */
+  private static final int SIZE_CHECK_INTERVAL = 1000;
+
+  private final DatabaseHelper dbHelper;
+  private final int retainedPointsInTime;
+  private final long sizeBudget;
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(r, "Reclipse History Compactor"); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+  private final AtomicBoolean compactionPending = new AtomicBoolean(false);
+
+  /**
+   * @param dbHelper
+   *          the database of the session
+   * @param retainedPointsInTime
+   *          the number of points in time to retain, not positive for no limit
+   * @param sizeBudget
+   *          the maximum size of the history in bytes, not positive for no
+   *          limit
+   */
+  public HistoryCompactor(final DatabaseHelper dbHelper, final int retainedPointsInTime, final long sizeBudget) {
+    this.dbHelper = dbHelper;
+    this.retainedPointsInTime = retainedPointsInTime;
+    this.sizeBudget = sizeBudget;
+  }
+
+  /**
+   * Called after a point in time has been added to the history. Schedules a
+   * compaction if one of the limits might be exceeded.
+   *
+   * @param lastPointInTime
+   *          the added point in time
+   */
+  public void onPointInTimeAdded(final int lastPointInTime) {
+    if (compactionPending.get()) {
+      return;
+    }
+
+    final int retained = lastPointInTime - dbHelper.getFirstPointInTime() + 1;
+    final boolean windowExceeded = retainedPointsInTime > 0 && retained > retainedPointsInTime * (1 + SLACK);
+    final boolean checkSize = sizeBudget > 0 && lastPointInTime % SIZE_CHECK_INTERVAL == 0;
+
+    if ((windowExceeded || checkSize) && compactionPending.compareAndSet(false, true)) {
+      executorService.execute(new Runnable() {
+
+        @Override
+        public void run() {
+          compact();
+        }
+      });
+    }
+  }
+
+  private void compact() {
+    try {
+      final int firstPointInTime = dbHelper.getFirstPointInTime();
+      final int lastPointInTime = dbHelper.getLastPointInTime();
+      int newFirstPointInTime = firstPointInTime;
+
+      if (retainedPointsInTime > 0) {
+        newFirstPointInTime = Math.max(newFirstPointInTime, lastPointInTime - retainedPointsInTime + 1);
+      }
+
+      if (sizeBudget > 0) {
+        final long size = dbHelper.getHistorySize();
+
+        if (size > sizeBudget) {
+          // assume that the size is proportional to the number of points in time
+          final int retained = lastPointInTime - newFirstPointInTime + 1;
+          final int allowed = (int) (retained * (sizeBudget * (1 - SLACK) / size));
+          newFirstPointInTime = Math.max(newFirstPointInTime, lastPointInTime - allowed + 1);
+        }
+      }
+
+      if (newFirstPointInTime > firstPointInTime) {
+        dbHelper.compactHistory(newFirstPointInTime);
+      }
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+    }
+    finally {
+      compactionPending.set(false);
+    }
+  }
+
+  public boolean isEnabled() {
+    return retainedPointsInTime > 0 || sizeBudget > 0;
+  }
+
+  public void close() {
+    executorService.shutdownNow();
+  }
+}
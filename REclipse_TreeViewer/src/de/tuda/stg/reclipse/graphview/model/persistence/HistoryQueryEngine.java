@@ -0,0 +1,325 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+import de.tuda.stg.reclipse.graphview.model.persistence.AggregationResult.Row;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation.Grouping;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.IEventPredicate;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseVisitorPredicateImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes queries against the history without Esper and without SQL. The
+ * events are copied into an {@link EventTable} once, afterwards every query is
+ * compiled to a predicate and evaluated by a single scan over the table, which
+ * only reads the events committed since the previous query from the database.
+ * <p>
+ * Queries can also be registered as {@link StandingQuery}, whose matches are
+ * updated with the new events whenever the history changes. The updates run
+ * on an executor, so the thread which commits the events does not wait for
+ * the evaluation.
+ * <p>
+ * Aggregations are evaluated by a single scan as well, which increments one
+ * counter per group. The groups are numbered, so the counters are an array.
+ */
+public class HistoryQueryEngine {
+
+  private static final DependencyGraphHistoryType[] TYPES = DependencyGraphHistoryType.values();
+
+  private final DatabaseHelper dbHelper;
+  private final EventTable events;
+  private final List<StandingQuery> standingQueries = new ArrayList<>();
+  private final Executor updateExecutor;
+  private final AtomicBoolean updatePending = new AtomicBoolean(false);
+
+  private final Runnable update = new Runnable() {
+
+    @Override
+    public void run() {
+      updatePending.set(false);
+      updateStandingQueries();
+    }
+  };
+
+  private final IDependencyGraphListener historyListener = new IDependencyGraphListener() {
+
+    @Override
+    public void onDependencyGraphChanged(final Set<DependencyGraphHistoryType> types, final int pointInTime) {
+      // an update which has not started yet also reads the new events
+      if (!updatePending.compareAndSet(false, true)) {
+        return;
+      }
+
+      try {
+        updateExecutor.execute(update);
+      }
+      catch (final RejectedExecutionException e) {
+        // the session has been closed
+        updatePending.set(false);
+      }
+    }
+  };
+
+  /**
+   * @param dbHelper
+   *          the database of the history
+   * @param updateExecutor
+   *          the executor which updates the standing queries after the history
+   *          has changed
+   */
+  public HistoryQueryEngine(final DatabaseHelper dbHelper, final Executor updateExecutor) {
+    this.dbHelper = dbHelper;
+    this.events = new EventTable(dbHelper);
+    this.updateExecutor = updateExecutor;
+  }
+
+  /**
+   * Executes a query against the current history and returns all matching
+   * points in time.
+   *
+   * @param reclipseQuery
+   *          the query
+   * @return matching points in time in ascending order
+   */
+  public synchronized List<Integer> executeQuery(final ReclipseQuery reclipseQuery) {
+    final IEventPredicate predicate = compile(reclipseQuery);
+    final List<Integer> result = new ArrayList<>();
+
+    events.update();
+
+    for (int event = 0; event < events.size(); event++) {
+      if (predicate.matches(events, event)) {
+        result.add(events.getPointInTime(event));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Counts the events of the current history which match the aggregation.
+   *
+   * @param aggregation
+   *          the aggregation
+   * @return the groups with their counts
+   */
+  public synchronized AggregationResult executeAggregation(final Aggregation aggregation) {
+    final IEventPredicate predicate = aggregation.getExpression() != null ? new ReclipseVisitorPredicateImpl(dbHelper).visit(aggregation.getExpression()) : null;
+
+    events.update();
+
+    final Grouping grouping = aggregation.getGrouping();
+    final List<String> classNames = new ArrayList<>();
+    final int[] exceptionClasses = grouping == Grouping.CLASS ? numberExceptionClasses(classNames) : new int[0];
+    final int[] counts = new int[getGroupCount(grouping, classNames)];
+    int turns = 0;
+
+    for (int event = 0; event < events.size(); event++) {
+      if (events.getType(event) == DependencyGraphHistoryType.NODE_VALUE_SET) {
+        turns++;
+      }
+
+      if (predicate != null && !predicate.matches(events, event)) {
+        continue;
+      }
+
+      final int group = getGroup(grouping, event, exceptionClasses);
+
+      if (group >= 0) {
+        counts[group]++;
+      }
+    }
+
+    final double units = aggregation.getUnit() == Aggregation.PER_TURN ? Math.max(turns, 1) : (double) events.size() / aggregation.getUnit();
+    final List<Row> rows = new ArrayList<>();
+
+    for (int group = 0; group < counts.length; group++) {
+      // without grouping the only row is shown even if nothing matches
+      if (counts[group] > 0 || grouping == Grouping.NONE) {
+        final double rate = units > 0 ? counts[group] / units : 0;
+        rows.add(new Row(getGroupName(grouping, group, classNames), counts[group], rate));
+      }
+    }
+
+    Collections.sort(rows, new Comparator<Row>() {
+
+      @Override
+      public int compare(final Row row1, final Row row2) {
+        return Integer.compare(row2.getCount(), row1.getCount());
+      }
+    });
+
+    return new AggregationResult(aggregation, rows.subList(0, Math.min(rows.size(), aggregation.getLimit())));
+  }
+
+  private int getGroupCount(final Grouping grouping, final List<String> classNames) {
+    switch (grouping) {
+      case NODE:
+        return events.getVariableCount();
+      case TYPE:
+        return TYPES.length;
+      case CLASS:
+        return classNames.size();
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * @return the number of the group of the event or -1, if the event belongs
+   *         to no group
+   */
+  private int getGroup(final Grouping grouping, final int event, final int[] exceptionClasses) {
+    switch (grouping) {
+      case NODE:
+        return events.getVariableNumber(event);
+      case TYPE:
+        return events.getType(event).ordinal();
+      case CLASS:
+        final int exceptionId = events.getExceptionId(event);
+        return exceptionId > 0 && exceptionId < exceptionClasses.length ? exceptionClasses[exceptionId] : -1;
+      default:
+        return 0;
+    }
+  }
+
+  private String getGroupName(final Grouping grouping, final int group, final List<String> classNames) {
+    switch (grouping) {
+      case NODE:
+        return events.getNameOfVariable(group);
+      case TYPE:
+        return TYPES[group].name();
+      case CLASS:
+        return classNames.get(group);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Numbers the exception classes of the history.
+   *
+   * @param classNames
+   *          receives the names of the classes in the order of their numbers
+   * @return the number of the class of every exception by the id of the
+   *         exception, -1 for ids without exception
+   */
+  private int[] numberExceptionClasses(final List<String> classNames) {
+    final Map<Integer, String> exceptions;
+
+    try {
+      exceptions = dbHelper.readExceptionClasses();
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return new int[0];
+    }
+
+    final int[] exceptionClasses = new int[exceptions.isEmpty() ? 0 : Collections.max(exceptions.keySet()) + 1];
+    final Map<String, Integer> classNumbers = new HashMap<>();
+
+    Arrays.fill(exceptionClasses, -1);
+
+    for (final Map.Entry<Integer, String> exception : exceptions.entrySet()) {
+      Integer number = classNumbers.get(exception.getValue());
+
+      if (number == null) {
+        number = classNames.size();
+        classNames.add(exception.getValue());
+        classNumbers.put(exception.getValue(), number);
+      }
+
+      exceptionClasses[exception.getKey()] = number;
+    }
+
+    return exceptionClasses;
+  }
+
+  /**
+   * Registers a query, whose matches are kept up to date until it is closed.
+   *
+   * @param reclipseQuery
+   *          the query
+   * @param listener
+   *          the listener which is notified about new matches or
+   *          <code>null</code>
+   * @return the registered query with the matches in the current history
+   */
+  public synchronized StandingQuery register(final ReclipseQuery reclipseQuery, final IStandingQueryListener listener) {
+    final StandingQuery standingQuery = new StandingQuery(this, reclipseQuery, listener);
+
+    events.update();
+    standingQuery.evaluate(compile(standingQuery), events);
+
+    if (standingQueries.isEmpty()) {
+      dbHelper.addDependencyGraphListener(historyListener);
+    }
+
+    standingQueries.add(standingQuery);
+
+    return standingQuery;
+  }
+
+  synchronized void unregister(final StandingQuery standingQuery) {
+    if (standingQueries.remove(standingQuery) && standingQueries.isEmpty()) {
+      dbHelper.removeDependencyGraphListener(historyListener);
+    }
+  }
+
+  /**
+   * Evaluates the registered queries over the events which have been committed
+   * since their last evaluation. The queries are compiled again, because values
+   * and exceptions which did not exist before might have been stored. Only the
+   * partial matches of sequences are kept.
+   */
+  private void updateStandingQueries() {
+    final List<StandingQuery> changed = new ArrayList<>();
+
+    synchronized (this) {
+      if (standingQueries.isEmpty()) {
+        return;
+      }
+
+      events.update();
+
+      final int firstPointInTime = dbHelper.getFirstPointInTime();
+
+      for (final StandingQuery standingQuery : standingQueries) {
+        final boolean removed = standingQuery.removeBefore(firstPointInTime);
+        final boolean added = standingQuery.evaluate(compile(standingQuery), events);
+
+        if ((removed || added) && standingQuery.getListener() != null) {
+          changed.add(standingQuery);
+        }
+      }
+    }
+
+    // notify without holding the lock, the listeners may read the matches
+    for (final StandingQuery standingQuery : changed) {
+      standingQuery.getListener().onMatchesChanged(standingQuery);
+    }
+  }
+
+  private IEventPredicate compile(final ReclipseQuery reclipseQuery) {
+    return new ReclipseVisitorPredicateImpl(dbHelper).visit(reclipseQuery.getParseTree());
+  }
+
+  private IEventPredicate compile(final StandingQuery standingQuery) {
+    final ReclipseVisitorPredicateImpl visitor = new ReclipseVisitorPredicateImpl(dbHelper, standingQuery.getSequenceMatcher());
+    return visitor.visit(standingQuery.getQuery().getParseTree());
+  }
+}
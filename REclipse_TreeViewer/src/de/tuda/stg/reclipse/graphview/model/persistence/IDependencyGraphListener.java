@@ -2,12 +2,21 @@ package de.tuda.stg.reclipse.graphview.model.persistence;
 
 import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
 
+import java.util.Set;
+
 /**
  * Interface which has to be implemented by classes which want to be notified on
- * changes of the dependency graph history.
+ * changes of the dependency graph history. Changes are delivered in batches on
+ * a separate thread, see {@link DependencyGraphNotifier}.
  */
 public interface IDependencyGraphListener {
 
-  public void onDependencyGraphChanged(DependencyGraphHistoryType type, int pointInTime);
+  /**
+   * @param types
+   *          the types of all changes since the last notification
+   * @param pointInTime
+   *          the point in time the history has advanced to
+   */
+  public void onDependencyGraphChanged(Set<DependencyGraphHistoryType> types, int pointInTime);
 
 }
@@ -0,0 +1,16 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+/**
+ * Interface which has to be implemented by classes which want to be notified
+ * when the matches of a {@link StandingQuery} change. The notifications are
+ * delivered on the thread of the {@link DependencyGraphNotifier}.
+ */
+public interface IStandingQueryListener {
+
+  /**
+   * @param query
+   *          the query whose matches have changed
+   */
+  public void onMatchesChanged(StandingQuery query);
+
+}
@@ -1,15 +1,24 @@
 package de.tuda.stg.reclipse.graphview.model.persistence;
 
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.model.BreakpointQueryRegistry;
 import de.tuda.stg.reclipse.graphview.model.IRegistryListener;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceContext;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseVisitorEsperImpl;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.SequenceMatcher;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.antlr.v4.runtime.tree.ParseTree;
+
 import com.espertech.esper.client.Configuration;
 import com.espertech.esper.client.EPServiceProvider;
 import com.espertech.esper.client.EPServiceProviderManager;
@@ -17,8 +26,15 @@ import com.espertech.esper.client.EPStatement;
 
 public class LiveEsperAdapter implements IRegistryListener {
 
+  /**
+   * Additional key of a variable, which holds the class of the exception thrown
+   * by its evaluation.
+   */
+  public static final String EXCEPTION_CLASS_KEY = "exceptionClass"; //$NON-NLS-1$
+
   private final EPServiceProvider provider;
   private final Map<String, EPStatement> queries = new HashMap<>();
+  private final Map<String, LiveSequence> sequences = new HashMap<>();
 
   private final UpdateSubscriber subscriber = new UpdateSubscriber();
 
@@ -38,34 +54,103 @@ public class LiveEsperAdapter implements IRegistryListener {
     return EPServiceProviderManager.getProvider(sessionId + "-live", engineConfig); //$NON-NLS-1$
   }
 
-  public void addQuery(final ReclipseQuery reclipseQuery) {
-    final String conditions = createConditions(reclipseQuery);
+  /**
+   * @return <code>false</code>, if the query cannot suspend the program,
+   *         because it is an aggregation which counts events
+   */
+  public static boolean isSupported(final ReclipseQuery reclipseQuery) {
+    return Aggregation.create(reclipseQuery) == null;
+  }
 
-    final String query = "select pointInTime from ReactiveVariable where " + conditions; //$NON-NLS-1$
+  /**
+   * @param reclipseQuery
+   *          the query
+   * @throws IllegalArgumentException
+   *           if the query is not supported in live mode
+   */
+  public synchronized void addQuery(final ReclipseQuery reclipseQuery) {
+    if (!isSupported(reclipseQuery)) {
+      throw new IllegalArgumentException("aggregations cannot suspend the program at a single event: " + reclipseQuery.getQueryText()); //$NON-NLS-1$
+    }
+
+    final SequenceContext sequence = SequenceMatcher.getSequence(reclipseQuery);
+
+    if (sequence != null) {
+      sequences.put(reclipseQuery.getQueryText(), createSequence(sequence));
+      return;
+    }
 
-    final EPStatement stmt = provider.getEPAdministrator().createEPL(query);
+    final EPStatement stmt = createStatement(reclipseQuery.getParseTree());
     stmt.setSubscriber(subscriber);
 
     queries.put(reclipseQuery.getQueryText(), stmt);
   }
 
-  private String createConditions(final ReclipseQuery reclipseQuery) {
+  /**
+   * Creates a statement for every step of the sequence, which only marks the
+   * step as matched by the current event. The order of the steps is checked by
+   * a {@link SequenceMatcher} after every event, so Esper does not have to keep
+   * any partial matches.
+   */
+  private LiveSequence createSequence(final SequenceContext ctx) {
+    final List<ExpressionContext> expressions = ctx.expression();
+    final LiveSequence sequence = new LiveSequence(SequenceMatcher.create(ctx));
+
+    for (int i = 0; i < expressions.size(); i++) {
+      final EPStatement stmt = createStatement(expressions.get(i));
+      stmt.setSubscriber(new StepSubscriber(sequence.matchedSteps, i));
+      sequence.statements.add(stmt);
+    }
+
+    return sequence;
+  }
+
+  private EPStatement createStatement(final ParseTree tree) {
+    final String conditions = createConditions(tree);
+
+    final String query = "select pointInTime from ReactiveVariable where " + conditions; //$NON-NLS-1$
+
+    return provider.getEPAdministrator().createEPL(query);
+  }
+
+  private String createConditions(final ParseTree tree) {
     final ReclipseVisitorEsperImpl visitor = new ReclipseVisitorEsperImpl();
-    return visitor.visit(reclipseQuery.getParseTree());
+    return visitor.visit(tree);
   }
 
-  public void removeQuery(final String queryText) {
+  public synchronized void removeQuery(final String queryText) {
     final EPStatement stmt = queries.remove(queryText);
 
     if (stmt != null) {
       stmt.destroy();
     }
+
+    final LiveSequence sequence = sequences.remove(queryText);
+
+    if (sequence != null) {
+      for (final EPStatement stepStmt : sequence.statements) {
+        stepStmt.destroy();
+      }
+    }
   }
 
   public synchronized boolean sendEvent(final ReactiveVariable r) {
     subscriber.reset();
+
+    for (final LiveSequence sequence : sequences.values()) {
+      sequence.reset();
+    }
+
     provider.getEPRuntime().sendEvent(r);
-    return subscriber.hasEventOccurred();
+
+    boolean occurred = subscriber.hasEventOccurred();
+
+    // every sequence has to see every event
+    for (final LiveSequence sequence : sequences.values()) {
+      occurred |= sequence.next(r);
+    }
+
+    return occurred;
   }
 
   public void close() {
@@ -83,6 +168,56 @@ public class LiveEsperAdapter implements IRegistryListener {
     removeQuery(query.getQueryText());
   }
 
+  private static class LiveSequence {
+
+    private final SequenceMatcher matcher;
+    private final boolean[] matchedSteps;
+    private final List<EPStatement> statements = new ArrayList<>();
+
+    public LiveSequence(final SequenceMatcher matcher) {
+      this.matcher = matcher;
+      this.matchedSteps = new boolean[matcher.getStepCount()];
+    }
+
+    public void reset() {
+      for (int i = 0; i < matchedSteps.length; i++) {
+        matchedSteps[i] = false;
+      }
+    }
+
+    /**
+     * @return <code>true</code>, if the event completes the sequence
+     */
+    public boolean next(final ReactiveVariable r) {
+      if (r.getDependencyGraphHistoryType() == DependencyGraphHistoryType.NODE_VALUE_SET) {
+        matcher.startTurn(r.getPointInTime());
+      }
+
+      return matcher.next(r.getPointInTime(), matchedSteps);
+    }
+  }
+
+  protected static class StepSubscriber {
+
+    private final boolean[] matchedSteps;
+    private final int step;
+
+    public StepSubscriber(final boolean[] matchedSteps, final int step) {
+      this.matchedSteps = matchedSteps;
+      this.step = step;
+    }
+
+    /**
+     * Called by Esper when the statement of the step matches the event.
+     *
+     * @param result
+     *          the point in time of the matching reactive variable
+     */
+    public void update(final int result) {
+      matchedSteps[step] = true;
+    }
+  }
+
   protected static class UpdateSubscriber {
 
     private int pointInTime = -1;
@@ -1,24 +1,47 @@
 package de.tuda.stg.reclipse.graphview.model.persistence;
 
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.Activator;
 import de.tuda.stg.reclipse.graphview.model.ILoggerInterface;
 import de.tuda.stg.reclipse.graphview.model.ISessionConfiguration;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
 
 public class PersistenceFacade implements ILoggerInterface {
 
   private final DatabaseHelper dbHelper;
-  private final HistoryEsperAdapter historyEsperAdapter;
+  private final HistoryQueryEngine queryEngine;
   private final LiveEsperAdapter liveEsperAdapter;
+  private final ExecutorService readExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(r, "Reclipse Persistence Reader"); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
 
   public PersistenceFacade(final UUID sessionId, final ISessionConfiguration configuration) {
-    this.dbHelper = new DatabaseHelper(sessionId.toString(), configuration);
-    this.historyEsperAdapter = new HistoryEsperAdapter(dbHelper);
+    this(sessionId, configuration, null);
+  }
+
+  public PersistenceFacade(final UUID sessionId, final ISessionConfiguration configuration, final File databaseFile) {
+    this.dbHelper = new DatabaseHelper(sessionId.toString(), configuration, databaseFile);
+    this.queryEngine = new HistoryQueryEngine(dbHelper, readExecutor);
     this.liveEsperAdapter = new LiveEsperAdapter(sessionId.toString());
   }
 
@@ -54,7 +77,7 @@ public class PersistenceFacade implements ILoggerInterface {
   }
 
   @Override
-  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final Exception exception) {
+  public void logNodeEvaluationEndedWithException(final ReactiveVariable r, final ExceptionRecord exception) {
     try {
       dbHelper.logNodeEvaluationEndedWithException(r, exception);
     }
@@ -93,6 +116,55 @@ public class PersistenceFacade implements ILoggerInterface {
     }
   }
 
+  /**
+   * Loads the variables of a range of points in time at once, which is much
+   * faster than loading the variables of every point in time separately.
+   *
+   * @param fromPointInTime
+   *          the first point in time of the range
+   * @param toPointInTime
+   *          the last point in time of the range
+   * @return the variables of the range
+   */
+  public VariableHistory getVariableHistory(final int fromPointInTime, final int toPointInTime) {
+    try {
+      return dbHelper.getVariableHistory(fromPointInTime, toPointInTime);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return new VariableHistory(fromPointInTime, toPointInTime, Collections.<ReactiveVariable> emptyList(), Collections.<ReactiveVariable> emptyList());
+    }
+  }
+
+  /**
+   * @param variableId
+   *          the id of a variable
+   * @return the values of the variable over time
+   */
+  public ValueHistory getValueHistory(final UUID variableId) {
+    try {
+      return dbHelper.getValueHistory(variableId);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return new ValueHistory(variableId, Collections.<ValueHistory.Interval> emptyList());
+    }
+  }
+
+  /**
+   * Opens a cursor which iterates the events of a range of points in time in
+   * their order, without loading a dependency graph per point in time.
+   *
+   * @param fromPointInTime
+   *          the first point in time of the range
+   * @param toPointInTime
+   *          the last point in time of the range
+   * @return the cursor, positioned before the first event
+   */
+  public EventCursor getEventCursor(final int fromPointInTime, final int toPointInTime) {
+    return new EventCursor(dbHelper, fromPointInTime, toPointInTime);
+  }
+
   public DependencyGraph getDependencyGraph(final int pointInTime) {
     try {
       return dbHelper.getDependencyGraph(pointInTime);
@@ -103,11 +175,234 @@ public class PersistenceFacade implements ILoggerInterface {
     }
   }
 
+  /**
+   * Loads only the variables within a number of hops upstream or downstream of
+   * the given variables.
+   *
+   * @param variableIds
+   *          the ids of the variables in the center of the neighbourhood
+   * @param depth
+   *          the maximum number of hops from the center
+   * @param pointInTime
+   *          a point in time
+   * @return the neighbourhood of the variables in the dependency graph
+   */
+  public DependencyGraph getNeighbourhood(final Set<UUID> variableIds, final int depth, final int pointInTime) {
+    try {
+      return dbHelper.getNeighbourhood(variableIds, depth, pointInTime);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return DependencyGraph.emptyGraph();
+    }
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the dependency graph at the point in time, if it is cached, or
+   *         <code>null</code>
+   */
+  public DependencyGraph getCachedDependencyGraph(final int pointInTime) {
+    return dbHelper.getCachedDependencyGraph(pointInTime);
+  }
+
+  /**
+   * Announces that a dependency graph is shown, so that the graphs of the
+   * points in time which are likely to be shown next are loaded in the
+   * background.
+   *
+   * @param graph
+   *          the shown graph
+   */
+  public void onDependencyGraphShown(final DependencyGraph graph) {
+    dbHelper.onDependencyGraphShown(graph);
+  }
+
+  /**
+   * Loads the changes of the dependency graph between two points in time.
+   *
+   * @param fromPointInTime
+   *          the point in time of the graph the delta is applied to
+   * @param toPointInTime
+   *          the target point in time
+   * @return the delta or <code>null</code>, if the graph has to be loaded
+   *         completely
+   */
+  public DependencyGraphDelta getDependencyGraphDelta(final int fromPointInTime, final int toPointInTime) {
+    try {
+      return dbHelper.getDependencyGraphDelta(fromPointInTime, toPointInTime);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return null;
+    }
+  }
+
+  /**
+   * @return the cache of the dependency graph snapshots, which counts how many
+   *         graphs have been found in it
+   */
+  public DependencyGraphCache getGraphCache() {
+    return dbHelper.getGraphCache();
+  }
+
+  public CheckpointStatistics getCheckpointStatistics() {
+    try {
+      return dbHelper.getCheckpointStatistics();
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return new CheckpointStatistics(0, 0, 0, 0);
+    }
+  }
+
+  /**
+   * Runs a read on the reader thread of the session, so that the calling UI
+   * thread does not wait for the database. Reads are executed one after
+   * another. If the token has been cancelled before the read starts, the read
+   * is dropped without accessing the database and the future is cancelled.
+   *
+   * @param token
+   *          the token which marks the read as superseded
+   * @param read
+   *          the read, which may check the token between its steps
+   * @return the future result of the read
+   */
+  public <T> CompletableFuture<T> submitRead(final CancellationToken token, final Supplier<T> read) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+
+    try {
+      readExecutor.execute(new Runnable() {
+
+        @Override
+        public void run() {
+          if (token.isCancelled() || future.isDone()) {
+            future.cancel(false);
+            return;
+          }
+
+          try {
+            future.complete(read.get());
+          }
+          catch (final CancellationException e) {
+            future.cancel(false);
+          }
+          catch (final RuntimeException e) {
+            Activator.log(e);
+            future.completeExceptionally(e);
+          }
+        }
+      });
+    }
+    catch (final RejectedExecutionException e) {
+      // the session has been closed
+      future.cancel(false);
+    }
+
+    return future;
+  }
+
+  public CompletableFuture<DependencyGraph> getDependencyGraphAsync(final int pointInTime, final CancellationToken token) {
+    return submitRead(token, new Supplier<DependencyGraph>() {
+
+      @Override
+      public DependencyGraph get() {
+        return getDependencyGraph(pointInTime);
+      }
+    });
+  }
+
+  public CompletableFuture<List<ReactiveVariable>> getReVarsAsync(final int pointInTime, final CancellationToken token) {
+    return submitRead(token, new Supplier<List<ReactiveVariable>>() {
+
+      @Override
+      public List<ReactiveVariable> get() {
+        return getReVars(pointInTime);
+      }
+    });
+  }
+
+  public CompletableFuture<VariableHistory> getVariableHistoryAsync(final int fromPointInTime, final int toPointInTime, final CancellationToken token) {
+    return submitRead(token, new Supplier<VariableHistory>() {
+
+      @Override
+      public VariableHistory get() {
+        return getVariableHistory(fromPointInTime, toPointInTime);
+      }
+    });
+  }
+
+  public CompletableFuture<ValueHistory> getValueHistoryAsync(final UUID variableId, final CancellationToken token) {
+    return submitRead(token, new Supplier<ValueHistory>() {
+
+      @Override
+      public ValueHistory get() {
+        return getValueHistory(variableId);
+      }
+    });
+  }
+
+  public CompletableFuture<CheckpointStatistics> getCheckpointStatisticsAsync(final CancellationToken token) {
+    return submitRead(token, new Supplier<CheckpointStatistics>() {
+
+      @Override
+      public CheckpointStatistics get() {
+        return getCheckpointStatistics();
+      }
+    });
+  }
+
+  /**
+   * Returns the full value of a variable loaded from the history. Values which
+   * have been stored abbreviated are read from the spill store.
+   *
+   * @param variable
+   *          a variable loaded from the history
+   * @return the full value string of the variable
+   */
+  public String getFullValueString(final ReactiveVariable variable) {
+    try {
+      return dbHelper.getValueDictionary().loadFullValue(variable.getValueString());
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return variable.getValueString();
+    }
+  }
+
+  /**
+   * Loads the exception which the variable has thrown in its status at its
+   * point in time.
+   *
+   * @param variable
+   *          a variable of a dependency graph
+   * @return the exception including its stack trace or <code>null</code>
+   */
+  public ExceptionRecord getExceptionRecord(final ReactiveVariable variable) {
+    if (!variable.isExceptionOccured()) {
+      return null;
+    }
+
+    try {
+      return dbHelper.getExceptionRecord(variable.getId(), variable.getPointInTime());
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return null;
+    }
+  }
+
   public int getLastPointInTime() {
     return dbHelper.getLastPointInTime();
   }
 
+  public int getFirstPointInTime() {
+    return dbHelper.getFirstPointInTime();
+  }
+
   public void close() {
+    readExecutor.shutdownNow();
     dbHelper.close();
   }
 
@@ -115,8 +410,8 @@ public class PersistenceFacade implements ILoggerInterface {
     return dbHelper;
   }
 
-  public HistoryEsperAdapter getHistoryEsperAdapter() {
-    return historyEsperAdapter;
+  public HistoryQueryEngine getQueryEngine() {
+    return queryEngine;
   }
 
   public LiveEsperAdapter getLiveEsperAdapter() {
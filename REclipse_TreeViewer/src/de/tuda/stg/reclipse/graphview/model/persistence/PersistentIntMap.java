@@ -0,0 +1,321 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map from non-negative int keys to values. The keys are stored in a
+ * trie with 32 children per node, so lookups and updates visit at most seven
+ * nodes. Updates copy only the nodes on the path to the changed key and share
+ * all other nodes with the original map, which makes it cheap to keep many
+ * versions of a map which differ in a few keys.
+ *
+ * @param <V>
+ *          the type of the values
+ */
+public final class PersistentIntMap<V> {
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  /**
+   * Shift of the root level which is large enough for all non-negative ints.
+   */
+  private static final int MAX_SHIFT = 30;
+
+  private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null, 0, 0);
+
+  private final Object[] root;
+  private final int shift;
+  private final int size;
+
+  private PersistentIntMap(final Object[] root, final int shift, final int size) {
+    this.root = root;
+    this.shift = shift;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <V> PersistentIntMap<V> empty() {
+    return (PersistentIntMap<V>) EMPTY;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @param key
+   *          a key
+   * @return the value of the key or <code>null</code>
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final int key) {
+    if (root == null || key < 0 || key >>> shift >= WIDTH && shift < MAX_SHIFT) {
+      return null;
+    }
+
+    Object[] node = root;
+
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[key >>> level & MASK];
+
+      if (node == null) {
+        return null;
+      }
+    }
+
+    return (V) node[key & MASK];
+  }
+
+  public boolean containsKey(final int key) {
+    return get(key) != null;
+  }
+
+  /**
+   * @param key
+   *          a non-negative key
+   * @param value
+   *          the new value of the key, not <code>null</code>
+   * @return a map which contains the value for the key and all other entries of
+   *         this map
+   */
+  public PersistentIntMap<V> put(final int key, final V value) {
+    if (key < 0) {
+      throw new IllegalArgumentException("negative key " + key); //$NON-NLS-1$
+    }
+
+    if (value == null) {
+      throw new IllegalArgumentException("null value"); //$NON-NLS-1$
+    }
+
+    final V oldValue = get(key);
+
+    if (oldValue == value) {
+      return this;
+    }
+
+    Object[] newRoot = root != null ? root : new Object[WIDTH];
+    int newShift = shift;
+
+    // add levels above the root until the key fits in
+    while (newShift < MAX_SHIFT && key >>> newShift >= WIDTH) {
+      final Object[] parent = new Object[WIDTH];
+      parent[0] = newRoot;
+      newRoot = parent;
+      newShift += BITS;
+    }
+
+    return new PersistentIntMap<>(put(newRoot, newShift, key, value), newShift, oldValue != null ? size : size + 1);
+  }
+
+  private static Object[] put(final Object[] node, final int level, final int key, final Object value) {
+    final Object[] copy = node != null ? node.clone() : new Object[WIDTH];
+    final int index = key >>> level & MASK;
+
+    if (level == 0) {
+      copy[index] = value;
+    }
+    else {
+      copy[index] = put((Object[]) copy[index], level - BITS, key, value);
+    }
+
+    return copy;
+  }
+
+  /**
+   * @param key
+   *          a key
+   * @return a map which contains all entries of this map except the one of the
+   *         key
+   */
+  public PersistentIntMap<V> remove(final int key) {
+    if (get(key) == null) {
+      return this;
+    }
+
+    if (size == 1) {
+      return empty();
+    }
+
+    return new PersistentIntMap<>(remove(root, shift, key), shift, size - 1);
+  }
+
+  private static Object[] remove(final Object[] node, final int level, final int key) {
+    final Object[] copy = node.clone();
+    final int index = key >>> level & MASK;
+
+    if (level == 0) {
+      copy[index] = null;
+    }
+    else {
+      copy[index] = remove((Object[]) copy[index], level - BITS, key);
+    }
+
+    // empty nodes are pruned, so that maps with the same entries compare quickly
+    for (final Object child : copy) {
+      if (child != null) {
+        return copy;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Adds the keys whose values differ between this map and another map to a
+   * set. Values are compared by identity. Nodes which are shared by both maps
+   * are skipped, so maps which have been derived from each other are compared
+   * in time proportional to the number of updates in between.
+   *
+   * @param other
+   *          another map
+   * @param keys
+   *          the set the differing keys are added to
+   */
+  public void collectDifferentKeys(final PersistentIntMap<V> other, final Set<Integer> keys) {
+    Object[] thisRoot = root;
+    Object[] otherRoot = other.root;
+    int level = Math.max(shift, other.shift);
+
+    // a root with fewer levels is the first child of the missing levels
+    for (int s = shift; s < level; s += BITS) {
+      thisRoot = wrap(thisRoot);
+    }
+
+    for (int s = other.shift; s < level; s += BITS) {
+      otherRoot = wrap(otherRoot);
+    }
+
+    collectDifferentKeys(thisRoot, otherRoot, level, 0, keys);
+  }
+
+  private static Object[] wrap(final Object[] node) {
+    if (node == null) {
+      return null;
+    }
+
+    final Object[] parent = new Object[WIDTH];
+    parent[0] = node;
+    return parent;
+  }
+
+  private static void collectDifferentKeys(final Object[] node, final Object[] otherNode, final int level, final int prefix, final Set<Integer> keys) {
+    if (node == otherNode) {
+      return;
+    }
+
+    for (int i = 0; i < WIDTH; i++) {
+      final Object child = node != null ? node[i] : null;
+      final Object otherChild = otherNode != null ? otherNode[i] : null;
+
+      if (child == otherChild) {
+        continue;
+      }
+
+      final int key = prefix | i << level;
+
+      if (level == 0) {
+        keys.add(key);
+      }
+      else {
+        collectDifferentKeys((Object[]) child, (Object[]) otherChild, level - BITS, key, keys);
+      }
+    }
+  }
+
+  /**
+   * @return a read-only view of the values in the order of their keys
+   */
+  public Collection<V> values() {
+    return new AbstractCollection<V>() {
+
+      @Override
+      public Iterator<V> iterator() {
+        return new ValueIterator<>(root, shift);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private static class ValueIterator<V> implements Iterator<V> {
+
+    private final Object[][] nodes = new Object[MAX_SHIFT / BITS + 1][];
+    private final int[] indexes = new int[MAX_SHIFT / BITS + 1];
+    private int depth;
+    private Object next;
+
+    ValueIterator(final Object[] root, final int shift) {
+      depth = shift / BITS;
+      nodes[depth] = root;
+      indexes[depth] = 0;
+      next = root != null ? advance() : null;
+    }
+
+    /**
+     * Finds the next value. The nodes of the current path are kept per level,
+     * the leaves are on level 0.
+     */
+    private Object advance() {
+      final int top = nodes.length - 1;
+
+      while (depth <= top && nodes[depth] != null) {
+        if (indexes[depth] == WIDTH) {
+          nodes[depth] = null;
+          depth++;
+          continue;
+        }
+
+        final Object child = nodes[depth][indexes[depth]++];
+
+        if (child == null) {
+          continue;
+        }
+
+        if (depth == 0) {
+          return child;
+        }
+
+        depth--;
+        nodes[depth] = (Object[]) child;
+        indexes[depth] = 0;
+      }
+
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+
+      final V value = (V) next;
+      next = advance();
+      return value;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
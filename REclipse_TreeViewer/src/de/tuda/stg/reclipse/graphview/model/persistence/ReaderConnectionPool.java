@@ -0,0 +1,125 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of read-only connections to the history database, so that reads do not
+ * compete with the writer for its connection.
+ *
+ * <p>
+ * The connections read uncommitted data, so they never wait for the table locks
+ * of the writer. This is only safe because {@link DatabaseHelper} limits every
+ * query of a reader to the last committed point in time: the rows of a
+ * committed point in time are never changed, a status only gets its end set to
+ * the last committed point in time when it is replaced. Rows of the writer's
+ * open transaction belong to later points in time and are filtered out.
+ * </p>
+ */
+public class ReaderConnectionPool {
+
+  private static final int MAX_IDLE_CONNECTIONS = 4;
+
+  private final String jdbcUrl;
+  private final Deque<Connection> idleConnections = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger idleCount = new AtomicInteger(0);
+
+  private volatile boolean closed = false;
+
+  public ReaderConnectionPool(final String jdbcUrl) {
+    this.jdbcUrl = jdbcUrl;
+  }
+
+  /**
+   * Returns an idle connection or opens a new one. The connection has to be
+   * given back with {@link #release(Connection)}.
+   *
+   * @return a read-only connection
+   * @throws PersistenceException
+   *           if no connection could be opened
+   */
+  public Connection acquire() throws PersistenceException {
+    final Connection connection = idleConnections.pollFirst();
+
+    if (connection != null) {
+      idleCount.decrementAndGet();
+      return connection;
+    }
+
+    try {
+      return configure(DriverManager.getConnection(jdbcUrl));
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  /**
+   * Gives a connection back to the pool.
+   *
+   * @param connection
+   *          a connection returned by {@link #acquire()}
+   */
+  public void release(final Connection connection) {
+    if (!closed && idleCount.incrementAndGet() <= MAX_IDLE_CONNECTIONS) {
+      idleConnections.offerFirst(connection);
+      return;
+    }
+
+    if (!closed) {
+      idleCount.decrementAndGet();
+    }
+
+    close(connection);
+  }
+
+  /**
+   * Configures a connection to read uncommitted data without modifying the
+   * database. The pragmas are set explicitly, because
+   * <code>SQLiteConfig</code> uses a wrong name for
+   * <code>read_uncommitted</code>.
+   *
+   * @param connection
+   *          a fresh connection
+   * @return the connection
+   * @throws SQLException
+   *           if the connection could not be configured
+   */
+  static Connection configure(final Connection connection) throws SQLException {
+    try (final Statement stmt = connection.createStatement()) {
+      stmt.execute("PRAGMA read_uncommitted = 1"); //$NON-NLS-1$
+      stmt.execute("PRAGMA query_only = 1"); //$NON-NLS-1$
+    }
+
+    return connection;
+  }
+
+  private static void close(final Connection connection) {
+    try {
+      connection.close();
+    }
+    catch (final SQLException e) {
+      Activator.log(e);
+    }
+  }
+
+  /**
+   * Closes all idle connections. Connections which are released afterwards are
+   * closed immediately.
+   */
+  public void close() {
+    closed = true;
+
+    Connection connection;
+    while ((connection = idleConnections.pollFirst()) != null) {
+      close(connection);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.model.querylanguage.IEventPredicate;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.SequenceMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A query which is registered at the {@link HistoryQueryEngine} and whose
+ * matches are kept up to date while the history grows. Only the events after
+ * the last evaluated point in time are evaluated, the matches are appended in
+ * ascending order. The partial matches of a sequence are kept between the
+ * evaluations, so sequences can span several batches of events.
+ */
+public class StandingQuery {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final HistoryQueryEngine engine;
+  private final ReclipseQuery query;
+  private final IStandingQueryListener listener;
+  private final SequenceMatcher sequenceMatcher;
+
+  private int[] matches = new int[INITIAL_CAPACITY];
+  private int size = 0;
+  private int lastPointInTime = DependencyGraph.NO_POINT_IN_TIME;
+
+  StandingQuery(final HistoryQueryEngine engine, final ReclipseQuery query, final IStandingQueryListener listener) {
+    this.engine = engine;
+    this.query = query;
+    this.listener = listener;
+    this.sequenceMatcher = SequenceMatcher.create(query);
+  }
+
+  public ReclipseQuery getQuery() {
+    return query;
+  }
+
+  IStandingQueryListener getListener() {
+    return listener;
+  }
+
+  /**
+   * @return the partial matches of the sequence or <code>null</code>, if the
+   *         query is not a sequence
+   */
+  SequenceMatcher getSequenceMatcher() {
+    return sequenceMatcher;
+  }
+
+  /**
+   * Evaluates the events after the last evaluated point in time.
+   *
+   * @param predicate
+   *          the compiled query
+   * @param events
+   *          the events of the history
+   * @return <code>true</code>, if there are new matches
+   */
+  boolean evaluate(final IEventPredicate predicate, final EventTable events) {
+    final int sizeBefore = getMatchCount();
+
+    for (int event = events.indexAfter(lastPointInTime); event < events.size(); event++) {
+      if (predicate.matches(events, event)) {
+        add(events.getPointInTime(event));
+      }
+    }
+
+    if (events.size() > 0) {
+      lastPointInTime = Math.max(lastPointInTime, events.getPointInTime(events.size() - 1));
+    }
+
+    return getMatchCount() > sizeBefore;
+  }
+
+  private synchronized void add(final int pointInTime) {
+    if (size == matches.length) {
+      matches = Arrays.copyOf(matches, size * 2);
+    }
+
+    matches[size++] = pointInTime;
+  }
+
+  /**
+   * Removes the matches which have been removed from the history by the
+   * compaction.
+   *
+   * @param pointInTime
+   *          the first point in time of the history
+   * @return <code>true</code>, if matches have been removed
+   */
+  synchronized boolean removeBefore(final int pointInTime) {
+    int removed = Arrays.binarySearch(matches, 0, size, pointInTime);
+
+    if (removed < 0) {
+      removed = -removed - 1;
+    }
+
+    if (removed == 0) {
+      return false;
+    }
+
+    System.arraycopy(matches, removed, matches, 0, size - removed);
+    size -= removed;
+    return true;
+  }
+
+  public synchronized int getMatchCount() {
+    return size;
+  }
+
+  /**
+   * @param index
+   *          the index of a match
+   * @return the point in time of the match, the matches are ordered by their
+   *         points in time
+   */
+  public synchronized int getMatch(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("match " + index + " of " + size); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    return matches[index];
+  }
+
+  /**
+   * @return a copy of the points in time of all matches in ascending order
+   */
+  public synchronized List<Integer> getMatches() {
+    final List<Integer> result = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      result.add(matches[i]);
+    }
+
+    return result;
+  }
+
+  /**
+   * Stops updating the matches of the query.
+   */
+  public void close() {
+    engine.unregister(this);
+  }
+}
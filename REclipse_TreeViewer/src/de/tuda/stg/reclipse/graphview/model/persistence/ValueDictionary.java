@@ -0,0 +1,459 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueSpillStore.SpilledValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Content-addressed table of value strings. Every distinct value string is
+ * stored only once in the <code>value</code> table and referenced by its id
+ * from the status rows of the variables. Values exceeding the threshold of the
+ * {@link ValueSpillStore} are stored abbreviated, their full text is written to
+ * the spill store.
+ * <p>
+ * The dictionary also caches the parsed forms of the value strings for typed
+ * comparisons. Values are never changed once they are stored, so every value
+ * string is parsed only once. The values are read in bulk when the parsed
+ * forms are needed for the first time, afterwards every new value is parsed
+ * when it is stored. Abbreviated values are parsed in their full form.
+ */
+public class ValueDictionary {
+
+  /**
+   * Number of value ids which are kept in memory. Values which repeat are
+   * usually recent ones, e.g. a signal alternating between a few states, so
+   * only the least recently used ids are looked up in the database again.
+   */
+  private static final int MAX_CACHED_VALUES = 4096;
+
+  private final DatabaseHelper dbHelper;
+  private final ValueSpillStore spillStore;
+  private final Map<String, Integer> valueMap = Collections.synchronizedMap(new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+
+    private static final long serialVersionUID = -4125830361536880513L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+      return size() > MAX_CACHED_VALUES;
+    }
+  });
+  private volatile ParsedValues parsedValues = new ParsedValues(new double[0], new byte[0], 0);
+
+  /**
+   * Whether all stored values have been parsed. Readers see the values as soon
+   * as they are inserted, so a value is either read by the bulk load or parsed
+   * when it is stored afterwards.
+   */
+  private volatile boolean parsedAll;
+
+  public ValueDictionary(final DatabaseHelper dbHelper, final ValueSpillStore spillStore) {
+    this.dbHelper = dbHelper;
+    this.spillStore = spillStore;
+  }
+
+  /**
+   * Returns the id of the given value string and stores the value string if it
+   * is not yet known.
+   *
+   * @param valueString
+   *          the value string
+   * @return the id of the value string or <code>null</code> if the value string
+   *         is <code>null</code>
+   * @throws PersistenceException
+   *           if the value string could not be stored
+   */
+  public Integer findOrCreateValue(final String valueString) throws PersistenceException {
+    if (valueString == null) {
+      return null;
+    }
+
+    final Integer idValue = findValue(valueString);
+
+    if (idValue != null) {
+      return idValue;
+    }
+
+    if (spillStore.isSpilled(valueString)) {
+      final SpilledValue spilledValue = spillStore.append(valueString);
+      return createValue(valueString, spillStore.abbreviate(valueString), spilledValue);
+    }
+
+    return createValue(valueString, valueString, null);
+  }
+
+  /**
+   * Looks up the id of the given value string without storing it.
+   *
+   * @param valueString
+   *          the value string
+   * @return the id of the value string or <code>null</code> if the value string
+   *         has never been stored
+   * @throws PersistenceException
+   *           if the value could not be looked up
+   */
+  public Integer findValue(final String valueString) throws PersistenceException {
+    if (valueString == null) {
+      return null;
+    }
+
+    final String inlineValue = spillStore.isSpilled(valueString) ? spillStore.abbreviate(valueString) : valueString;
+    final Integer idValue = valueMap.get(inlineValue);
+
+    if (idValue != null) {
+      return idValue;
+    }
+
+    return loadValue(inlineValue);
+  }
+
+  /**
+   * Returns the full text of a value string as it has been loaded from the
+   * database. Abbreviated values are read from the spill store, all other
+   * values are returned unchanged.
+   *
+   * @param valueString
+   *          a value string loaded from the database
+   * @return the full value string
+   * @throws PersistenceException
+   *           if the spilled value could not be read
+   */
+  public String loadFullValue(final String valueString) throws PersistenceException {
+    if (valueString == null || !spillStore.isAbbreviation(valueString)) {
+      return valueString;
+    }
+
+    final String query = "SELECT spillOffset, spillLength FROM value WHERE valueHash = ? AND valueString = ? AND spillOffset IS NOT NULL"; //$NON-NLS-1$
+    final Connection readConnection = dbHelper.getReaderPool().acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, valueString.hashCode());
+      stmt.setString(2, valueString);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        if (rs.next()) {
+          return spillStore.read(new SpilledValue(rs.getLong(1), rs.getInt(2)));
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      dbHelper.getReaderPool().release(readConnection);
+    }
+
+    return valueString;
+  }
+
+  /**
+   * Loads the value string of an id as it is stored in the database, i.e.
+   * possibly abbreviated.
+   *
+   * @param idValue
+   *          the id of a value
+   * @return the value string or <code>null</code>, if there is no value with
+   *         the id
+   * @throws PersistenceException
+   *           if the value could not be read
+   */
+  public String loadValueString(final int idValue) throws PersistenceException {
+    final String query = "SELECT valueString FROM value WHERE idValue = ?"; //$NON-NLS-1$
+    final Connection readConnection = dbHelper.getReaderPool().acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, idValue);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        return rs.next() ? rs.getString(1) : null;
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      dbHelper.getReaderPool().release(readConnection);
+    }
+  }
+
+  /**
+   * Returns the parsed forms of all values up to the given id. All stored
+   * values are read and parsed in one query on the first call, later values
+   * are parsed when they are stored.
+   *
+   * @param idValue
+   *          the largest id of a value which has to be parsed
+   * @return the parsed values, which may not contain the id, if there is no
+   *         value with the id
+   * @throws PersistenceException
+   *           if the values could not be read
+   */
+  public ParsedValues getParsedValues(final int idValue) throws PersistenceException {
+    final ParsedValues current = parsedValues;
+
+    // an id beyond the parsed values does not exist, once all values are parsed
+    return idValue < current.size() || parsedAll ? current : parseValues(idValue);
+  }
+
+  private synchronized ParsedValues parseValues(final int idValue) throws PersistenceException {
+    final ParsedValues current = parsedValues;
+
+    if (idValue < current.size() || parsedAll) {
+      return current;
+    }
+
+    final String query = "SELECT idValue, valueString, spillOffset, spillLength FROM value WHERE idValue >= ? ORDER BY idValue"; //$NON-NLS-1$
+    final Connection readConnection = dbHelper.getReaderPool().acquire();
+    double[] numbers = current.numbers;
+    byte[] booleans = current.booleans;
+    int size = current.size;
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, size);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          final int id = rs.getInt(1);
+
+          if (id >= numbers.length) {
+            final int capacity = Math.max(id + 1, numbers.length * 2);
+            numbers = Arrays.copyOf(numbers, capacity);
+            booleans = Arrays.copyOf(booleans, capacity);
+          }
+
+          // ids of removed values are not numbers either
+          Arrays.fill(numbers, size, id, Double.NaN);
+
+          String valueString = rs.getString(2);
+
+          if (rs.getObject(3) != null && spillStore.isAbbreviation(valueString)) {
+            valueString = spillStore.read(new SpilledValue(rs.getLong(3), rs.getInt(4)));
+          }
+
+          numbers[id] = parseNumber(valueString);
+          booleans[id] = parseBoolean(valueString);
+          size = id + 1;
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      dbHelper.getReaderPool().release(readConnection);
+    }
+
+    // the arrays are only written beyond the size of the published values
+    parsedValues = new ParsedValues(numbers, booleans, size);
+    parsedAll = true;
+    return parsedValues;
+  }
+
+  /**
+   * Adds the parsed form of a stored value, if all values have been parsed
+   * before. Otherwise the value is parsed by the next bulk load.
+   */
+  private synchronized void addParsedValue(final int idValue, final String valueString) {
+    if (!parsedAll) {
+      return;
+    }
+
+    final ParsedValues current = parsedValues;
+    double[] numbers = current.numbers;
+    byte[] booleans = current.booleans;
+    final int size = Math.max(current.size, idValue + 1);
+
+    if (idValue < current.size) {
+      // the id of a value which has been rolled back is used again
+      numbers = numbers.clone();
+      booleans = booleans.clone();
+    }
+    else if (idValue >= numbers.length) {
+      final int capacity = Math.max(idValue + 1, numbers.length * 2);
+      numbers = Arrays.copyOf(numbers, capacity);
+      booleans = Arrays.copyOf(booleans, capacity);
+    }
+
+    if (idValue > current.size) {
+      Arrays.fill(numbers, current.size, idValue, Double.NaN);
+      Arrays.fill(booleans, current.size, idValue, ParsedValues.NO_BOOLEAN);
+    }
+
+    numbers[idValue] = parseNumber(valueString);
+    booleans[idValue] = parseBoolean(valueString);
+
+    parsedValues = new ParsedValues(numbers, booleans, size);
+  }
+
+  /**
+   * Parses a value string as a decimal number. Only an optional minus sign,
+   * digits and an optional fraction are accepted, so the numbers match the
+   * numeric literals of the query language.
+   *
+   * @param valueString
+   *          a value string
+   * @return the number or {@link Double#NaN}, if the value is not a number
+   */
+  public static double parseNumber(final String valueString) {
+    final int start = valueString.startsWith("-") ? 1 : 0; //$NON-NLS-1$
+    int digits = 0;
+    int point = -1;
+
+    for (int i = start; i < valueString.length(); i++) {
+      final char c = valueString.charAt(i);
+
+      if (c >= '0' && c <= '9') {
+        digits++;
+      }
+      else if (c == '.' && point == -1 && digits > 0) {
+        point = i;
+      }
+      else {
+        return Double.NaN;
+      }
+    }
+
+    if (digits == 0 || point == valueString.length() - 1) {
+      return Double.NaN;
+    }
+
+    return Double.parseDouble(valueString);
+  }
+
+  /**
+   * @param valueString
+   *          a value string
+   * @return the boolean literal of the value or {@link ParsedValues#NO_BOOLEAN}
+   */
+  static byte parseBoolean(final String valueString) {
+    if (Boolean.TRUE.toString().equals(valueString)) {
+      return ParsedValues.TRUE;
+    }
+    else if (Boolean.FALSE.toString().equals(valueString)) {
+      return ParsedValues.FALSE;
+    }
+
+    return ParsedValues.NO_BOOLEAN;
+  }
+
+  /**
+   * Forgets the cached ids and parsed values, e.g. after values have been
+   * removed from the database. Ids are loaded from the database again on
+   * demand.
+   */
+  public void clearCache() {
+    valueMap.clear();
+
+    synchronized (this) {
+      parsedValues = new ParsedValues(new double[0], new byte[0], 0);
+      parsedAll = false;
+    }
+  }
+
+  private Integer loadValue(final String valueString) throws PersistenceException {
+    final String query = "SELECT idValue FROM value WHERE valueHash = ? AND valueString = ?"; //$NON-NLS-1$
+    final Connection readConnection = dbHelper.getReaderPool().acquire();
+
+    try (final PreparedStatement stmt = readConnection.prepareStatement(query)) {
+      stmt.setInt(1, valueString.hashCode());
+      stmt.setString(2, valueString);
+
+      try (final ResultSet rs = stmt.executeQuery()) {
+        if (rs.next()) {
+          final int idValue = rs.getInt(1);
+          valueMap.put(valueString, idValue);
+          return idValue;
+        }
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+    finally {
+      dbHelper.getReaderPool().release(readConnection);
+    }
+
+    return null;
+  }
+
+  private int createValue(final String fullValue, final String valueString, final SpilledValue spilledValue) throws PersistenceException {
+    final String insertStmt = "INSERT INTO value (valueHash, valueString, spillOffset, spillLength) VALUES (?, ?, ?, ?)"; //$NON-NLS-1$
+
+    try (final PreparedStatement stmt = dbHelper.getConnection().prepareStatement(insertStmt)) {
+      stmt.setInt(1, valueString.hashCode());
+      stmt.setString(2, valueString);
+
+      if (spilledValue != null) {
+        stmt.setLong(3, spilledValue.getOffset());
+        stmt.setInt(4, spilledValue.getLength());
+      }
+      else {
+        stmt.setNull(3, Types.BIGINT);
+        stmt.setNull(4, Types.INTEGER);
+      }
+
+      stmt.executeUpdate();
+
+      try (final ResultSet rs = stmt.getGeneratedKeys()) {
+        rs.next();
+        final int idValue = rs.getInt(1);
+        valueMap.put(valueString, idValue);
+        addParsedValue(idValue, fullValue);
+        return idValue;
+      }
+    }
+    catch (final SQLException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  /**
+   * The parsed forms of the values by their ids. An instance never changes, a
+   * new one is created when further values are parsed.
+   */
+  public static class ParsedValues {
+
+    static final byte NO_BOOLEAN = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+
+    private final double[] numbers;
+    private final byte[] booleans;
+    private final int size;
+
+    ParsedValues(final double[] numbers, final byte[] booleans, final int size) {
+      this.numbers = numbers;
+      this.booleans = booleans;
+      this.size = size;
+    }
+
+    /**
+     * @return the largest parsed id plus one
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * @return the value as a number or {@link Double#NaN}, if it is not a
+     *         number or has not been parsed
+     */
+    public double getNumber(final int idValue) {
+      return idValue >= 0 && idValue < size ? numbers[idValue] : Double.NaN;
+    }
+
+    /**
+     * @return <code>true</code>, if the value is the given boolean literal
+     */
+    public boolean isBoolean(final int idValue, final boolean value) {
+      return idValue >= 0 && idValue < size && booleans[idValue] == (value ? TRUE : FALSE);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The values of one reactive variable over time. Every status of the variable
+ * is an interval of points in time with a value, the intervals are ordered by
+ * their first point in time and do not overlap. The interval at a point in
+ * time is found by binary search.
+ */
+public class ValueHistory {
+
+  /**
+   * Last point in time of the interval of the current status.
+   */
+  public static final int OPEN_END = Integer.MAX_VALUE;
+
+  private final UUID variableId;
+  private final int[] timeFrom;
+  private final int[] timeTo;
+  private final String[] values;
+  private final boolean[] exceptions;
+
+  /**
+   * @param variableId
+   *          the id of the variable
+   * @param intervals
+   *          the intervals of the variable ordered by their first point in time
+   */
+  public ValueHistory(final UUID variableId, final List<Interval> intervals) {
+    this.variableId = variableId;
+    this.timeFrom = new int[intervals.size()];
+    this.timeTo = new int[intervals.size()];
+    this.values = new String[intervals.size()];
+    this.exceptions = new boolean[intervals.size()];
+
+    for (int i = 0; i < intervals.size(); i++) {
+      final Interval interval = intervals.get(i);
+      timeFrom[i] = interval.getTimeFrom();
+      timeTo[i] = interval.getTimeTo();
+      values[i] = interval.getValueString();
+      exceptions[i] = interval.isExceptionOccured();
+    }
+  }
+
+  public UUID getVariableId() {
+    return variableId;
+  }
+
+  public boolean isEmpty() {
+    return timeFrom.length == 0;
+  }
+
+  /**
+   * @return the intervals ordered by their first point in time
+   */
+  public List<Interval> getIntervals() {
+    return new AbstractList<Interval>() {
+
+      @Override
+      public Interval get(final int index) {
+        return getInterval(index);
+      }
+
+      @Override
+      public int size() {
+        return timeFrom.length;
+      }
+    };
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the interval which contains the point in time or <code>null</code>,
+   *         if the variable did not exist at the point in time or its status
+   *         has been compacted
+   */
+  public Interval getIntervalAt(final int pointInTime) {
+    int index = Arrays.binarySearch(timeFrom, pointInTime);
+
+    if (index < 0) {
+      // the interval starting before the point in time
+      index = -index - 2;
+    }
+
+    if (index < 0 || timeTo[index] < pointInTime) {
+      return null;
+    }
+
+    return getInterval(index);
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time
+   * @return the value at the point in time or <code>null</code>, if the
+   *         variable had no value at the point in time
+   */
+  public String getValueAt(final int pointInTime) {
+    final Interval interval = getIntervalAt(pointInTime);
+    return interval != null ? interval.getValueString() : null;
+  }
+
+  private Interval getInterval(final int index) {
+    return new Interval(timeFrom[index], timeTo[index], values[index], exceptions[index]);
+  }
+
+  /**
+   * A status of the variable, which is valid from its first to its last point
+   * in time.
+   */
+  public static class Interval {
+
+    private final int timeFrom;
+    private final int timeTo;
+    private final String valueString;
+    private final boolean exceptionOccured;
+
+    public Interval(final int timeFrom, final int timeTo, final String valueString, final boolean exceptionOccured) {
+      this.timeFrom = timeFrom;
+      this.timeTo = timeTo;
+      this.valueString = valueString;
+      this.exceptionOccured = exceptionOccured;
+    }
+
+    public int getTimeFrom() {
+      return timeFrom;
+    }
+
+    /**
+     * @return the last point in time of the interval or
+     *         {@link ValueHistory#OPEN_END}, if the status is still current
+     */
+    public int getTimeTo() {
+      return timeTo;
+    }
+
+    public String getValueString() {
+      return valueString;
+    }
+
+    public boolean isExceptionOccured() {
+      return exceptionOccured;
+    }
+  }
+}
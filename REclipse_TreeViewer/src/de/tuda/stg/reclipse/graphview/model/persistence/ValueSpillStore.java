@@ -0,0 +1,230 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Append-only file which holds value strings that exceed a configurable size.
+ * Only a short prefix and a hash of such values are kept in the database, the
+ * full value is loaded from the file on demand.
+ */
+public class ValueSpillStore {
+
+  private static final int PREFIX_LENGTH = 64;
+  private static final char ABBREVIATION_MARKER = '\u2026';
+  private static final int DIGEST_BYTES = 8;
+
+  private final File file;
+  private final int threshold;
+
+  private FileChannel channel;
+
+  /**
+   * @param file
+   *          the file the values are written to
+   * @param threshold
+   *          the length from which on values are spilled, spilling is disabled
+   *          if the threshold is not positive
+   */
+  public ValueSpillStore(final File file, final int threshold) {
+    this.file = file;
+    this.threshold = threshold;
+  }
+
+  /**
+   * @param valueString
+   *          a value string
+   * @return <code>true</code> if the value string is too long to be stored
+   *         inline
+   */
+  public boolean isSpilled(final String valueString) {
+    return threshold > 0 && valueString != null && valueString.length() > threshold;
+  }
+
+  /**
+   * Returns the inline representation of a spilled value, which consists of a
+   * prefix of the value and a hash of the full value. Different values yield
+   * different inline representations, so they can be compared instead of the
+   * full values.
+   *
+   * @param valueString
+   *          a value string which has to be spilled
+   * @return the inline representation of the value
+   */
+  public String abbreviate(final String valueString) {
+    final StringBuilder builder = new StringBuilder(PREFIX_LENGTH + 2 + DIGEST_BYTES * 2);
+    builder.append(valueString, 0, Math.min(PREFIX_LENGTH, valueString.length()));
+    builder.append(ABBREVIATION_MARKER).append('#');
+
+    for (final byte b : digest(valueString)) {
+      builder.append(String.format("%02x", b)); //$NON-NLS-1$
+    }
+
+    return builder.toString();
+  }
+
+  /**
+   * @param valueString
+   *          a value string loaded from the database
+   * @return <code>true</code> if the value string might be the inline
+   *         representation of a spilled value
+   */
+  public boolean isAbbreviation(final String valueString) {
+    final int markerIndex = valueString.length() - DIGEST_BYTES * 2 - 2;
+    return markerIndex >= 0 && valueString.charAt(markerIndex) == ABBREVIATION_MARKER && valueString.charAt(markerIndex + 1) == '#';
+  }
+
+  private static byte[] digest(final String valueString) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+      final byte[] hash = digest.digest(valueString.getBytes(StandardCharsets.UTF_8));
+      final byte[] result = new byte[DIGEST_BYTES];
+      System.arraycopy(hash, 0, result, 0, DIGEST_BYTES);
+      return result;
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Appends the value to the file.
+   *
+   * @param valueString
+   *          the full value string
+   * @return the position of the value in the file
+   * @throws PersistenceException
+   *           if the value could not be written
+   */
+  public synchronized SpilledValue append(final String valueString) throws PersistenceException {
+    final byte[] bytes = valueString.getBytes(StandardCharsets.UTF_8);
+
+    try {
+      final FileChannel ch = getChannel();
+      final long offset = ch.size();
+      final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+      while (buffer.hasRemaining()) {
+        ch.write(buffer, offset + buffer.position());
+      }
+
+      return new SpilledValue(offset, bytes.length);
+    }
+    catch (final IOException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  /**
+   * Reads a value which has been written before.
+   *
+   * @param value
+   *          the position of the value in the file
+   * @return the full value string
+   * @throws PersistenceException
+   *           if the value could not be read
+   */
+  public String read(final SpilledValue value) throws PersistenceException {
+    final ByteBuffer buffer = ByteBuffer.allocate(value.getLength());
+
+    try {
+      final FileChannel ch = getChannel();
+
+      while (buffer.hasRemaining()) {
+        if (ch.read(buffer, value.getOffset() + buffer.position()) < 0) {
+          throw new PersistenceException("spilled value at offset " + value.getOffset() + " is truncated"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+      }
+    }
+    catch (final IOException e) {
+      throw new PersistenceException(e);
+    }
+
+    return new String(buffer.array(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Copies the content of the file, e.g. to archive it.
+   *
+   * @param out
+   *          the stream to write to
+   * @throws PersistenceException
+   *           if the file could not be read
+   */
+  public synchronized void copyTo(final OutputStream out) throws PersistenceException {
+    if (!file.exists()) {
+      return;
+    }
+
+    try {
+      Files.copy(file.toPath(), out);
+    }
+    catch (final IOException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  private synchronized FileChannel getChannel() throws IOException {
+    if (channel == null) {
+      file.getParentFile().mkdirs();
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    return channel;
+  }
+
+  /**
+   * Closes and removes the file.
+   */
+  public synchronized void close() {
+    if (channel != null) {
+      try {
+        channel.close();
+      }
+      catch (final IOException e) {
+        Activator.log(e);
+      }
+      channel = null;
+    }
+
+    if (file.exists() && !file.delete()) {
+      Activator.logMessage("unable to delete spill file " + file); //$NON-NLS-1$
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Position of a spilled value in the file.
+   */
+  public static class SpilledValue {
+
+    private final long offset;
+    private final int length;
+
+    public SpilledValue(final long offset, final int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+
+    public long getOffset() {
+      return offset;
+    }
+
+    public int getLength() {
+      return length;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package de.tuda.stg.reclipse.graphview.model.persistence;
+
+import de.tuda.stg.reclipse.logger.ReactiveVariable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The reactive variables of a range of points in time, consisting of the
+ * variables at the first point in time and every change of a variable in the
+ * rest of the range. The variables at any point in time of the range are
+ * obtained by replaying the changes, so the history needs memory proportional
+ * to the number of events and not to the number of points in time times the
+ * number of variables.
+ */
+public class VariableHistory {
+
+  private final int fromPointInTime;
+  private final int toPointInTime;
+  private final List<ReactiveVariable> initialVariables;
+  private final List<ReactiveVariable> changes;
+
+  public VariableHistory(final int fromPointInTime, final int toPointInTime, final List<ReactiveVariable> initialVariables, final List<ReactiveVariable> changes) {
+    this.fromPointInTime = fromPointInTime;
+    this.toPointInTime = toPointInTime;
+    this.initialVariables = initialVariables;
+    this.changes = changes;
+  }
+
+  public int getFromPointInTime() {
+    return fromPointInTime;
+  }
+
+  public int getToPointInTime() {
+    return toPointInTime;
+  }
+
+  /**
+   * @return the variables at the first point in time of the range
+   */
+  public List<ReactiveVariable> getInitialVariables() {
+    return Collections.unmodifiableList(initialVariables);
+  }
+
+  /**
+   * @return the new states of the variables which have been created or changed
+   *         after the first point in time, ordered by their point in time
+   */
+  public List<ReactiveVariable> getChanges() {
+    return Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * @param pointInTime
+   *          a point in time of the range
+   * @return the variables at the point in time, each with the point in time of
+   *         its last change
+   */
+  public List<ReactiveVariable> getReVars(final int pointInTime) {
+    final Map<UUID, ReactiveVariable> variables = new LinkedHashMap<>();
+
+    for (final ReactiveVariable variable : initialVariables) {
+      variables.put(variable.getId(), variable);
+    }
+
+    for (final ReactiveVariable change : changes) {
+      if (change.getPointInTime() > pointInTime) {
+        break;
+      }
+
+      variables.put(change.getId(), change);
+    }
+
+    return new ArrayList<>(variables.values());
+  }
+}
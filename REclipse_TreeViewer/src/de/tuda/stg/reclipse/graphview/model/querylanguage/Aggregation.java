@@ -0,0 +1,122 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.AggregationContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.AggregationQueryContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ClassGroupingContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.CountAggregationContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.GroupingContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NodeGroupingContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.RateAggregationContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.TopKAggregationContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.TypeGroupingContext;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * An aggregation query, which counts the events matching an expression in
+ * groups instead of navigating to them.
+ */
+public class Aggregation {
+
+  public enum Function {
+    COUNT, TOP_K, RATE
+  }
+
+  public enum Grouping {
+    NONE, NODE, TYPE, CLASS
+  }
+
+  /**
+   * Unit of a rate, which counts the events per propagation turn.
+   */
+  public static final int PER_TURN = -1;
+
+  private final Function function;
+  private final Grouping grouping;
+  private final ExpressionContext expression;
+  private final int limit;
+  private final int unit;
+
+  private Aggregation(final Function function, final Grouping grouping, final ExpressionContext expression, final int limit, final int unit) {
+    this.function = function;
+    this.grouping = grouping;
+    this.expression = expression;
+    this.limit = limit;
+    this.unit = unit;
+  }
+
+  /**
+   * @return the aggregation of the query or <code>null</code>, if the query is
+   *         not an aggregation
+   */
+  public static Aggregation create(final ReclipseQuery reclipseQuery) {
+    final ParseTree tree = reclipseQuery.getParseTree();
+    return tree instanceof AggregationQueryContext ? create(((AggregationQueryContext) tree).aggregation()) : null;
+  }
+
+  private static Aggregation create(final AggregationContext ctx) {
+    if (ctx instanceof TopKAggregationContext) {
+      final TopKAggregationContext topK = (TopKAggregationContext) ctx;
+      return new Aggregation(Function.TOP_K, getGrouping(topK.grouping()), topK.expression(), Queries.parseInteger(topK.INTEGER()), 1);
+    }
+    else if (ctx instanceof RateAggregationContext) {
+      final RateAggregationContext rate = (RateAggregationContext) ctx;
+      final int unit = rate.INTEGER() != null ? Queries.parseInteger(rate.INTEGER()) : PER_TURN;
+      return new Aggregation(Function.RATE, getGrouping(rate.grouping()), rate.expression(), Integer.MAX_VALUE, unit);
+    }
+    else {
+      final CountAggregationContext count = (CountAggregationContext) ctx;
+      return new Aggregation(Function.COUNT, getGrouping(count.grouping()), count.expression(), Integer.MAX_VALUE, 1);
+    }
+  }
+
+  private static Grouping getGrouping(final GroupingContext ctx) {
+    if (ctx instanceof NodeGroupingContext) {
+      return Grouping.NODE;
+    }
+    else if (ctx instanceof TypeGroupingContext) {
+      return Grouping.TYPE;
+    }
+    else if (ctx instanceof ClassGroupingContext) {
+      return Grouping.CLASS;
+    }
+
+    return Grouping.NONE;
+  }
+
+  public Function getFunction() {
+    return function;
+  }
+
+  /**
+   * @return how the events are grouped, events of the class grouping are
+   *         grouped by the class of their exception
+   */
+  public Grouping getGrouping() {
+    return grouping;
+  }
+
+  /**
+   * @return the expression which the counted events match or
+   *         <code>null</code>, if all events are counted
+   */
+  public ExpressionContext getExpression() {
+    return expression;
+  }
+
+  /**
+   * @return the maximum number of groups in the result
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * @return the number of points in time a rate refers to or
+   *         {@link #PER_TURN}
+   */
+  public int getUnit() {
+    return unit;
+  }
+}
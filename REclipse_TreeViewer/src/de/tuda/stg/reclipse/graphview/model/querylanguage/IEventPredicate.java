@@ -0,0 +1,20 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.EventTable;
+
+/**
+ * A compiled query, which decides for every event of the history whether it
+ * matches. Predicates of sequence queries keep the partial matches of the
+ * events they have seen, so the events must be passed in ascending order.
+ */
+public interface IEventPredicate {
+
+  /**
+   * @param events
+   *          the events of the history
+   * @param event
+   *          the number of an event in the table
+   * @return <code>true</code>, if the event matches the query
+   */
+  boolean matches(EventTable events, int event);
+}
@@ -4,6 +4,7 @@ import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 /**
  * Utility class for parsing and creating REclipse queries.
@@ -33,6 +34,21 @@ public class Queries {
     return ctx.exception == null ? new ReclipseQuery(queryText, ctx) : null;
   }
 
+  /**
+   * @param integer
+   *          an integer literal of a query
+   * @return the value of the literal or {@link Integer#MAX_VALUE}, if it is
+   *         larger
+   */
+  public static int parseInteger(final TerminalNode integer) {
+    try {
+      return Integer.parseInt(integer.getText());
+    }
+    catch (final NumberFormatException e) {
+      return Integer.MAX_VALUE;
+    }
+  }
+
   private static ReclipseParser createParser(final String queryText) {
     final ReclipseLexer lexer = new ReclipseLexer(new ANTLRInputStream(queryText));
     final CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -2,7 +2,52 @@ grammar Reclipse;
 
 @header{package de.tuda.stg.reclipse.graphview.model.querylanguage;}
 
-query: nodeCreatedQuery
+query: aggregation # aggregationQuery
+	|
+	sequence # sequenceQuery
+	|
+	expression # expressionQuery
+	;
+
+// the steps match events at increasing points in time, the window limits the
+// distance from the first to the last step in points in time or to the
+// propagation turn of the first step
+sequence: expression ('then' expression)+ window? ;
+
+window: 'within' INTEGER # pointsInTimeWindow
+	|
+	'within' 'turn' # turnWindow
+	;
+
+// aggregations count the events which match the expression or all events,
+// rates are counts per number of points in time or per propagation turn
+aggregation: 'count(' expression? ')' grouping? # countAggregation
+	|
+	'topK(' INTEGER (',' expression)? ')' grouping # topKAggregation
+	|
+	'rate(' (expression ',')? (INTEGER | 'turn') ')' grouping? # rateAggregation
+	;
+
+grouping: 'groupBy' 'node' # nodeGrouping
+	|
+	'groupBy' 'type' # typeGrouping
+	|
+	'groupBy' 'class' # classGrouping
+	;
+
+// alternatives listed first bind stronger: not before and before or
+expression: 'not' expression # notExpression
+	|
+	expression 'and' expression # andExpression
+	|
+	expression 'or' expression # orExpression
+	|
+	'(' expression ')' # parenExpression
+	|
+	primitive # primitiveExpression
+	;
+
+primitive: nodeCreatedQuery
 	|
 	nodeEvaluatedQuery
 	|
@@ -12,20 +57,44 @@ query: nodeCreatedQuery
 	|
 	evaluationYielded
 	|
+	evaluationYieldedValue
+	|
 	evaluationException
 	;
 
-nodeCreatedQuery: 'nodeCreated(' NODE_NAME ')' ;
-nodeEvaluatedQuery: 'nodeEvaluated(' NODE_NAME ')' ;
-nodeValueSet: 'nodeValueSet(' NODE_NAME ')' ;
-dependencyCreated: 'dependencyCreated(' NODE_NAME ',' NODE_NAME ')' ;
-evaluationYielded: 'evaluationYielded(' NODE_NAME ',' VALUE ')' ;
-evaluationException: 'evaluationException(' (NODE_NAME)? ')' ;
+nodeCreatedQuery: 'nodeCreated(' identifier? ')' ;
+nodeEvaluatedQuery: 'nodeEvaluated(' identifier? ')' ;
+nodeValueSet: 'nodeValueSet(' identifier? ')' ;
+dependencyCreated: 'dependencyCreated(' identifier ',' identifier ')' ;
+evaluationYielded: 'evaluationYielded(' identifier ',' VALUE ')' ;
+evaluationYieldedValue: 'evaluationYielded(' identifier ',' valueCondition ')' ;
+evaluationException: 'evaluationException(' (identifier (',' VALUE)? | VALUE)? ')' ;
+
+// node names may be keywords of the query language, so every keyword which
+// is a valid identifier is accepted where a node name is expected
+identifier: NODE_NAME | 'not' | 'and' | 'or' | 'then' | 'within' | 'turn' | 'groupBy' | 'node' | 'type' | 'class' | 'true' | 'false' ;
+
+// numbers are compared by their decimal value, ranges include their bounds,
+// booleans match their literal and regular expressions the whole value
+valueCondition: op = ('<' | '<=' | '>' | '>=' | '==' | '!=') number # comparedValue
+	|
+	'[' number ',' number ']' # rangeValue
+	|
+	('true' | 'false') # booleanValue
+	|
+	'~' VALUE # regexValue
+	;
+
+number: '-'? (INTEGER | DECIMAL) ;
 
 NODE_NAME: Identifier ;
 
 VALUE: StringLiteral ;
 
+INTEGER: [0-9]+ ;
+
+DECIMAL: [0-9]+ '.' [0-9]+ ;
+
 // taken from the official ANTLR v4 Java grammar
 // @see https://github.com/antlr/grammars-v4/blob/master/java/Java.g4
 Identifier
@@ -17,8 +17,12 @@ public class ReclipseLexer extends Lexer {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__7=1, T__6=2, T__5=3, T__4=4, T__3=5, T__2=6, T__1=7, T__0=8, NODE_NAME=9, 
-		VALUE=10, Identifier=11, StringLiteral=12, WS=13;
+		T__33=1, T__32=2, T__31=3, T__30=4, T__29=5, T__28=6, T__27=7, T__26=8, 
+		T__25=9, T__24=10, T__23=11, T__22=12, T__21=13, T__20=14, T__19=15, T__18=16, 
+		T__17=17, T__16=18, T__15=19, T__14=20, T__13=21, T__12=22, T__11=23, 
+		T__10=24, T__9=25, T__8=26, T__7=27, T__6=28, T__5=29, T__4=30, T__3=31, 
+		T__2=32, T__1=33, T__0=34, NODE_NAME=35, VALUE=36, INTEGER=37, DECIMAL=38, 
+		Identifier=39, StringLiteral=40, WS=41;
 	public static String[] modeNames = {
 		"DEFAULT_MODE"
 	};
@@ -26,13 +30,21 @@ public class ReclipseLexer extends Lexer {
 	public static final String[] tokenNames = {
 		"'\\u0000'", "'\\u0001'", "'\\u0002'", "'\\u0003'", "'\\u0004'", "'\\u0005'", 
 		"'\\u0006'", "'\\u0007'", "'\b'", "'\t'", "'\n'", "'\\u000B'", "'\f'", 
-		"'\r'"
+		"'\r'", "'\\u000E'", "'\\u000F'", "'\\u0010'", "'\\u0011'", "'\\u0012'", 
+		"'\\u0013'", "'\\u0014'", "'\\u0015'", "'\\u0016'", "'\\u0017'", "'\\u0018'", 
+		"'\\u0019'", "'\\u001A'", "'\\u001B'", "'\\u001C'", "'\\u001D'", "'\\u001E'", 
+		"'\\u001F'", "' '", "'!'", "'\"'", "'#'", "'$'", "'%'", "'&'", "'''", 
+		"'('", "')'"
 	};
 	public static final String[] ruleNames = {
-		"T__7", "T__6", "T__5", "T__4", "T__3", "T__2", "T__1", "T__0", "NODE_NAME", 
-		"VALUE", "Identifier", "JavaLetter", "JavaLetterOrDigit", "StringLiteral", 
-		"StringCharacters", "StringCharacter", "EscapeSequence", "OctalEscape", 
-		"UnicodeEscape", "OctalDigit", "ZeroToThree", "HexDigit", "WS"
+		"T__33", "T__32", "T__31", "T__30", "T__29", "T__28", "T__27", "T__26", 
+		"T__25", "T__24", "T__23", "T__22", "T__21", "T__20", "T__19", "T__18", 
+		"T__17", "T__16", "T__15", "T__14", "T__13", "T__12", "T__11", "T__10", 
+		"T__9", "T__8", "T__7", "T__6", "T__5", "T__4", "T__3", "T__2", "T__1", 
+		"T__0", "NODE_NAME", "VALUE", "INTEGER", "DECIMAL", "Identifier", "JavaLetter", 
+		"JavaLetterOrDigit", "StringLiteral", "StringCharacters", "StringCharacter", 
+		"EscapeSequence", "OctalEscape", "UnicodeEscape", "OctalDigit", "ZeroToThree", 
+		"HexDigit", "WS"
 	};
 
 
@@ -62,8 +74,8 @@ public class ReclipseLexer extends Lexer {
 	@Override
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 11: return JavaLetter_sempred((RuleContext)_localctx, predIndex);
-		case 12: return JavaLetterOrDigit_sempred((RuleContext)_localctx, predIndex);
+		case 39: return JavaLetter_sempred((RuleContext)_localctx, predIndex);
+		case 40: return JavaLetterOrDigit_sempred((RuleContext)_localctx, predIndex);
 		}
 		return true;
 	}
@@ -83,79 +95,142 @@ public class ReclipseLexer extends Lexer {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\17\u00eb\b\1\4\2"+
-		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
-		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
-		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\3\2"+
-		"\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3"+
-		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
-		"\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3"+
-		"\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6"+
-		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\b\3\b\3\b\3\b\3"+
-		"\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\n"+
-		"\3\n\3\13\3\13\3\f\3\f\7\f\u00a1\n\f\f\f\16\f\u00a4\13\f\3\r\3\r\3\r\3"+
-		"\r\3\r\3\r\5\r\u00ac\n\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u00b4\n\16"+
-		"\3\17\3\17\5\17\u00b8\n\17\3\17\3\17\3\20\6\20\u00bd\n\20\r\20\16\20\u00be"+
-		"\3\21\3\21\5\21\u00c3\n\21\3\22\3\22\3\22\3\22\5\22\u00c9\n\22\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u00d6\n\23\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27\3\30\6\30"+
-		"\u00e6\n\30\r\30\16\30\u00e7\3\30\3\30\2\2\31\3\3\5\4\7\5\t\6\13\7\r\b"+
-		"\17\t\21\n\23\13\25\f\27\r\31\2\33\2\35\16\37\2!\2#\2%\2\'\2)\2+\2-\2"+
-		"/\17\3\2\r\6\2&&C\\aac|\4\2\2\u0101\ud802\udc01\3\2\ud802\udc01\3\2\udc02"+
-		"\ue001\7\2&&\62;C\\aac|\4\2$$^^\n\2$$))^^ddhhppttvv\3\2\629\3\2\62\65"+
-		"\5\2\62;CHch\5\2\13\f\16\17\"\"\u00ed\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2"+
-		"\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2"+
-		"\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\35\3\2\2\2\2/\3\2\2\2\3\61\3\2"+
-		"\2\2\5@\3\2\2\2\7N\3\2\2\2\tc\3\2\2\2\13v\3\2\2\2\r\u0083\3\2\2\2\17\u0085"+
-		"\3\2\2\2\21\u0098\3\2\2\2\23\u009a\3\2\2\2\25\u009c\3\2\2\2\27\u009e\3"+
-		"\2\2\2\31\u00ab\3\2\2\2\33\u00b3\3\2\2\2\35\u00b5\3\2\2\2\37\u00bc\3\2"+
-		"\2\2!\u00c2\3\2\2\2#\u00c8\3\2\2\2%\u00d5\3\2\2\2\'\u00d7\3\2\2\2)\u00de"+
-		"\3\2\2\2+\u00e0\3\2\2\2-\u00e2\3\2\2\2/\u00e5\3\2\2\2\61\62\7p\2\2\62"+
-		"\63\7q\2\2\63\64\7f\2\2\64\65\7g\2\2\65\66\7G\2\2\66\67\7x\2\2\678\7c"+
-		"\2\289\7n\2\29:\7w\2\2:;\7c\2\2;<\7v\2\2<=\7g\2\2=>\7f\2\2>?\7*\2\2?\4"+
-		"\3\2\2\2@A\7p\2\2AB\7q\2\2BC\7f\2\2CD\7g\2\2DE\7X\2\2EF\7c\2\2FG\7n\2"+
-		"\2GH\7w\2\2HI\7g\2\2IJ\7U\2\2JK\7g\2\2KL\7v\2\2LM\7*\2\2M\6\3\2\2\2NO"+
-		"\7g\2\2OP\7x\2\2PQ\7c\2\2QR\7n\2\2RS\7w\2\2ST\7c\2\2TU\7v\2\2UV\7k\2\2"+
-		"VW\7q\2\2WX\7p\2\2XY\7G\2\2YZ\7z\2\2Z[\7e\2\2[\\\7g\2\2\\]\7r\2\2]^\7"+
-		"v\2\2^_\7k\2\2_`\7q\2\2`a\7p\2\2ab\7*\2\2b\b\3\2\2\2cd\7g\2\2de\7x\2\2"+
-		"ef\7c\2\2fg\7n\2\2gh\7w\2\2hi\7c\2\2ij\7v\2\2jk\7k\2\2kl\7q\2\2lm\7p\2"+
-		"\2mn\7[\2\2no\7k\2\2op\7g\2\2pq\7n\2\2qr\7f\2\2rs\7g\2\2st\7f\2\2tu\7"+
-		"*\2\2u\n\3\2\2\2vw\7p\2\2wx\7q\2\2xy\7f\2\2yz\7g\2\2z{\7E\2\2{|\7t\2\2"+
-		"|}\7g\2\2}~\7c\2\2~\177\7v\2\2\177\u0080\7g\2\2\u0080\u0081\7f\2\2\u0081"+
-		"\u0082\7*\2\2\u0082\f\3\2\2\2\u0083\u0084\7+\2\2\u0084\16\3\2\2\2\u0085"+
-		"\u0086\7f\2\2\u0086\u0087\7g\2\2\u0087\u0088\7r\2\2\u0088\u0089\7g\2\2"+
-		"\u0089\u008a\7p\2\2\u008a\u008b\7f\2\2\u008b\u008c\7g\2\2\u008c\u008d"+
-		"\7p\2\2\u008d\u008e\7e\2\2\u008e\u008f\7{\2\2\u008f\u0090\7E\2\2\u0090"+
-		"\u0091\7t\2\2\u0091\u0092\7g\2\2\u0092\u0093\7c\2\2\u0093\u0094\7v\2\2"+
-		"\u0094\u0095\7g\2\2\u0095\u0096\7f\2\2\u0096\u0097\7*\2\2\u0097\20\3\2"+
-		"\2\2\u0098\u0099\7.\2\2\u0099\22\3\2\2\2\u009a\u009b\5\27\f\2\u009b\24"+
-		"\3\2\2\2\u009c\u009d\5\35\17\2\u009d\26\3\2\2\2\u009e\u00a2\5\31\r\2\u009f"+
-		"\u00a1\5\33\16\2\u00a0\u009f\3\2\2\2\u00a1\u00a4\3\2\2\2\u00a2\u00a0\3"+
-		"\2\2\2\u00a2\u00a3\3\2\2\2\u00a3\30\3\2\2\2\u00a4\u00a2\3\2\2\2\u00a5"+
-		"\u00ac\t\2\2\2\u00a6\u00a7\n\3\2\2\u00a7\u00ac\6\r\2\2\u00a8\u00a9\t\4"+
-		"\2\2\u00a9\u00aa\t\5\2\2\u00aa\u00ac\6\r\3\2\u00ab\u00a5\3\2\2\2\u00ab"+
-		"\u00a6\3\2\2\2\u00ab\u00a8\3\2\2\2\u00ac\32\3\2\2\2\u00ad\u00b4\t\6\2"+
-		"\2\u00ae\u00af\n\3\2\2\u00af\u00b4\6\16\4\2\u00b0\u00b1\t\4\2\2\u00b1"+
-		"\u00b2\t\5\2\2\u00b2\u00b4\6\16\5\2\u00b3\u00ad\3\2\2\2\u00b3\u00ae\3"+
-		"\2\2\2\u00b3\u00b0\3\2\2\2\u00b4\34\3\2\2\2\u00b5\u00b7\7$\2\2\u00b6\u00b8"+
-		"\5\37\20\2\u00b7\u00b6\3\2\2\2\u00b7\u00b8\3\2\2\2\u00b8\u00b9\3\2\2\2"+
-		"\u00b9\u00ba\7$\2\2\u00ba\36\3\2\2\2\u00bb\u00bd\5!\21\2\u00bc\u00bb\3"+
-		"\2\2\2\u00bd\u00be\3\2\2\2\u00be\u00bc\3\2\2\2\u00be\u00bf\3\2\2\2\u00bf"+
-		" \3\2\2\2\u00c0\u00c3\n\7\2\2\u00c1\u00c3\5#\22\2\u00c2\u00c0\3\2\2\2"+
-		"\u00c2\u00c1\3\2\2\2\u00c3\"\3\2\2\2\u00c4\u00c5\7^\2\2\u00c5\u00c9\t"+
-		"\b\2\2\u00c6\u00c9\5%\23\2\u00c7\u00c9\5\'\24\2\u00c8\u00c4\3\2\2\2\u00c8"+
-		"\u00c6\3\2\2\2\u00c8\u00c7\3\2\2\2\u00c9$\3\2\2\2\u00ca\u00cb\7^\2\2\u00cb"+
-		"\u00d6\5)\25\2\u00cc\u00cd\7^\2\2\u00cd\u00ce\5)\25\2\u00ce\u00cf\5)\25"+
-		"\2\u00cf\u00d6\3\2\2\2\u00d0\u00d1\7^\2\2\u00d1\u00d2\5+\26\2\u00d2\u00d3"+
-		"\5)\25\2\u00d3\u00d4\5)\25\2\u00d4\u00d6\3\2\2\2\u00d5\u00ca\3\2\2\2\u00d5"+
-		"\u00cc\3\2\2\2\u00d5\u00d0\3\2\2\2\u00d6&\3\2\2\2\u00d7\u00d8\7^\2\2\u00d8"+
-		"\u00d9\7w\2\2\u00d9\u00da\5-\27\2\u00da\u00db\5-\27\2\u00db\u00dc\5-\27"+
-		"\2\u00dc\u00dd\5-\27\2\u00dd(\3\2\2\2\u00de\u00df\t\t\2\2\u00df*\3\2\2"+
-		"\2\u00e0\u00e1\t\n\2\2\u00e1,\3\2\2\2\u00e2\u00e3\t\13\2\2\u00e3.\3\2"+
-		"\2\2\u00e4\u00e6\t\f\2\2\u00e5\u00e4\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7"+
-		"\u00e5\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e9\3\2\2\2\u00e9\u00ea\b\30"+
-		"\2\2\u00ea\60\3\2\2\2\f\2\u00a2\u00ab\u00b3\u00b7\u00be\u00c2\u00c8\u00d5"+
-		"\u00e7\3\b\2\2";
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2+\u019f\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\7"+
+		"\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3"+
+		"\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n"+
+		"\3\n\3\n\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\16\3\16\3\16\3\16\3\16"+
+		"\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3\20\3\21\3\21\3\21\3\22"+
+		"\3\22\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\27"+
+		"\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
+		"\3\35\3\35\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3"+
+		" \3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3$\3$\3%\3%\3&\6&"+
+		"\u0144\n&\r&\16&\u0145\3\'\6\'\u0149\n\'\r\'\16\'\u014a\3\'\3\'\6\'\u014f"+
+		"\n\'\r\'\16\'\u0150\3(\3(\7(\u0155\n(\f(\16(\u0158\13(\3)\3)\3)\3)\3)"+
+		"\3)\5)\u0160\n)\3*\3*\3*\3*\3*\3*\5*\u0168\n*\3+\3+\5+\u016c\n+\3+\3+"+
+		"\3,\6,\u0171\n,\r,\16,\u0172\3-\3-\5-\u0177\n-\3.\3.\3.\3.\5.\u017d\n"+
+		".\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\5/\u018a\n/\3\60\3\60\3\60\3\60\3\60"+
+		"\3\60\3\60\3\61\3\61\3\62\3\62\3\63\3\63\3\64\6\64\u019a\n\64\r\64\16"+
+		"\64\u019b\3\64\3\64\2\2\65\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25"+
+		"\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32"+
+		"\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q\2S\2U*W\2Y\2[\2]\2_"+
+		"\2a\2c\2e\2g+\3\2\16\3\2\62;\6\2&&C\\aac|\4\2\2\u0101\ud802\udc01\3\2"+
+		"\ud802\udc01\3\2\udc02\ue001\7\2&&\62;C\\aac|\4\2$$^^\n\2$$))^^ddhhpp"+
+		"ttvv\3\2\629\3\2\62\65\5\2\62;CHch\5\2\13\f\16\17\"\"\u01a4\2\3\3\2\2"+
+		"\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3"+
+		"\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2"+
+		"\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2"+
+		"\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2"+
+		"\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3"+
+		"\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2"+
+		"\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2U\3\2\2\2\2g\3\2\2\2\3i\3\2\2\2\5"+
+		"n\3\2\2\2\7{\3\2\2\2\t~\3\2\2\2\13\u0084\3\2\2\2\r\u008a\3\2\2\2\17\u008d"+
+		"\3\2\2\2\21\u009c\3\2\2\2\23\u00aa\3\2\2\2\25\u00b0\3\2\2\2\27\u00b2\3"+
+		"\2\2\2\31\u00b7\3\2\2\2\33\u00b9\3\2\2\2\35\u00c0\3\2\2\2\37\u00c6\3\2"+
+		"\2\2!\u00c8\3\2\2\2#\u00cb\3\2\2\2%\u00ce\3\2\2\2\'\u00d0\3\2\2\2)\u00d2"+
+		"\3\2\2\2+\u00d7\3\2\2\2-\u00d9\3\2\2\2/\u00db\3\2\2\2\61\u00de\3\2\2\2"+
+		"\63\u00e3\3\2\2\2\65\u00f8\3\2\2\2\67\u010b\3\2\2\29\u0112\3\2\2\2;\u0114"+
+		"\3\2\2\2=\u0118\3\2\2\2?\u012b\3\2\2\2A\u0130\3\2\2\2C\u0134\3\2\2\2E"+
+		"\u013c\3\2\2\2G\u013e\3\2\2\2I\u0140\3\2\2\2K\u0143\3\2\2\2M\u0148\3\2"+
+		"\2\2O\u0152\3\2\2\2Q\u015f\3\2\2\2S\u0167\3\2\2\2U\u0169\3\2\2\2W\u0170"+
+		"\3\2\2\2Y\u0176\3\2\2\2[\u017c\3\2\2\2]\u0189\3\2\2\2_\u018b\3\2\2\2a"+
+		"\u0192\3\2\2\2c\u0194\3\2\2\2e\u0196\3\2\2\2g\u0199\3\2\2\2ij\7v\2\2j"+
+		"k\7t\2\2kl\7w\2\2lm\7g\2\2m\4\3\2\2\2no\7p\2\2op\7q\2\2pq\7f\2\2qr\7g"+
+		"\2\2rs\7E\2\2st\7t\2\2tu\7g\2\2uv\7c\2\2vw\7v\2\2wx\7g\2\2xy\7f\2\2yz"+
+		"\7*\2\2z\6\3\2\2\2{|\7#\2\2|}\7?\2\2}\b\3\2\2\2~\177\7e\2\2\177\u0080"+
+		"\7n\2\2\u0080\u0081\7c\2\2\u0081\u0082\7u\2\2\u0082\u0083\7u\2\2\u0083"+
+		"\n\3\2\2\2\u0084\u0085\7t\2\2\u0085\u0086\7c\2\2\u0086\u0087\7v\2\2\u0087"+
+		"\u0088\7g\2\2\u0088\u0089\7*\2\2\u0089\f\3\2\2\2\u008a\u008b\7>\2\2\u008b"+
+		"\u008c\7?\2\2\u008c\16\3\2\2\2\u008d\u008e\7p\2\2\u008e\u008f\7q\2\2\u008f"+
+		"\u0090\7f\2\2\u0090\u0091\7g\2\2\u0091\u0092\7G\2\2\u0092\u0093\7x\2\2"+
+		"\u0093\u0094\7c\2\2\u0094\u0095\7n\2\2\u0095\u0096\7w\2\2\u0096\u0097"+
+		"\7c\2\2\u0097\u0098\7v\2\2\u0098\u0099\7g\2\2\u0099\u009a\7f\2\2\u009a"+
+		"\u009b\7*\2\2\u009b\20\3\2\2\2\u009c\u009d\7p\2\2\u009d\u009e\7q\2\2\u009e"+
+		"\u009f\7f\2\2\u009f\u00a0\7g\2\2\u00a0\u00a1\7X\2\2\u00a1\u00a2\7c\2\2"+
+		"\u00a2\u00a3\7n\2\2\u00a3\u00a4\7w\2\2\u00a4\u00a5\7g\2\2\u00a5\u00a6"+
+		"\7U\2\2\u00a6\u00a7\7g\2\2\u00a7\u00a8\7v\2\2\u00a8\u00a9\7*\2\2\u00a9"+
+		"\22\3\2\2\2\u00aa\u00ab\7v\2\2\u00ab\u00ac\7q\2\2\u00ac\u00ad\7r\2\2\u00ad"+
+		"\u00ae\7M\2\2\u00ae\u00af\7*\2\2\u00af\24\3\2\2\2\u00b0\u00b1\7*\2\2\u00b1"+
+		"\26\3\2\2\2\u00b2\u00b3\7v\2\2\u00b3\u00b4\7w\2\2\u00b4\u00b5\7t\2\2\u00b5"+
+		"\u00b6\7p\2\2\u00b6\30\3\2\2\2\u00b7\u00b8\7.\2\2\u00b8\32\3\2\2\2\u00b9"+
+		"\u00ba\7e\2\2\u00ba\u00bb\7q\2\2\u00bb\u00bc\7w\2\2\u00bc\u00bd\7p\2\2"+
+		"\u00bd\u00be\7v\2\2\u00be\u00bf\7*\2\2\u00bf\34\3\2\2\2\u00c0\u00c1\7"+
+		"h\2\2\u00c1\u00c2\7c\2\2\u00c2\u00c3\7n\2\2\u00c3\u00c4\7u\2\2\u00c4\u00c5"+
+		"\7g\2\2\u00c5\36\3\2\2\2\u00c6\u00c7\7]\2\2\u00c7 \3\2\2\2\u00c8\u00c9"+
+		"\7@\2\2\u00c9\u00ca\7?\2\2\u00ca\"\3\2\2\2\u00cb\u00cc\7?\2\2\u00cc\u00cd"+
+		"\7?\2\2\u00cd$\3\2\2\2\u00ce\u00cf\7>\2\2\u00cf&\3\2\2\2\u00d0\u00d1\7"+
+		"_\2\2\u00d1(\3\2\2\2\u00d2\u00d3\7p\2\2\u00d3\u00d4\7q\2\2\u00d4\u00d5"+
+		"\7f\2\2\u00d5\u00d6\7g\2\2\u00d6*\3\2\2\2\u00d7\u00d8\7\u0080\2\2\u00d8"+
+		",\3\2\2\2\u00d9\u00da\7@\2\2\u00da.\3\2\2\2\u00db\u00dc\7q\2\2\u00dc\u00dd"+
+		"\7t\2\2\u00dd\60\3\2\2\2\u00de\u00df\7v\2\2\u00df\u00e0\7{\2\2\u00e0\u00e1"+
+		"\7r\2\2\u00e1\u00e2\7g\2\2\u00e2\62\3\2\2\2\u00e3\u00e4\7g\2\2\u00e4\u00e5"+
+		"\7x\2\2\u00e5\u00e6\7c\2\2\u00e6\u00e7\7n\2\2\u00e7\u00e8\7w\2\2\u00e8"+
+		"\u00e9\7c\2\2\u00e9\u00ea\7v\2\2\u00ea\u00eb\7k\2\2\u00eb\u00ec\7q\2\2"+
+		"\u00ec\u00ed\7p\2\2\u00ed\u00ee\7G\2\2\u00ee\u00ef\7z\2\2\u00ef\u00f0"+
+		"\7e\2\2\u00f0\u00f1\7g\2\2\u00f1\u00f2\7r\2\2\u00f2\u00f3\7v\2\2\u00f3"+
+		"\u00f4\7k\2\2\u00f4\u00f5\7q\2\2\u00f5\u00f6\7p\2\2\u00f6\u00f7\7*\2\2"+
+		"\u00f7\64\3\2\2\2\u00f8\u00f9\7g\2\2\u00f9\u00fa\7x\2\2\u00fa\u00fb\7"+
+		"c\2\2\u00fb\u00fc\7n\2\2\u00fc\u00fd\7w\2\2\u00fd\u00fe\7c\2\2\u00fe\u00ff"+
+		"\7v\2\2\u00ff\u0100\7k\2\2\u0100\u0101\7q\2\2\u0101\u0102\7p\2\2\u0102"+
+		"\u0103\7[\2\2\u0103\u0104\7k\2\2\u0104\u0105\7g\2\2\u0105\u0106\7n\2\2"+
+		"\u0106\u0107\7f\2\2\u0107\u0108\7g\2\2\u0108\u0109\7f\2\2\u0109\u010a"+
+		"\7*\2\2\u010a\66\3\2\2\2\u010b\u010c\7y\2\2\u010c\u010d\7k\2\2\u010d\u010e"+
+		"\7v\2\2\u010e\u010f\7j\2\2\u010f\u0110\7k\2\2\u0110\u0111\7p\2\2\u0111"+
+		"8\3\2\2\2\u0112\u0113\7+\2\2\u0113:\3\2\2\2\u0114\u0115\7c\2\2\u0115\u0116"+
+		"\7p\2\2\u0116\u0117\7f\2\2\u0117<\3\2\2\2\u0118\u0119\7f\2\2\u0119\u011a"+
+		"\7g\2\2\u011a\u011b\7r\2\2\u011b\u011c\7g\2\2\u011c\u011d\7p\2\2\u011d"+
+		"\u011e\7f\2\2\u011e\u011f\7g\2\2\u011f\u0120\7p\2\2\u0120\u0121\7e\2\2"+
+		"\u0121\u0122\7{\2\2\u0122\u0123\7E\2\2\u0123\u0124\7t\2\2\u0124\u0125"+
+		"\7g\2\2\u0125\u0126\7c\2\2\u0126\u0127\7v\2\2\u0127\u0128\7g\2\2\u0128"+
+		"\u0129\7f\2\2\u0129\u012a\7*\2\2\u012a>\3\2\2\2\u012b\u012c\7v\2\2\u012c"+
+		"\u012d\7j\2\2\u012d\u012e\7g\2\2\u012e\u012f\7p\2\2\u012f@\3\2\2\2\u0130"+
+		"\u0131\7p\2\2\u0131\u0132\7q\2\2\u0132\u0133\7v\2\2\u0133B\3\2\2\2\u0134"+
+		"\u0135\7i\2\2\u0135\u0136\7t\2\2\u0136\u0137\7q\2\2\u0137\u0138\7w\2\2"+
+		"\u0138\u0139\7r\2\2\u0139\u013a\7D\2\2\u013a\u013b\7{\2\2\u013bD\3\2\2"+
+		"\2\u013c\u013d\7/\2\2\u013dF\3\2\2\2\u013e\u013f\5O(\2\u013fH\3\2\2\2"+
+		"\u0140\u0141\5U+\2\u0141J\3\2\2\2\u0142\u0144\t\2\2\2\u0143\u0142\3\2"+
+		"\2\2\u0144\u0145\3\2\2\2\u0145\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146"+
+		"L\3\2\2\2\u0147\u0149\t\2\2\2\u0148\u0147\3\2\2\2\u0149\u014a\3\2\2\2"+
+		"\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u014c\3\2\2\2\u014c\u014e"+
+		"\7\60\2\2\u014d\u014f\t\2\2\2\u014e\u014d\3\2\2\2\u014f\u0150\3\2\2\2"+
+		"\u0150\u014e\3\2\2\2\u0150\u0151\3\2\2\2\u0151N\3\2\2\2\u0152\u0156\5"+
+		"Q)\2\u0153\u0155\5S*\2\u0154\u0153\3\2\2\2\u0155\u0158\3\2\2\2\u0156\u0154"+
+		"\3\2\2\2\u0156\u0157\3\2\2\2\u0157P\3\2\2\2\u0158\u0156\3\2\2\2\u0159"+
+		"\u0160\t\3\2\2\u015a\u015b\n\4\2\2\u015b\u0160\6)\2\2\u015c\u015d\t\5"+
+		"\2\2\u015d\u015e\t\6\2\2\u015e\u0160\6)\3\2\u015f\u0159\3\2\2\2\u015f"+
+		"\u015a\3\2\2\2\u015f\u015c\3\2\2\2\u0160R\3\2\2\2\u0161\u0168\t\7\2\2"+
+		"\u0162\u0163\n\4\2\2\u0163\u0168\6*\4\2\u0164\u0165\t\5\2\2\u0165\u0166"+
+		"\t\6\2\2\u0166\u0168\6*\5\2\u0167\u0161\3\2\2\2\u0167\u0162\3\2\2\2\u0167"+
+		"\u0164\3\2\2\2\u0168T\3\2\2\2\u0169\u016b\7$\2\2\u016a\u016c\5W,\2\u016b"+
+		"\u016a\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016d\3\2\2\2\u016d\u016e\7$"+
+		"\2\2\u016eV\3\2\2\2\u016f\u0171\5Y-\2\u0170\u016f\3\2\2\2\u0171\u0172"+
+		"\3\2\2\2\u0172\u0170\3\2\2\2\u0172\u0173\3\2\2\2\u0173X\3\2\2\2\u0174"+
+		"\u0177\n\b\2\2\u0175\u0177\5[.\2\u0176\u0174\3\2\2\2\u0176\u0175\3\2\2"+
+		"\2\u0177Z\3\2\2\2\u0178\u0179\7^\2\2\u0179\u017d\t\t\2\2\u017a\u017d\5"+
+		"]/\2\u017b\u017d\5_\60\2\u017c\u0178\3\2\2\2\u017c\u017a\3\2\2\2\u017c"+
+		"\u017b\3\2\2\2\u017d\\\3\2\2\2\u017e\u017f\7^\2\2\u017f\u018a\5a\61\2"+
+		"\u0180\u0181\7^\2\2\u0181\u0182\5a\61\2\u0182\u0183\5a\61\2\u0183\u018a"+
+		"\3\2\2\2\u0184\u0185\7^\2\2\u0185\u0186\5c\62\2\u0186\u0187\5a\61\2\u0187"+
+		"\u0188\5a\61\2\u0188\u018a\3\2\2\2\u0189\u017e\3\2\2\2\u0189\u0180\3\2"+
+		"\2\2\u0189\u0184\3\2\2\2\u018a^\3\2\2\2\u018b\u018c\7^\2\2\u018c\u018d"+
+		"\7w\2\2\u018d\u018e\5e\63\2\u018e\u018f\5e\63\2\u018f\u0190\5e\63\2\u0190"+
+		"\u0191\5e\63\2\u0191`\3\2\2\2\u0192\u0193\t\n\2\2\u0193b\3\2\2\2\u0194"+
+		"\u0195\t\13\2\2\u0195d\3\2\2\2\u0196\u0197\t\f\2\2\u0197f\3\2\2\2\u0198"+
+		"\u019a\t\r\2\2\u0199\u0198\3\2\2\2\u019a\u019b\3\2\2\2\u019b\u0199\3\2"+
+		"\2\2\u019b\u019c\3\2\2\2\u019c\u019d\3\2\2\2\u019d\u019e\b\64\2\2\u019e"+
+		"h\3\2\2\2\17\2\u0145\u014a\u0150\u0156\u015f\u0167\u016b\u0172\u0176\u017c"+
+		"\u0189\u019b\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -17,20 +17,32 @@ public class ReclipseParser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__7=1, T__6=2, T__5=3, T__4=4, T__3=5, T__2=6, T__1=7, T__0=8, NODE_NAME=9, 
-		VALUE=10, Identifier=11, StringLiteral=12, WS=13;
+		T__33=1, T__32=2, T__31=3, T__30=4, T__29=5, T__28=6, T__27=7, T__26=8, 
+		T__25=9, T__24=10, T__23=11, T__22=12, T__21=13, T__20=14, T__19=15, T__18=16, 
+		T__17=17, T__16=18, T__15=19, T__14=20, T__13=21, T__12=22, T__11=23, 
+		T__10=24, T__9=25, T__8=26, T__7=27, T__6=28, T__5=29, T__4=30, T__3=31, 
+		T__2=32, T__1=33, T__0=34, NODE_NAME=35, VALUE=36, INTEGER=37, DECIMAL=38, 
+		Identifier=39, StringLiteral=40, WS=41;
 	public static final String[] tokenNames = {
-		"<INVALID>", "'nodeEvaluated('", "'nodeValueSet('", "'evaluationException('", 
-		"'evaluationYielded('", "'nodeCreated('", "')'", "'dependencyCreated('", 
-		"','", "NODE_NAME", "VALUE", "Identifier", "StringLiteral", "WS"
+		"<INVALID>", "'true'", "'nodeCreated('", "'!='", "'class'", "'rate('", 
+		"'<='", "'nodeEvaluated('", "'nodeValueSet('", "'topK('", "'('", "'turn'", 
+		"','", "'count('", "'false'", "'['", "'>='", "'=='", "'<'", "']'", "'node'", 
+		"'~'", "'>'", "'or'", "'type'", "'evaluationException('", "'evaluationYielded('", 
+		"'within'", "')'", "'and'", "'dependencyCreated('", "'then'", "'not'", 
+		"'groupBy'", "'-'", "NODE_NAME", "VALUE", "INTEGER", "DECIMAL", "Identifier", 
+		"StringLiteral", "WS"
 	};
 	public static final int
-		RULE_query = 0, RULE_nodeCreatedQuery = 1, RULE_nodeEvaluatedQuery = 2, 
-		RULE_nodeValueSet = 3, RULE_dependencyCreated = 4, RULE_evaluationYielded = 5, 
-		RULE_evaluationException = 6;
+		RULE_query = 0, RULE_sequence = 1, RULE_window = 2, RULE_aggregation = 3, 
+		RULE_grouping = 4, RULE_expression = 5, RULE_primitive = 6, RULE_nodeCreatedQuery = 7, 
+		RULE_nodeEvaluatedQuery = 8, RULE_nodeValueSet = 9, RULE_dependencyCreated = 10, 
+		RULE_evaluationYielded = 11, RULE_evaluationYieldedValue = 12, RULE_evaluationException = 13, 
+		RULE_identifier = 14, RULE_valueCondition = 15, RULE_number = 16;
 	public static final String[] ruleNames = {
-		"query", "nodeCreatedQuery", "nodeEvaluatedQuery", "nodeValueSet", "dependencyCreated", 
-		"evaluationYielded", "evaluationException"
+		"query", "sequence", "window", "aggregation", "grouping", "expression", 
+		"primitive", "nodeCreatedQuery", "nodeEvaluatedQuery", "nodeValueSet", 
+		"dependencyCreated", "evaluationYielded", "evaluationYieldedValue", "evaluationException", 
+		"identifier", "valueCondition", "number"
 	};
 
 	@Override
@@ -53,6 +65,633 @@ public class ReclipseParser extends Parser {
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class QueryContext extends ParserRuleContext {
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+	 
+		public QueryContext() { }
+		public void copyFrom(QueryContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class SequenceQueryContext extends QueryContext {
+		public SequenceContext sequence() {
+			return getRuleContext(SequenceContext.class,0);
+		}
+		public SequenceQueryContext(QueryContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitSequenceQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class AggregationQueryContext extends QueryContext {
+		public AggregationContext aggregation() {
+			return getRuleContext(AggregationContext.class,0);
+		}
+		public AggregationQueryContext(QueryContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitAggregationQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ExpressionQueryContext extends QueryContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionQueryContext(QueryContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitExpressionQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			setState(37);
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+			case 1:
+				_localctx = new AggregationQueryContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(34); aggregation();
+				}
+				break;
+
+			case 2:
+				_localctx = new SequenceQueryContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(35); sequence();
+				}
+				break;
+
+			case 3:
+				_localctx = new ExpressionQueryContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(36); expression(0);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SequenceContext extends ParserRuleContext {
+		public WindowContext window() {
+			return getRuleContext(WindowContext.class,0);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public SequenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sequence; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitSequence(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SequenceContext sequence() throws RecognitionException {
+		SequenceContext _localctx = new SequenceContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_sequence);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(39); expression(0);
+			setState(42); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(40); match(T__3);
+				setState(41); expression(0);
+				}
+				}
+				setState(44); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==T__3 );
+			setState(47);
+			_la = _input.LA(1);
+			if (_la==T__7) {
+				{
+				setState(46); window();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WindowContext extends ParserRuleContext {
+		public WindowContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_window; }
+	 
+		public WindowContext() { }
+		public void copyFrom(WindowContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class PointsInTimeWindowContext extends WindowContext {
+		public TerminalNode INTEGER() { return getToken(ReclipseParser.INTEGER, 0); }
+		public PointsInTimeWindowContext(WindowContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitPointsInTimeWindow(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class TurnWindowContext extends WindowContext {
+		public TurnWindowContext(WindowContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitTurnWindow(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowContext window() throws RecognitionException {
+		WindowContext _localctx = new WindowContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_window);
+		try {
+			setState(53);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				_localctx = new PointsInTimeWindowContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(49); match(T__7);
+				setState(50); match(INTEGER);
+				}
+				break;
+
+			case 2:
+				_localctx = new TurnWindowContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(51); match(T__7);
+				setState(52); match(T__23);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AggregationContext extends ParserRuleContext {
+		public AggregationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_aggregation; }
+	 
+		public AggregationContext() { }
+		public void copyFrom(AggregationContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class CountAggregationContext extends AggregationContext {
+		public GroupingContext grouping() {
+			return getRuleContext(GroupingContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public CountAggregationContext(AggregationContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitCountAggregation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RateAggregationContext extends AggregationContext {
+		public TerminalNode INTEGER() { return getToken(ReclipseParser.INTEGER, 0); }
+		public GroupingContext grouping() {
+			return getRuleContext(GroupingContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public RateAggregationContext(AggregationContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitRateAggregation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class TopKAggregationContext extends AggregationContext {
+		public TerminalNode INTEGER() { return getToken(ReclipseParser.INTEGER, 0); }
+		public GroupingContext grouping() {
+			return getRuleContext(GroupingContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TopKAggregationContext(AggregationContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitTopKAggregation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AggregationContext aggregation() throws RecognitionException {
+		AggregationContext _localctx = new AggregationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_aggregation);
+		int _la;
+		try {
+			setState(82);
+			switch (_input.LA(1)) {
+			case T__21:
+				_localctx = new CountAggregationContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(55); match(T__21);
+				setState(57);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__32) | (1L << T__27) | (1L << T__26) | (1L << T__24) | (1L << T__9) | (1L << T__8) | (1L << T__4) | (1L << T__2))) != 0)) {
+					{
+					setState(56); expression(0);
+					}
+				}
+
+				setState(59); match(T__6);
+				setState(61);
+				_la = _input.LA(1);
+				if (_la==T__1) {
+					{
+					setState(60); grouping();
+					}
+				}
+
+				}
+				break;
+			case T__25:
+				_localctx = new TopKAggregationContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(63); match(T__25);
+				setState(64); match(INTEGER);
+				setState(67);
+				_la = _input.LA(1);
+				if (_la==T__22) {
+					{
+					setState(65); match(T__22);
+					setState(66); expression(0);
+					}
+				}
+
+				setState(69); match(T__6);
+				setState(70); grouping();
+				}
+				break;
+			case T__29:
+				_localctx = new RateAggregationContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(71); match(T__29);
+				setState(75);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__32) | (1L << T__27) | (1L << T__26) | (1L << T__24) | (1L << T__9) | (1L << T__8) | (1L << T__4) | (1L << T__2))) != 0)) {
+					{
+					setState(72); expression(0);
+					setState(73); match(T__22);
+					}
+				}
+
+				setState(77);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==INTEGER) ) {
+				_errHandler.recoverInline(this);
+				}
+				consume();
+				setState(78); match(T__6);
+				setState(80);
+				_la = _input.LA(1);
+				if (_la==T__1) {
+					{
+					setState(79); grouping();
+					}
+				}
+
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GroupingContext extends ParserRuleContext {
+		public GroupingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_grouping; }
+	 
+		public GroupingContext() { }
+		public void copyFrom(GroupingContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class NodeGroupingContext extends GroupingContext {
+		public NodeGroupingContext(GroupingContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitNodeGrouping(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ClassGroupingContext extends GroupingContext {
+		public ClassGroupingContext(GroupingContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitClassGrouping(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class TypeGroupingContext extends GroupingContext {
+		public TypeGroupingContext(GroupingContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitTypeGrouping(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GroupingContext grouping() throws RecognitionException {
+		GroupingContext _localctx = new GroupingContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_grouping);
+		try {
+			setState(90);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				_localctx = new NodeGroupingContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(84); match(T__1);
+				setState(85); match(T__14);
+				}
+				break;
+
+			case 2:
+				_localctx = new TypeGroupingContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(86); match(T__1);
+				setState(87); match(T__10);
+				}
+				break;
+
+			case 3:
+				_localctx = new ClassGroupingContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(88); match(T__1);
+				setState(89); match(T__30);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class OrExpressionContext extends ExpressionContext {
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public OrExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitOrExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class PrimitiveExpressionContext extends ExpressionContext {
+		public PrimitiveContext primitive() {
+			return getRuleContext(PrimitiveContext.class,0);
+		}
+		public PrimitiveExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitPrimitiveExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class AndExpressionContext extends ExpressionContext {
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public AndExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitAndExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class NotExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public NotExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitNotExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ParenExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParenExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitParenExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 10;
+		enterRecursionRule(_localctx, 10, RULE_expression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(100);
+			switch (_input.LA(1)) {
+			case T__2:
+				{
+				_localctx = new NotExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(93); match(T__2);
+				setState(94); expression(5);
+				}
+				break;
+			case T__24:
+				{
+				_localctx = new ParenExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(95); match(T__24);
+				setState(96); expression(0);
+				setState(97); match(T__6);
+				}
+				break;
+			case T__32:
+			case T__27:
+			case T__26:
+			case T__9:
+			case T__8:
+			case T__4:
+				{
+				_localctx = new PrimitiveExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(99); primitive();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(110);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(108);
+					switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+					case 1:
+						{
+						_localctx = new AndExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(102);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(103); match(T__5);
+						setState(104); expression(5);
+						}
+						break;
+
+					case 2:
+						{
+						_localctx = new OrExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(105);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(106); match(T__11);
+						setState(107); expression(4);
+						}
+						break;
+					}
+					} 
+				}
+				setState(112);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class PrimitiveContext extends ParserRuleContext {
 		public NodeEvaluatedQueryContext nodeEvaluatedQuery() {
 			return getRuleContext(NodeEvaluatedQueryContext.class,0);
 		}
@@ -68,64 +707,77 @@ public class ReclipseParser extends Parser {
 		public DependencyCreatedContext dependencyCreated() {
 			return getRuleContext(DependencyCreatedContext.class,0);
 		}
+		public EvaluationYieldedValueContext evaluationYieldedValue() {
+			return getRuleContext(EvaluationYieldedValueContext.class,0);
+		}
 		public EvaluationExceptionContext evaluationException() {
 			return getRuleContext(EvaluationExceptionContext.class,0);
 		}
-		public QueryContext(ParserRuleContext parent, int invokingState) {
+		public PrimitiveContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_query; }
+		@Override public int getRuleIndex() { return RULE_primitive; }
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitQuery(this);
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitPrimitive(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final QueryContext query() throws RecognitionException {
-		QueryContext _localctx = new QueryContext(_ctx, getState());
-		enterRule(_localctx, 0, RULE_query);
+	public final PrimitiveContext primitive() throws RecognitionException {
+		PrimitiveContext _localctx = new PrimitiveContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_primitive);
 		try {
-			setState(20);
-			switch (_input.LA(1)) {
-			case T__3:
+			setState(120);
+			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(14); nodeCreatedQuery();
+				setState(113); nodeCreatedQuery();
 				}
 				break;
-			case T__7:
+
+			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(15); nodeEvaluatedQuery();
+				setState(114); nodeEvaluatedQuery();
 				}
 				break;
-			case T__6:
+
+			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(16); nodeValueSet();
+				setState(115); nodeValueSet();
 				}
 				break;
-			case T__1:
+
+			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(17); dependencyCreated();
+				setState(116); dependencyCreated();
 				}
 				break;
-			case T__4:
+
+			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(18); evaluationYielded();
+				setState(117); evaluationYielded();
 				}
 				break;
-			case T__5:
+
+			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(19); evaluationException();
+				setState(118); evaluationYieldedValue();
+				}
+				break;
+
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(119); evaluationException();
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -140,7 +792,9 @@ public class ReclipseParser extends Parser {
 	}
 
 	public static class NodeCreatedQueryContext extends ParserRuleContext {
-		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public NodeCreatedQueryContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -154,13 +808,21 @@ public class ReclipseParser extends Parser {
 
 	public final NodeCreatedQueryContext nodeCreatedQuery() throws RecognitionException {
 		NodeCreatedQueryContext _localctx = new NodeCreatedQueryContext(_ctx, getState());
-		enterRule(_localctx, 2, RULE_nodeCreatedQuery);
+		enterRule(_localctx, 14, RULE_nodeCreatedQuery);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(22); match(T__3);
-			setState(23); match(NODE_NAME);
-			setState(24); match(T__2);
+			setState(122); match(T__32);
+			setState(124);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__33) | (1L << T__30) | (1L << T__23) | (1L << T__20) | (1L << T__14) | (1L << T__11) | (1L << T__10) | (1L << T__7) | (1L << T__5) | (1L << T__3) | (1L << T__2) | (1L << T__1) | (1L << NODE_NAME))) != 0)) {
+				{
+				setState(123); identifier();
+				}
+			}
+
+			setState(126); match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -175,7 +837,9 @@ public class ReclipseParser extends Parser {
 	}
 
 	public static class NodeEvaluatedQueryContext extends ParserRuleContext {
-		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public NodeEvaluatedQueryContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -189,13 +853,21 @@ public class ReclipseParser extends Parser {
 
 	public final NodeEvaluatedQueryContext nodeEvaluatedQuery() throws RecognitionException {
 		NodeEvaluatedQueryContext _localctx = new NodeEvaluatedQueryContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_nodeEvaluatedQuery);
+		enterRule(_localctx, 16, RULE_nodeEvaluatedQuery);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(26); match(T__7);
-			setState(27); match(NODE_NAME);
-			setState(28); match(T__2);
+			setState(128); match(T__27);
+			setState(130);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__33) | (1L << T__30) | (1L << T__23) | (1L << T__20) | (1L << T__14) | (1L << T__11) | (1L << T__10) | (1L << T__7) | (1L << T__5) | (1L << T__3) | (1L << T__2) | (1L << T__1) | (1L << NODE_NAME))) != 0)) {
+				{
+				setState(129); identifier();
+				}
+			}
+
+			setState(132); match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -210,7 +882,9 @@ public class ReclipseParser extends Parser {
 	}
 
 	public static class NodeValueSetContext extends ParserRuleContext {
-		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public NodeValueSetContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -224,13 +898,21 @@ public class ReclipseParser extends Parser {
 
 	public final NodeValueSetContext nodeValueSet() throws RecognitionException {
 		NodeValueSetContext _localctx = new NodeValueSetContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_nodeValueSet);
+		enterRule(_localctx, 18, RULE_nodeValueSet);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(30); match(T__6);
-			setState(31); match(NODE_NAME);
-			setState(32); match(T__2);
+			setState(134); match(T__26);
+			setState(136);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__33) | (1L << T__30) | (1L << T__23) | (1L << T__20) | (1L << T__14) | (1L << T__11) | (1L << T__10) | (1L << T__7) | (1L << T__5) | (1L << T__3) | (1L << T__2) | (1L << T__1) | (1L << NODE_NAME))) != 0)) {
+				{
+				setState(135); identifier();
+				}
+			}
+
+			setState(138); match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -245,10 +927,12 @@ public class ReclipseParser extends Parser {
 	}
 
 	public static class DependencyCreatedContext extends ParserRuleContext {
-		public TerminalNode NODE_NAME(int i) {
-			return getToken(ReclipseParser.NODE_NAME, i);
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
 		}
-		public List<TerminalNode> NODE_NAME() { return getTokens(ReclipseParser.NODE_NAME); }
 		public DependencyCreatedContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -262,15 +946,15 @@ public class ReclipseParser extends Parser {
 
 	public final DependencyCreatedContext dependencyCreated() throws RecognitionException {
 		DependencyCreatedContext _localctx = new DependencyCreatedContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_dependencyCreated);
+		enterRule(_localctx, 20, RULE_dependencyCreated);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(34); match(T__1);
-			setState(35); match(NODE_NAME);
-			setState(36); match(T__0);
-			setState(37); match(NODE_NAME);
-			setState(38); match(T__2);
+			setState(140); match(T__4);
+			setState(141); identifier();
+			setState(142); match(T__22);
+			setState(143); identifier();
+			setState(144); match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -286,7 +970,9 @@ public class ReclipseParser extends Parser {
 
 	public static class EvaluationYieldedContext extends ParserRuleContext {
 		public TerminalNode VALUE() { return getToken(ReclipseParser.VALUE, 0); }
-		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public EvaluationYieldedContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -300,15 +986,57 @@ public class ReclipseParser extends Parser {
 
 	public final EvaluationYieldedContext evaluationYielded() throws RecognitionException {
 		EvaluationYieldedContext _localctx = new EvaluationYieldedContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_evaluationYielded);
+		enterRule(_localctx, 22, RULE_evaluationYielded);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(146); match(T__8);
+			setState(147); identifier();
+			setState(148); match(T__22);
+			setState(149); match(VALUE);
+			setState(150); match(T__6);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EvaluationYieldedValueContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public ValueConditionContext valueCondition() {
+			return getRuleContext(ValueConditionContext.class,0);
+		}
+		public EvaluationYieldedValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_evaluationYieldedValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitEvaluationYieldedValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EvaluationYieldedValueContext evaluationYieldedValue() throws RecognitionException {
+		EvaluationYieldedValueContext _localctx = new EvaluationYieldedValueContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_evaluationYieldedValue);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(40); match(T__4);
-			setState(41); match(NODE_NAME);
-			setState(42); match(T__0);
-			setState(43); match(VALUE);
-			setState(44); match(T__2);
+			setState(152); match(T__8);
+			setState(153); identifier();
+			setState(154); match(T__22);
+			setState(155); valueCondition();
+			setState(156); match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -323,7 +1051,10 @@ public class ReclipseParser extends Parser {
 	}
 
 	public static class EvaluationExceptionContext extends ParserRuleContext {
-		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public TerminalNode VALUE() { return getToken(ReclipseParser.VALUE, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public EvaluationExceptionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -337,21 +1068,266 @@ public class ReclipseParser extends Parser {
 
 	public final EvaluationExceptionContext evaluationException() throws RecognitionException {
 		EvaluationExceptionContext _localctx = new EvaluationExceptionContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_evaluationException);
+		enterRule(_localctx, 26, RULE_evaluationException);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(158); match(T__9);
+			setState(165);
+			switch (_input.LA(1)) {
+			case T__33:
+			case T__30:
+			case T__23:
+			case T__20:
+			case T__14:
+			case T__11:
+			case T__10:
+			case T__7:
+			case T__5:
+			case T__3:
+			case T__2:
+			case T__1:
+			case NODE_NAME:
+				{
+				setState(159); identifier();
+				setState(162);
+				_la = _input.LA(1);
+				if (_la==T__22) {
+					{
+					setState(160); match(T__22);
+					setState(161); match(VALUE);
+					}
+				}
+
+				}
+				break;
+			case VALUE:
+				{
+				setState(164); match(VALUE);
+				}
+				break;
+			case T__6:
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(167); match(T__6);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierContext extends ParserRuleContext {
+		public TerminalNode NODE_NAME() { return getToken(ReclipseParser.NODE_NAME, 0); }
+		public IdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifier; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitIdentifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdentifierContext identifier() throws RecognitionException {
+		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_identifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(169);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__33) | (1L << T__30) | (1L << T__23) | (1L << T__20) | (1L << T__14) | (1L << T__11) | (1L << T__10) | (1L << T__7) | (1L << T__5) | (1L << T__3) | (1L << T__2) | (1L << T__1) | (1L << NODE_NAME))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			consume();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValueConditionContext extends ParserRuleContext {
+		public ValueConditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_valueCondition; }
+	 
+		public ValueConditionContext() { }
+		public void copyFrom(ValueConditionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ComparedValueContext extends ValueConditionContext {
+		public Token op;
+		public NumberContext number() {
+			return getRuleContext(NumberContext.class,0);
+		}
+		public ComparedValueContext(ValueConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitComparedValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BooleanValueContext extends ValueConditionContext {
+		public BooleanValueContext(ValueConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitBooleanValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RegexValueContext extends ValueConditionContext {
+		public TerminalNode VALUE() { return getToken(ReclipseParser.VALUE, 0); }
+		public RegexValueContext(ValueConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitRegexValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RangeValueContext extends ValueConditionContext {
+		public List<NumberContext> number() {
+			return getRuleContexts(NumberContext.class);
+		}
+		public NumberContext number(int i) {
+			return getRuleContext(NumberContext.class,i);
+		}
+		public RangeValueContext(ValueConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitRangeValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValueConditionContext valueCondition() throws RecognitionException {
+		ValueConditionContext _localctx = new ValueConditionContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_valueCondition);
+		int _la;
+		try {
+			setState(182);
+			switch (_input.LA(1)) {
+			case T__31:
+			case T__28:
+			case T__18:
+			case T__17:
+			case T__16:
+			case T__12:
+				_localctx = new ComparedValueContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(171);
+				((ComparedValueContext)_localctx).op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__31) | (1L << T__28) | (1L << T__18) | (1L << T__17) | (1L << T__16) | (1L << T__12))) != 0)) ) {
+					((ComparedValueContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+				}
+				consume();
+				setState(172); number();
+				}
+				break;
+			case T__19:
+				_localctx = new RangeValueContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(173); match(T__19);
+				setState(174); number();
+				setState(175); match(T__22);
+				setState(176); number();
+				setState(177); match(T__15);
+				}
+				break;
+			case T__33:
+			case T__20:
+				_localctx = new BooleanValueContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(179);
+				_la = _input.LA(1);
+				if ( !(_la==T__33 || _la==T__20) ) {
+				_errHandler.recoverInline(this);
+				}
+				consume();
+				}
+				break;
+			case T__13:
+				_localctx = new RegexValueContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(180); match(T__13);
+				setState(181); match(VALUE);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumberContext extends ParserRuleContext {
+		public TerminalNode DECIMAL() { return getToken(ReclipseParser.DECIMAL, 0); }
+		public TerminalNode INTEGER() { return getToken(ReclipseParser.INTEGER, 0); }
+		public NumberContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_number; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ReclipseVisitor ) return ((ReclipseVisitor<? extends T>)visitor).visitNumber(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final NumberContext number() throws RecognitionException {
+		NumberContext _localctx = new NumberContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_number);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(46); match(T__5);
-			setState(48);
+			setState(185);
 			_la = _input.LA(1);
-			if (_la==NODE_NAME) {
+			if (_la==T__0) {
 				{
-				setState(47); match(NODE_NAME);
+				setState(184); match(T__0);
 				}
 			}
 
-			setState(50); match(T__2);
+			setState(187);
+			_la = _input.LA(1);
+			if ( !(_la==INTEGER || _la==DECIMAL) ) {
+			_errHandler.recoverInline(this);
+			}
+			consume();
 			}
 		}
 		catch (RecognitionException re) {
@@ -365,21 +1341,81 @@ public class ReclipseParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 5: return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0: return precpred(_ctx, 4);
+
+		case 1: return precpred(_ctx, 3);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\17\67\4\2\t\2\4\3"+
-		"\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\3\2\3\2\3\2\3\2\3\2\3\2\5"+
-		"\2\27\n\2\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6"+
-		"\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\5\b\63\n\b\3\b\3\b\3\b\2"+
-		"\2\t\2\4\6\b\n\f\16\2\2\65\2\26\3\2\2\2\4\30\3\2\2\2\6\34\3\2\2\2\b \3"+
-		"\2\2\2\n$\3\2\2\2\f*\3\2\2\2\16\60\3\2\2\2\20\27\5\4\3\2\21\27\5\6\4\2"+
-		"\22\27\5\b\5\2\23\27\5\n\6\2\24\27\5\f\7\2\25\27\5\16\b\2\26\20\3\2\2"+
-		"\2\26\21\3\2\2\2\26\22\3\2\2\2\26\23\3\2\2\2\26\24\3\2\2\2\26\25\3\2\2"+
-		"\2\27\3\3\2\2\2\30\31\7\7\2\2\31\32\7\13\2\2\32\33\7\b\2\2\33\5\3\2\2"+
-		"\2\34\35\7\3\2\2\35\36\7\13\2\2\36\37\7\b\2\2\37\7\3\2\2\2 !\7\4\2\2!"+
-		"\"\7\13\2\2\"#\7\b\2\2#\t\3\2\2\2$%\7\t\2\2%&\7\13\2\2&\'\7\n\2\2\'(\7"+
-		"\13\2\2()\7\b\2\2)\13\3\2\2\2*+\7\6\2\2+,\7\13\2\2,-\7\n\2\2-.\7\f\2\2"+
-		"./\7\b\2\2/\r\3\2\2\2\60\62\7\5\2\2\61\63\7\13\2\2\62\61\3\2\2\2\62\63"+
-		"\3\2\2\2\63\64\3\2\2\2\64\65\7\b\2\2\65\17\3\2\2\2\4\26\62";
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3+\u00c0\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\3\2\3\2\3\2\5\2(\n\2\3\3\3\3\3\3\6\3-\n\3\r\3\16\3.\3\3\5\3\62\n\3\3"+
+		"\4\3\4\3\4\3\4\5\48\n\4\3\5\3\5\5\5<\n\5\3\5\3\5\5\5@\n\5\3\5\3\5\3\5"+
+		"\3\5\5\5F\n\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5N\n\5\3\5\3\5\3\5\5\5S\n\5\5"+
+		"\5U\n\5\3\6\3\6\3\6\3\6\3\6\3\6\5\6]\n\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3"+
+		"\7\5\7g\n\7\3\7\3\7\3\7\3\7\3\7\3\7\7\7o\n\7\f\7\16\7r\13\7\3\b\3\b\3"+
+		"\b\3\b\3\b\3\b\3\b\5\b{\n\b\3\t\3\t\5\t\177\n\t\3\t\3\t\3\n\3\n\5\n\u0085"+
+		"\n\n\3\n\3\n\3\13\3\13\5\13\u008b\n\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3"+
+		"\f\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17"+
+		"\3\17\5\17\u00a5\n\17\3\17\5\17\u00a8\n\17\3\17\3\17\3\20\3\20\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u00b9\n\21\3\22"+
+		"\5\22\u00bc\n\22\3\22\3\22\3\22\2\3\f\23\2\4\6\b\n\f\16\20\22\24\26\30"+
+		"\32\34\36 \"\2\7\4\2\r\r\'\'\f\2\3\3\6\6\r\r\20\20\26\26\31\32\35\35\37"+
+		"\37!#%%\6\2\5\5\b\b\22\24\30\30\4\2\3\3\20\20\3\2\'(\u00d0\2\'\3\2\2\2"+
+		"\4)\3\2\2\2\6\67\3\2\2\2\bT\3\2\2\2\n\\\3\2\2\2\ff\3\2\2\2\16z\3\2\2\2"+
+		"\20|\3\2\2\2\22\u0082\3\2\2\2\24\u0088\3\2\2\2\26\u008e\3\2\2\2\30\u0094"+
+		"\3\2\2\2\32\u009a\3\2\2\2\34\u00a0\3\2\2\2\36\u00ab\3\2\2\2 \u00b8\3\2"+
+		"\2\2\"\u00bb\3\2\2\2$(\5\b\5\2%(\5\4\3\2&(\5\f\7\2\'$\3\2\2\2\'%\3\2\2"+
+		"\2\'&\3\2\2\2(\3\3\2\2\2),\5\f\7\2*+\7!\2\2+-\5\f\7\2,*\3\2\2\2-.\3\2"+
+		"\2\2.,\3\2\2\2./\3\2\2\2/\61\3\2\2\2\60\62\5\6\4\2\61\60\3\2\2\2\61\62"+
+		"\3\2\2\2\62\5\3\2\2\2\63\64\7\35\2\2\648\7\'\2\2\65\66\7\35\2\2\668\7"+
+		"\r\2\2\67\63\3\2\2\2\67\65\3\2\2\28\7\3\2\2\29;\7\17\2\2:<\5\f\7\2;:\3"+
+		"\2\2\2;<\3\2\2\2<=\3\2\2\2=?\7\36\2\2>@\5\n\6\2?>\3\2\2\2?@\3\2\2\2@U"+
+		"\3\2\2\2AB\7\13\2\2BE\7\'\2\2CD\7\16\2\2DF\5\f\7\2EC\3\2\2\2EF\3\2\2\2"+
+		"FG\3\2\2\2GH\7\36\2\2HU\5\n\6\2IM\7\7\2\2JK\5\f\7\2KL\7\16\2\2LN\3\2\2"+
+		"\2MJ\3\2\2\2MN\3\2\2\2NO\3\2\2\2OP\t\2\2\2PR\7\36\2\2QS\5\n\6\2RQ\3\2"+
+		"\2\2RS\3\2\2\2SU\3\2\2\2T9\3\2\2\2TA\3\2\2\2TI\3\2\2\2U\t\3\2\2\2VW\7"+
+		"#\2\2W]\7\26\2\2XY\7#\2\2Y]\7\32\2\2Z[\7#\2\2[]\7\6\2\2\\V\3\2\2\2\\X"+
+		"\3\2\2\2\\Z\3\2\2\2]\13\3\2\2\2^_\b\7\1\2_`\7\"\2\2`g\5\f\7\7ab\7\f\2"+
+		"\2bc\5\f\7\2cd\7\36\2\2dg\3\2\2\2eg\5\16\b\2f^\3\2\2\2fa\3\2\2\2fe\3\2"+
+		"\2\2gp\3\2\2\2hi\f\6\2\2ij\7\37\2\2jo\5\f\7\7kl\f\5\2\2lm\7\31\2\2mo\5"+
+		"\f\7\6nh\3\2\2\2nk\3\2\2\2or\3\2\2\2pn\3\2\2\2pq\3\2\2\2q\r\3\2\2\2rp"+
+		"\3\2\2\2s{\5\20\t\2t{\5\22\n\2u{\5\24\13\2v{\5\26\f\2w{\5\30\r\2x{\5\32"+
+		"\16\2y{\5\34\17\2zs\3\2\2\2zt\3\2\2\2zu\3\2\2\2zv\3\2\2\2zw\3\2\2\2zx"+
+		"\3\2\2\2zy\3\2\2\2{\17\3\2\2\2|~\7\4\2\2}\177\5\36\20\2~}\3\2\2\2~\177"+
+		"\3\2\2\2\177\u0080\3\2\2\2\u0080\u0081\7\36\2\2\u0081\21\3\2\2\2\u0082"+
+		"\u0084\7\t\2\2\u0083\u0085\5\36\20\2\u0084\u0083\3\2\2\2\u0084\u0085\3"+
+		"\2\2\2\u0085\u0086\3\2\2\2\u0086\u0087\7\36\2\2\u0087\23\3\2\2\2\u0088"+
+		"\u008a\7\n\2\2\u0089\u008b\5\36\20\2\u008a\u0089\3\2\2\2\u008a\u008b\3"+
+		"\2\2\2\u008b\u008c\3\2\2\2\u008c\u008d\7\36\2\2\u008d\25\3\2\2\2\u008e"+
+		"\u008f\7 \2\2\u008f\u0090\5\36\20\2\u0090\u0091\7\16\2\2\u0091\u0092\5"+
+		"\36\20\2\u0092\u0093\7\36\2\2\u0093\27\3\2\2\2\u0094\u0095\7\34\2\2\u0095"+
+		"\u0096\5\36\20\2\u0096\u0097\7\16\2\2\u0097\u0098\7&\2\2\u0098\u0099\7"+
+		"\36\2\2\u0099\31\3\2\2\2\u009a\u009b\7\34\2\2\u009b\u009c\5\36\20\2\u009c"+
+		"\u009d\7\16\2\2\u009d\u009e\5 \21\2\u009e\u009f\7\36\2\2\u009f\33\3\2"+
+		"\2\2\u00a0\u00a7\7\33\2\2\u00a1\u00a4\5\36\20\2\u00a2\u00a3\7\16\2\2\u00a3"+
+		"\u00a5\7&\2\2\u00a4\u00a2\3\2\2\2\u00a4\u00a5\3\2\2\2\u00a5\u00a8\3\2"+
+		"\2\2\u00a6\u00a8\7&\2\2\u00a7\u00a1\3\2\2\2\u00a7\u00a6\3\2\2\2\u00a7"+
+		"\u00a8\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00aa\7\36\2\2\u00aa\35\3\2\2"+
+		"\2\u00ab\u00ac\t\3\2\2\u00ac\37\3\2\2\2\u00ad\u00ae\t\4\2\2\u00ae\u00b9"+
+		"\5\"\22\2\u00af\u00b0\7\21\2\2\u00b0\u00b1\5\"\22\2\u00b1\u00b2\7\16\2"+
+		"\2\u00b2\u00b3\5\"\22\2\u00b3\u00b4\7\25\2\2\u00b4\u00b9\3\2\2\2\u00b5"+
+		"\u00b9\t\5\2\2\u00b6\u00b7\7\27\2\2\u00b7\u00b9\7&\2\2\u00b8\u00ad\3\2"+
+		"\2\2\u00b8\u00af\3\2\2\2\u00b8\u00b5\3\2\2\2\u00b8\u00b6\3\2\2\2\u00b9"+
+		"!\3\2\2\2\u00ba\u00bc\7$\2\2\u00bb\u00ba\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc"+
+		"\u00bd\3\2\2\2\u00bd\u00be\t\6\2\2\u00be#\3\2\2\2\30\'.\61\67;?EMRT\\"+
+		"fnpz~\u0084\u008a\u00a4\u00a7\u00b8\u00bb";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -11,6 +11,40 @@ import org.antlr.v4.runtime.tree.ParseTreeVisitor;
  * operations with no return type.
  */
 public interface ReclipseVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by the {@code sequenceQuery}
+	 * labeled alternative in {@link ReclipseParser#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSequenceQuery(@NotNull ReclipseParser.SequenceQueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#primitive}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimitive(@NotNull ReclipseParser.PrimitiveContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code pointsInTimeWindow}
+	 * labeled alternative in {@link ReclipseParser#window}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPointsInTimeWindow(@NotNull ReclipseParser.PointsInTimeWindowContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code notExpression}
+	 * labeled alternative in {@link ReclipseParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNotExpression(@NotNull ReclipseParser.NotExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code parenExpression}
+	 * labeled alternative in {@link ReclipseParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParenExpression(@NotNull ReclipseParser.ParenExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ReclipseParser#dependencyCreated}.
 	 * @param ctx the parse tree
@@ -18,29 +52,137 @@ public interface ReclipseVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitDependencyCreated(@NotNull ReclipseParser.DependencyCreatedContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ReclipseParser#nodeCreatedQuery}.
+	 * Visit a parse tree produced by {@link ReclipseParser#evaluationYieldedValue}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitNodeCreatedQuery(@NotNull ReclipseParser.NodeCreatedQueryContext ctx);
+	T visitEvaluationYieldedValue(@NotNull ReclipseParser.EvaluationYieldedValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#number}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumber(@NotNull ReclipseParser.NumberContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ReclipseParser#query}.
+	 * Visit a parse tree produced by the {@code nodeGrouping}
+	 * labeled alternative in {@link ReclipseParser#grouping}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitQuery(@NotNull ReclipseParser.QueryContext ctx);
+	T visitNodeGrouping(@NotNull ReclipseParser.NodeGroupingContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code classGrouping}
+	 * labeled alternative in {@link ReclipseParser#grouping}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitClassGrouping(@NotNull ReclipseParser.ClassGroupingContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code andExpression}
+	 * labeled alternative in {@link ReclipseParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAndExpression(@NotNull ReclipseParser.AndExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code countAggregation}
+	 * labeled alternative in {@link ReclipseParser#aggregation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCountAggregation(@NotNull ReclipseParser.CountAggregationContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ReclipseParser#evaluationException}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitEvaluationException(@NotNull ReclipseParser.EvaluationExceptionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code comparedValue}
+	 * labeled alternative in {@link ReclipseParser#valueCondition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitComparedValue(@NotNull ReclipseParser.ComparedValueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code typeGrouping}
+	 * labeled alternative in {@link ReclipseParser#grouping}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeGrouping(@NotNull ReclipseParser.TypeGroupingContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#evaluationYielded}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEvaluationYielded(@NotNull ReclipseParser.EvaluationYieldedContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#identifier}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdentifier(@NotNull ReclipseParser.IdentifierContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code aggregationQuery}
+	 * labeled alternative in {@link ReclipseParser#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAggregationQuery(@NotNull ReclipseParser.AggregationQueryContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code rateAggregation}
+	 * labeled alternative in {@link ReclipseParser#aggregation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRateAggregation(@NotNull ReclipseParser.RateAggregationContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ReclipseParser#nodeValueSet}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitNodeValueSet(@NotNull ReclipseParser.NodeValueSetContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code topKAggregation}
+	 * labeled alternative in {@link ReclipseParser#aggregation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTopKAggregation(@NotNull ReclipseParser.TopKAggregationContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code expressionQuery}
+	 * labeled alternative in {@link ReclipseParser#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExpressionQuery(@NotNull ReclipseParser.ExpressionQueryContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code orExpression}
+	 * labeled alternative in {@link ReclipseParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOrExpression(@NotNull ReclipseParser.OrExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#sequence}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSequence(@NotNull ReclipseParser.SequenceContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code primitiveExpression}
+	 * labeled alternative in {@link ReclipseParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimitiveExpression(@NotNull ReclipseParser.PrimitiveExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ReclipseParser#nodeCreatedQuery}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNodeCreatedQuery(@NotNull ReclipseParser.NodeCreatedQueryContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ReclipseParser#nodeEvaluatedQuery}.
 	 * @param ctx the parse tree
@@ -48,9 +190,31 @@ public interface ReclipseVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitNodeEvaluatedQuery(@NotNull ReclipseParser.NodeEvaluatedQueryContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ReclipseParser#evaluationYielded}.
+	 * Visit a parse tree produced by the {@code booleanValue}
+	 * labeled alternative in {@link ReclipseParser#valueCondition}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitEvaluationYielded(@NotNull ReclipseParser.EvaluationYieldedContext ctx);
+	T visitBooleanValue(@NotNull ReclipseParser.BooleanValueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code regexValue}
+	 * labeled alternative in {@link ReclipseParser#valueCondition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRegexValue(@NotNull ReclipseParser.RegexValueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code rangeValue}
+	 * labeled alternative in {@link ReclipseParser#valueCondition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRangeValue(@NotNull ReclipseParser.RangeValueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code turnWindow}
+	 * labeled alternative in {@link ReclipseParser#window}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTurnWindow(@NotNull ReclipseParser.TurnWindowContext ctx);
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package de.tuda.stg.reclipse.graphview.model.querylanguage;
 
+import de.tuda.stg.reclipse.graphview.model.persistence.LiveEsperAdapter;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.AndExpressionContext;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.DependencyCreatedContext;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationExceptionContext;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationYieldedContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationYieldedValueContext;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NodeValueSetContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NotExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.OrExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ParenExpressionContext;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
 
 import org.antlr.v4.runtime.misc.NotNull;
 
@@ -16,51 +23,114 @@ public class ReclipseVisitorEsperImpl extends ReclipseBaseVisitor<String> {
   }
 
   @Override
-  public String visitNodeCreatedQuery(@NotNull final ReclipseParser.NodeCreatedQueryContext ctx) {
-    final String nodeName = ctx.NODE_NAME().getText();
+  public String visitNotExpression(final NotExpressionContext ctx) {
+    return "not (" + visit(ctx.expression()) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
 
-    return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_CREATED and name = '" + nodeName + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+  @Override
+  public String visitAndExpression(final AndExpressionContext ctx) {
+    return "(" + visit(ctx.expression(0)) + ") and (" + visit(ctx.expression(1)) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
   }
 
   @Override
-  public String visitNodeEvaluatedQuery(@NotNull final ReclipseParser.NodeEvaluatedQueryContext ctx) {
-    final String nodeName = ctx.NODE_NAME().getText();
+  public String visitOrExpression(final OrExpressionContext ctx) {
+    return "(" + visit(ctx.expression(0)) + ") or (" + visit(ctx.expression(1)) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+  }
+
+  @Override
+  public String visitParenExpression(final ParenExpressionContext ctx) {
+    return visit(ctx.expression());
+  }
 
-    return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_STARTED and name = '" + nodeName + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+  @Override
+  public String visitNodeCreatedQuery(@NotNull final ReclipseParser.NodeCreatedQueryContext ctx) {
+    return createSimpleConditions(DependencyGraphHistoryType.NODE_CREATED, ctx.identifier() != null ? ctx.identifier().getText() : null);
+  }
+
+  @Override
+  public String visitNodeEvaluatedQuery(@NotNull final ReclipseParser.NodeEvaluatedQueryContext ctx) {
+    return createSimpleConditions(DependencyGraphHistoryType.NODE_EVALUATION_STARTED, ctx.identifier() != null ? ctx.identifier().getText() : null);
   }
 
   @Override
   public String visitNodeValueSet(final NodeValueSetContext ctx) {
-    final String nodeName = ctx.NODE_NAME().getText();
-    return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_VALUE_SET and name = '" + nodeName + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+    return createSimpleConditions(DependencyGraphHistoryType.NODE_VALUE_SET, ctx.identifier() != null ? ctx.identifier().getText() : null);
   }
 
   @Override
   public String visitDependencyCreated(final DependencyCreatedContext ctx) {
-    final String nodeName1 = ctx.NODE_NAME(0).getText();
-    final String nodeName2 = ctx.NODE_NAME(1).getText();
+    final String nodeName1 = ctx.identifier(0).getText();
+    final String nodeName2 = ctx.identifier(1).getText();
 
     return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_ATTACHED and additionalInformation = '" + nodeName1 + "->" + nodeName2 + "'"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
   }
 
   @Override
   public String visitEvaluationYielded(final EvaluationYieldedContext ctx) {
-    final String nodeName = ctx.NODE_NAME().getText();
-    String value = ctx.VALUE().getText();
-    value = value.substring(1, value.length() - 1);
+    final String nodeName = ctx.identifier().getText();
+    final String literal = ctx.VALUE().getText();
+    final String value = ValueCondition.unescape(literal.substring(1, literal.length() - 1));
 
-    return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_ENDED and name = '" + nodeName + "' and valueString = '" + value + "'"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_ENDED and name = '" + nodeName + "' and valueString = " + toStringLiteral(value); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  @Override
+  public String visitEvaluationYieldedValue(final EvaluationYieldedValueContext ctx) {
+    final String conditions = createSimpleConditions(DependencyGraphHistoryType.NODE_EVALUATION_ENDED, ctx.identifier().getText()) + " and "; //$NON-NLS-1$
+    final ValueCondition condition = ValueCondition.create(ctx.valueCondition());
+
+    switch (condition.getOperator()) {
+      case BOOLEAN:
+        return conditions + "valueString = '" + condition.getBooleanValue() + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+      case REGEX:
+        return condition.isInvalid() ? conditions + "false" : conditions + "valueString regexp " + toStringLiteral(condition.getRegex()); //$NON-NLS-1$ //$NON-NLS-2$
+      case RANGE:
+        return conditions + createNumberCondition() + " between " + condition.getLower() + " and " + condition.getUpper(); //$NON-NLS-1$ //$NON-NLS-2$
+      default:
+        final String operator = condition.getOperator() == ValueCondition.Operator.EQUAL ? "=" : condition.getOperator().getSymbol(); //$NON-NLS-1$
+        return conditions + createNumberCondition() + " " + operator + " " + condition.getLower(); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+
+  /**
+   * Casts the value strings which are numbers, the others do not satisfy any
+   * comparison.
+   */
+  private static String createNumberCondition() {
+    return "valueString regexp " + toStringLiteral(ValueCondition.NUMBER_REGEX) + " and cast(valueString, double)"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static String toStringLiteral(final String value) {
+    return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
   }
 
   @Override
   public String visitEvaluationException(final EvaluationExceptionContext ctx) {
+    String conditions = "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION"; //$NON-NLS-1$
 
-    if (ctx.NODE_NAME() != null) {
-      final String nodeName = ctx.NODE_NAME().getText();
-      return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION and name = '" + nodeName + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+    if (ctx.identifier() != null) {
+      final String nodeName = ctx.identifier().getText();
+      conditions += " and name = '" + nodeName + "'"; //$NON-NLS-1$ //$NON-NLS-2$
     }
-    else {
-      return "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION"; //$NON-NLS-1$
+
+    if (ctx.VALUE() != null) {
+      final String literal = ctx.VALUE().getText();
+      final String exceptionClass = ValueCondition.unescape(literal.substring(1, literal.length() - 1));
+
+      // the class matches by its full or its simple name
+      final String property = "cast(additionalKeyValue('" + LiveEsperAdapter.EXCEPTION_CLASS_KEY + "'), string)"; //$NON-NLS-1$ //$NON-NLS-2$
+      conditions += " and (" + property + " = " + toStringLiteral(exceptionClass) + " or " + property + " like " + toStringLiteral("%." + exceptionClass) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
     }
+
+    return conditions;
+  }
+
+  /**
+   * @param nodeName
+   *          the name of the node or <code>null</code> for all nodes
+   */
+  private static String createSimpleConditions(final DependencyGraphHistoryType type, final String nodeName) {
+    final String conditions = "dependencyGraphHistoryType = de.tuda.stg.reclipse.logger.DependencyGraphHistoryType." + type.name(); //$NON-NLS-1$
+    return nodeName != null ? conditions + " and name = '" + nodeName + "'" : conditions; //$NON-NLS-1$ //$NON-NLS-2$
   }
 }
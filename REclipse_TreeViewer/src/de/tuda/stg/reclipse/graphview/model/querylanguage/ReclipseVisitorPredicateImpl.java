@@ -0,0 +1,334 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import de.tuda.stg.reclipse.graphview.Activator;
+import de.tuda.stg.reclipse.graphview.model.persistence.DatabaseHelper;
+import de.tuda.stg.reclipse.graphview.model.persistence.EventTable;
+import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceException;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary.ParsedValues;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.AndExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.DependencyCreatedContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationExceptionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationYieldedContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.EvaluationYieldedValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NodeValueSetContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NotExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.OrExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ParenExpressionContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceContext;
+import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles the queries of the REClipse query language to predicates over the
+ * events of an {@link EventTable}. Values and exception classes are resolved to
+ * their ids once, so the predicates only compare the columns of the events.
+ * Typed value conditions use the parsed values of the {@link ValueDictionary}
+ * and regular expressions are matched once per distinct value.
+ * Every point in time has exactly one event, so the boolean operators are
+ * applied to the predicates of the single events. The predicates of sequences
+ * feed a {@link SequenceMatcher} and therefore have to be applied to the events
+ * in ascending order of their points in time.
+ */
+public class ReclipseVisitorPredicateImpl extends ReclipseBaseVisitor<IEventPredicate> {
+
+  private static final byte UNKNOWN = 0;
+  private static final byte MATCHING = 1;
+  private static final byte NOT_MATCHING = 2;
+
+  private final DatabaseHelper dbHelper;
+  private final SequenceMatcher sequenceMatcher;
+
+  public ReclipseVisitorPredicateImpl(final DatabaseHelper dbHelper) {
+    this(dbHelper, null);
+  }
+
+  /**
+   * @param sequenceMatcher
+   *          the matcher which keeps the partial matches of a sequence between
+   *          the evaluations of a query or <code>null</code> for a new matcher
+   */
+  public ReclipseVisitorPredicateImpl(final DatabaseHelper dbHelper, final SequenceMatcher sequenceMatcher) {
+    this.dbHelper = dbHelper;
+    this.sequenceMatcher = sequenceMatcher;
+  }
+
+  @Override
+  public IEventPredicate visitSequence(final SequenceContext ctx) {
+    final SequenceMatcher matcher = sequenceMatcher != null ? sequenceMatcher : SequenceMatcher.create(ctx);
+    final List<ExpressionContext> expressions = ctx.expression();
+    final IEventPredicate[] steps = new IEventPredicate[expressions.size()];
+    final boolean[] matchedSteps = new boolean[steps.length];
+
+    for (int i = 0; i < steps.length; i++) {
+      steps[i] = visit(expressions.get(i));
+    }
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        final int pointInTime = events.getPointInTime(event);
+
+        if (events.getType(event) == DependencyGraphHistoryType.NODE_VALUE_SET) {
+          matcher.startTurn(pointInTime);
+        }
+
+        for (int i = 0; i < steps.length; i++) {
+          matchedSteps[i] = steps[i].matches(events, event);
+        }
+
+        return matcher.next(pointInTime, matchedSteps);
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitNotExpression(final NotExpressionContext ctx) {
+    final IEventPredicate operand = visit(ctx.expression());
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return !operand.matches(events, event);
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitAndExpression(final AndExpressionContext ctx) {
+    final IEventPredicate left = visit(ctx.expression(0));
+    final IEventPredicate right = visit(ctx.expression(1));
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return left.matches(events, event) && right.matches(events, event);
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitOrExpression(final OrExpressionContext ctx) {
+    final IEventPredicate left = visit(ctx.expression(0));
+    final IEventPredicate right = visit(ctx.expression(1));
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return left.matches(events, event) || right.matches(events, event);
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitParenExpression(final ParenExpressionContext ctx) {
+    return visit(ctx.expression());
+  }
+
+  @Override
+  public IEventPredicate visitNodeCreatedQuery(final ReclipseParser.NodeCreatedQueryContext ctx) {
+    final String nodeName = ctx.identifier() != null ? ctx.identifier().getText() : null;
+    return createSimplePredicate(DependencyGraphHistoryType.NODE_CREATED, nodeName);
+  }
+
+  @Override
+  public IEventPredicate visitNodeEvaluatedQuery(final ReclipseParser.NodeEvaluatedQueryContext ctx) {
+    final String nodeName = ctx.identifier() != null ? ctx.identifier().getText() : null;
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        final DependencyGraphHistoryType type = events.getType(event);
+        return (type == DependencyGraphHistoryType.NODE_EVALUATION_ENDED || type == DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION) && (nodeName == null || nodeName.equals(events.getVariableName(event)));
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitNodeValueSet(final NodeValueSetContext ctx) {
+    final String nodeName = ctx.identifier() != null ? ctx.identifier().getText() : null;
+    return createSimplePredicate(DependencyGraphHistoryType.NODE_VALUE_SET, nodeName);
+  }
+
+  @Override
+  public IEventPredicate visitDependencyCreated(final DependencyCreatedContext ctx) {
+    final String nodeName1 = ctx.identifier(0).getText();
+    final String nodeName2 = ctx.identifier(1).getText();
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return events.getType(event) == DependencyGraphHistoryType.NODE_ATTACHED && nodeName1.equals(events.getVariableName(event)) && nodeName2.equals(events.getDependentName(event));
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitEvaluationYielded(final EvaluationYieldedContext ctx) {
+    final String nodeName = ctx.identifier().getText();
+    final String literal = ctx.VALUE().getText();
+    final String value = ValueCondition.unescape(literal.substring(1, literal.length() - 1));
+
+    // values which have never been stored cannot match any status
+    final Integer idValue = findValue(value);
+    final int valueCondition = idValue != null ? idValue : -1;
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return events.getType(event) == DependencyGraphHistoryType.NODE_EVALUATION_ENDED && events.getValueId(event) == valueCondition && nodeName.equals(events.getVariableName(event));
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitEvaluationYieldedValue(final EvaluationYieldedValueContext ctx) {
+    final String nodeName = ctx.identifier().getText();
+    final ValueCondition condition = ValueCondition.create(ctx.valueCondition());
+    final ValueDictionary valueDictionary = dbHelper.getValueDictionary();
+
+    if (condition.getOperator() == ValueCondition.Operator.REGEX) {
+      return createRegexPredicate(nodeName, condition, valueDictionary);
+    }
+
+    return new IEventPredicate() {
+
+      private ParsedValues values;
+      private boolean failed;
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        if (events.getType(event) != DependencyGraphHistoryType.NODE_EVALUATION_ENDED || !nodeName.equals(events.getVariableName(event))) {
+          return false;
+        }
+
+        final int idValue = events.getValueId(event);
+
+        // values stored after the last parse are parsed on demand
+        if ((values == null || idValue >= values.size()) && !failed) {
+          try {
+            values = valueDictionary.getParsedValues(idValue);
+          }
+          catch (final PersistenceException e) {
+            Activator.log(e);
+            failed = true;
+          }
+        }
+
+        return values != null && condition.matches(values, idValue);
+      }
+    };
+  }
+
+  private static IEventPredicate createRegexPredicate(final String nodeName, final ValueCondition condition, final ValueDictionary valueDictionary) {
+    return new IEventPredicate() {
+
+      /**
+       * Whether the value of an id matches, so every value is loaded once.
+       */
+      private byte[] results = new byte[0];
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        if (events.getType(event) != DependencyGraphHistoryType.NODE_EVALUATION_ENDED || !nodeName.equals(events.getVariableName(event))) {
+          return false;
+        }
+
+        final int idValue = events.getValueId(event);
+
+        if (idValue < 0) {
+          return false;
+        }
+
+        if (idValue >= results.length) {
+          results = Arrays.copyOf(results, Math.max(idValue + 1, results.length * 2));
+        }
+
+        if (results[idValue] == UNKNOWN) {
+          results[idValue] = matchesValue(idValue) ? MATCHING : NOT_MATCHING;
+        }
+
+        return results[idValue] == MATCHING;
+      }
+
+      private boolean matchesValue(final int idValue) {
+        try {
+          return condition.matches(valueDictionary.loadFullValue(valueDictionary.loadValueString(idValue)));
+        }
+        catch (final PersistenceException e) {
+          Activator.log(e);
+          return false;
+        }
+      }
+    };
+  }
+
+  @Override
+  public IEventPredicate visitEvaluationException(final EvaluationExceptionContext ctx) {
+    final DependencyGraphHistoryType type = DependencyGraphHistoryType.NODE_EVALUATION_ENDED_WITH_EXCEPTION;
+    final String nodeName = ctx.identifier() != null ? ctx.identifier().getText() : null;
+
+    if (ctx.VALUE() == null) {
+      return createSimplePredicate(type, nodeName);
+    }
+
+    final String literal = ctx.VALUE().getText();
+    final String exceptionClass = ValueCondition.unescape(literal.substring(1, literal.length() - 1));
+
+    final Set<Integer> exceptionIds = findExceptionIds(exceptionClass);
+
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return events.getType(event) == type && exceptionIds.contains(events.getExceptionId(event)) && (nodeName == null || nodeName.equals(events.getVariableName(event)));
+      }
+    };
+  }
+
+  private Integer findValue(final String value) {
+    try {
+      return dbHelper.getValueDictionary().findValue(value);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return null;
+    }
+  }
+
+  private Set<Integer> findExceptionIds(final String exceptionClass) {
+    try {
+      return dbHelper.findExceptionIds(exceptionClass);
+    }
+    catch (final PersistenceException e) {
+      Activator.log(e);
+      return Collections.emptySet();
+    }
+  }
+
+  /**
+   * @param variableName
+   *          the name of the variable or <code>null</code> for all variables
+   */
+  private static IEventPredicate createSimplePredicate(final DependencyGraphHistoryType type, final String variableName) {
+    return new IEventPredicate() {
+
+      @Override
+      public boolean matches(final EventTable events, final int event) {
+        return events.getType(event) == type && (variableName == null || variableName.equals(events.getVariableName(event)));
+      }
+    };
+  }
+}
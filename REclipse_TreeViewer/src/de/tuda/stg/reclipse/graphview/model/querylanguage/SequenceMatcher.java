@@ -0,0 +1,139 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.PointsInTimeWindowContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.SequenceQueryContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.TurnWindowContext;
+
+import java.util.Arrays;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Streaming evaluator of sequence queries. It receives the events in ascending
+ * order of their points in time together with the steps of the sequence they
+ * match, and decides whether an event completes the sequence.
+ * <p>
+ * The window only bounds the start of a sequence, so of all partial matches
+ * which have reached a step only the one which started last has to be kept. The
+ * state therefore consists of one point in time per step and does not grow with
+ * the history.
+ */
+public class SequenceMatcher {
+
+  public static final int NO_WINDOW = -1;
+
+  private final int window;
+  private final boolean sameTurn;
+
+  /**
+   * The latest start of a partial match which has reached the step.
+   */
+  private final int[] starts;
+  private int turnStart = DependencyGraph.NO_POINT_IN_TIME;
+
+  /**
+   * @param steps
+   *          the number of steps of the sequence
+   * @param window
+   *          the maximum distance from the first to the last step in points in
+   *          time or {@link #NO_WINDOW}
+   * @param sameTurn
+   *          <code>true</code>, if all steps must match in the same propagation
+   *          turn
+   */
+  public SequenceMatcher(final int steps, final int window, final boolean sameTurn) {
+    this.window = window;
+    this.sameTurn = sameTurn;
+    this.starts = new int[steps];
+
+    Arrays.fill(starts, DependencyGraph.NO_POINT_IN_TIME);
+  }
+
+  /**
+   * @return a matcher for the sequence or <code>null</code>, if the query is
+   *         not a sequence
+   */
+  public static SequenceMatcher create(final ReclipseQuery reclipseQuery) {
+    final SequenceContext sequence = getSequence(reclipseQuery);
+    return sequence != null ? create(sequence) : null;
+  }
+
+  public static SequenceMatcher create(final SequenceContext ctx) {
+    int window = NO_WINDOW;
+
+    if (ctx.window() instanceof PointsInTimeWindowContext) {
+      window = Queries.parseInteger(((PointsInTimeWindowContext) ctx.window()).INTEGER());
+    }
+
+    return new SequenceMatcher(ctx.expression().size(), window, ctx.window() instanceof TurnWindowContext);
+  }
+
+  /**
+   * @return the sequence of the query or <code>null</code>, if the query is not
+   *         a sequence
+   */
+  public static SequenceContext getSequence(final ReclipseQuery reclipseQuery) {
+    final ParseTree tree = reclipseQuery.getParseTree();
+    return tree instanceof SequenceQueryContext ? ((SequenceQueryContext) tree).sequence() : null;
+  }
+
+  public int getStepCount() {
+    return starts.length;
+  }
+
+  /**
+   * Starts a new propagation turn. A turn starts with the event, which sets the
+   * value of a variable, and ends before the next such event.
+   *
+   * @param pointInTime
+   *          the point in time of the event which starts the turn
+   */
+  public void startTurn(final int pointInTime) {
+    turnStart = pointInTime;
+  }
+
+  /**
+   * Continues the partial matches with the next event. Every event continues a
+   * partial match by at most one step.
+   *
+   * @param pointInTime
+   *          the point in time of the event
+   * @param matchedSteps
+   *          for every step, whether the event matches it
+   * @return <code>true</code>, if the event completes the sequence
+   */
+  public boolean next(final int pointInTime, final boolean[] matchedSteps) {
+    int earliestStart = window == NO_WINDOW ? 0 : pointInTime - window;
+
+    if (sameTurn) {
+      earliestStart = Math.max(earliestStart, turnStart);
+    }
+
+    final int last = starts.length - 1;
+    boolean completed = false;
+
+    // from the last step to the first, so the event is not used twice
+    for (int step = last; step >= 0; step--) {
+      if (!matchedSteps[step]) {
+        continue;
+      }
+
+      final int start = step == 0 ? pointInTime : starts[step - 1];
+
+      if (start == DependencyGraph.NO_POINT_IN_TIME || start < earliestStart) {
+        continue;
+      }
+
+      if (step == last) {
+        completed = true;
+      }
+      else {
+        starts[step] = Math.max(starts[step], start);
+      }
+    }
+
+    return completed;
+  }
+}
@@ -0,0 +1,254 @@
+package de.tuda.stg.reclipse.graphview.model.querylanguage;
+
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary;
+import de.tuda.stg.reclipse.graphview.model.persistence.ValueDictionary.ParsedValues;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.BooleanValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ComparedValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.NumberContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.RangeValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.RegexValueContext;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseParser.ValueConditionContext;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A typed condition on the value of an evaluation. Numbers and booleans are
+ * compared with the parsed values of the {@link ValueDictionary}, regular
+ * expressions have to match the whole value string.
+ */
+public class ValueCondition {
+
+  public enum Operator {
+    LESS("<"), LESS_OR_EQUAL("<="), GREATER(">"), GREATER_OR_EQUAL(">="), EQUAL("=="), NOT_EQUAL("!="), RANGE(null), BOOLEAN(null), REGEX(null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+    private final String symbol;
+
+    private Operator(final String symbol) {
+      this.symbol = symbol;
+    }
+
+    /**
+     * @return the symbol of a comparison in the query language or
+     *         <code>null</code>, if the operator is no comparison
+     */
+    public String getSymbol() {
+      return symbol;
+    }
+
+    public static Operator fromSymbol(final String symbol) {
+      for (final Operator operator : values()) {
+        if (symbol.equals(operator.symbol)) {
+          return operator;
+        }
+      }
+
+      throw new IllegalArgumentException(symbol);
+    }
+  }
+
+  /**
+   * The regular expression of the value strings which are numbers.
+   */
+  public static final String NUMBER_REGEX = "-?[0-9]+(\\.[0-9]+)?"; //$NON-NLS-1$
+
+  private final Operator operator;
+  private final double lower;
+  private final double upper;
+  private final boolean booleanValue;
+  private final String regex;
+  private final Pattern pattern;
+
+  private ValueCondition(final Operator operator, final double lower, final double upper, final boolean booleanValue, final String regex) {
+    this.operator = operator;
+    this.lower = lower;
+    this.upper = upper;
+    this.booleanValue = booleanValue;
+    this.regex = regex;
+    this.pattern = regex != null ? compile(regex) : null;
+  }
+
+  public static ValueCondition create(final ValueConditionContext ctx) {
+    if (ctx instanceof ComparedValueContext) {
+      final ComparedValueContext compared = (ComparedValueContext) ctx;
+      final double number = parseNumber(compared.number());
+      return new ValueCondition(Operator.fromSymbol(compared.op.getText()), number, number, false, null);
+    }
+    else if (ctx instanceof RangeValueContext) {
+      final RangeValueContext range = (RangeValueContext) ctx;
+      return new ValueCondition(Operator.RANGE, parseNumber(range.number(0)), parseNumber(range.number(1)), false, null);
+    }
+    else if (ctx instanceof BooleanValueContext) {
+      return new ValueCondition(Operator.BOOLEAN, Double.NaN, Double.NaN, Boolean.parseBoolean(ctx.getText()), null);
+    }
+    else {
+      final String value = ((RegexValueContext) ctx).VALUE().getText();
+      return new ValueCondition(Operator.REGEX, Double.NaN, Double.NaN, false, unescape(value.substring(1, value.length() - 1)));
+    }
+  }
+
+  private static double parseNumber(final NumberContext ctx) {
+    return Double.parseDouble(ctx.getText());
+  }
+
+  /**
+   * Decodes the escape sequences of a string literal of the query language,
+   * which are the escape sequences of Java string literals. Backslashes and
+   * quotes therefore have to be escaped in values and regular expressions.
+   *
+   * @param value
+   *          the content of a string literal without its quotes
+   * @return the string which is denoted by the literal
+   */
+  static String unescape(final String value) {
+    if (value.indexOf('\\') == -1) {
+      return value;
+    }
+
+    final StringBuilder builder = new StringBuilder(value.length());
+
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+
+      if (c != '\\' || i + 1 == value.length()) {
+        builder.append(c);
+        continue;
+      }
+
+      final char escaped = value.charAt(++i);
+
+      switch (escaped) {
+        case 'b':
+          builder.append('\b');
+          break;
+        case 't':
+          builder.append('\t');
+          break;
+        case 'n':
+          builder.append('\n');
+          break;
+        case 'f':
+          builder.append('\f');
+          break;
+        case 'r':
+          builder.append('\r');
+          break;
+        case 'u':
+          // the lexer only accepts four hex digits
+          builder.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+          i += 4;
+          break;
+        default:
+          if (escaped >= '0' && escaped <= '7') {
+            // up to three octal digits, which do not exceed \377
+            int end = i + 1;
+            final int maxEnd = escaped <= '3' ? i + 3 : i + 2;
+
+            while (end < Math.min(maxEnd, value.length()) && value.charAt(end) >= '0' && value.charAt(end) <= '7') {
+              end++;
+            }
+
+            builder.append((char) Integer.parseInt(value.substring(i, end), 8));
+            i = end - 1;
+          }
+          else {
+            // quotes and backslashes
+            builder.append(escaped);
+          }
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private static Pattern compile(final String regex) {
+    try {
+      return Pattern.compile(regex);
+    }
+    catch (final PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+  public Operator getOperator() {
+    return operator;
+  }
+
+  /**
+   * @return the number of a comparison or the lower bound of a range
+   */
+  public double getLower() {
+    return lower;
+  }
+
+  /**
+   * @return the number of a comparison or the upper bound of a range
+   */
+  public double getUpper() {
+    return upper;
+  }
+
+  public boolean getBooleanValue() {
+    return booleanValue;
+  }
+
+  public String getRegex() {
+    return regex;
+  }
+
+  /**
+   * @return <code>true</code>, if the condition is a regular expression which
+   *         cannot be compiled and therefore matches no value
+   */
+  public boolean isInvalid() {
+    return operator == Operator.REGEX && pattern == null;
+  }
+
+  /**
+   * @param values
+   *          the parsed values
+   * @param idValue
+   *          the id of a value
+   * @return <code>true</code>, if the parsed value matches the condition, which
+   *         must not be a regular expression
+   */
+  public boolean matches(final ParsedValues values, final int idValue) {
+    if (operator == Operator.BOOLEAN) {
+      return values.isBoolean(idValue, booleanValue);
+    }
+
+    final double number = values.getNumber(idValue);
+
+    // NaN does not satisfy any comparison, but != has to be excluded explicitly
+    if (Double.isNaN(number)) {
+      return false;
+    }
+
+    switch (operator) {
+      case LESS:
+        return number < lower;
+      case LESS_OR_EQUAL:
+        return number <= lower;
+      case GREATER:
+        return number > lower;
+      case GREATER_OR_EQUAL:
+        return number >= lower;
+      case EQUAL:
+        return number == lower;
+      case NOT_EQUAL:
+        return number != lower;
+      case RANGE:
+        return number >= lower && number <= upper;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return <code>true</code>, if the value string matches the regular
+   *         expression of the condition
+   */
+  public boolean matches(final String valueString) {
+    return pattern != null && valueString != null && pattern.matcher(valueString).matches();
+  }
+}
@@ -8,4 +8,10 @@ public class PreferenceConstants {
   public static final String UPDATE_INTERVAL = "updateInterval"; //$NON-NLS-1$
 
   public static final String EVENT_LOGGING = "eventLogging"; //$NON-NLS-1$
+
+  public static final String VALUE_SPILL_THRESHOLD = "valueSpillThreshold"; //$NON-NLS-1$
+  public static final String RETAINED_POINTS_IN_TIME = "retainedPointsInTime"; //$NON-NLS-1$
+  public static final String HISTORY_SIZE_BUDGET = "historySizeBudget"; //$NON-NLS-1$
+  public static final String CHECKPOINT_INTERVAL = "checkpointInterval"; //$NON-NLS-1$
+  public static final String VERSIONED_POINTS_IN_TIME = "versionedPointsInTime"; //$NON-NLS-1$
 }
@@ -15,5 +15,10 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
     final IPreferenceStore store = Activator.getDefault().getPreferenceStore();
     store.setDefault(PreferenceConstants.UPDATE_INTERVAL, 500);
     store.setDefault(PreferenceConstants.EVENT_LOGGING, false);
+    store.setDefault(PreferenceConstants.VALUE_SPILL_THRESHOLD, 1024);
+    store.setDefault(PreferenceConstants.RETAINED_POINTS_IN_TIME, 0);
+    store.setDefault(PreferenceConstants.HISTORY_SIZE_BUDGET, 0);
+    store.setDefault(PreferenceConstants.CHECKPOINT_INTERVAL, 1000);
+    store.setDefault(PreferenceConstants.VERSIONED_POINTS_IN_TIME, 50000);
   }
 }
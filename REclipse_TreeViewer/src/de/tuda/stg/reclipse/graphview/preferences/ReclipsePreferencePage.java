@@ -31,5 +31,10 @@ public class ReclipsePreferencePage extends FieldEditorPreferencePage implements
   public void createFieldEditors() {
     addField(new IntegerFieldEditor(PreferenceConstants.UPDATE_INTERVAL, Texts.Pref_UpdateInterval, getFieldEditorParent()));
     addField(new BooleanFieldEditor(PreferenceConstants.EVENT_LOGGING, Texts.Pref_EventLogging, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(PreferenceConstants.VALUE_SPILL_THRESHOLD, Texts.Pref_ValueSpillThreshold, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(PreferenceConstants.RETAINED_POINTS_IN_TIME, Texts.Pref_RetainedPointsInTime, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(PreferenceConstants.HISTORY_SIZE_BUDGET, Texts.Pref_HistorySizeBudget, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(PreferenceConstants.CHECKPOINT_INTERVAL, Texts.Pref_CheckpointInterval, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(PreferenceConstants.VERSIONED_POINTS_IN_TIME, Texts.Pref_VersionedPointsInTime, getFieldEditorParent()));
   }
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import de.tuda.stg.reclipse.logger.BreakpointInformation;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
+import de.tuda.stg.reclipse.graphview.model.persistence.CancellationToken;
 import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph;
 import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
+import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraphDelta;
+import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceFacade;
 import de.tuda.stg.reclipse.graphview.view.graph.Heatmap;
 import de.tuda.stg.reclipse.graphview.view.graph.ReactiveVariableVertex;
 import de.tuda.stg.reclipse.graphview.view.graph.Stylesheet;
@@ -19,6 +22,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  *
@@ -32,8 +37,14 @@ public class ContentModel {
   private int pointInTime = 0;
   private boolean highlightChange;
 
-  private Map<UUID, String> library = new HashMap<>();
   private DependencyGraph dependencyGraph = DependencyGraph.emptyGraph();
+  private Set<Vertex> changedVertices = new HashSet<>();
+  private ContentModelChange lastChange;
+  private Map<String, String> heatmap;
+
+  private Set<UUID> focus;
+  private int focusDepth;
+  private boolean focusedGraph;
 
   public ContentModel(final SessionContext ctx) {
     this.ctx = ctx;
@@ -53,48 +64,182 @@ public class ContentModel {
   public void setPointInTime(final int newPointInTime, final boolean propagateChange) {
     this.pointInTime = newPointInTime;
     this.highlightChange = propagateChange;
+    this.lastChange = null;
+    this.heatmap = null;
 
-    updateLibary();
+    final DependencyGraph newGraph = loadGraph(getBaseGraph(), newPointInTime, focus, focusDepth);
 
-    this.dependencyGraph = ctx.getPersistence().getDependencyGraph(newPointInTime);
+    if (dependencyGraph.getPointInTime() == DependencyGraph.NO_POINT_IN_TIME) {
+      replaceGraph(newGraph);
+    }
+    else {
+      updateGraph(newGraph);
+    }
+
+    onGraphShown(focus != null);
   }
 
-  private void updateLibary() {
-    library = new HashMap<>();
+  public int getPointInTime() {
+    return pointInTime;
+  }
 
-    if (dependencyGraph != null) {
-      for (final Vertex vertex : dependencyGraph.getVertices()) {
-        final ReactiveVariable variable = vertex.getVariable();
-        library.put(variable.getId(), variable.getValueString());
-      }
+  /**
+   * Restricts the graph to the neighbourhood of some variables. Only the
+   * variables within the given number of hops upstream or downstream are
+   * loaded, starting with the next update of the point in time.
+   *
+   * @param variableIds
+   *          the ids of the variables in the center of the neighbourhood
+   * @param depth
+   *          the maximum number of hops from the center
+   */
+  public void setFocus(final Set<UUID> variableIds, final int depth) {
+    this.focus = new HashSet<>(variableIds);
+    this.focusDepth = depth;
+  }
+
+  /**
+   * Shows the whole graph again, starting with the next update of the point in
+   * time.
+   */
+  public void clearFocus() {
+    this.focus = null;
+  }
+
+  public boolean isFocused() {
+    return focus != null;
+  }
+
+  /**
+   * @return the graph from which the next graph may be derived, a partial
+   *         graph cannot be used for this
+   */
+  private DependencyGraph getBaseGraph() {
+    return focusedGraph ? DependencyGraph.emptyGraph() : dependencyGraph;
+  }
+
+  private void onGraphShown(final boolean focused) {
+    focusedGraph = focused;
+
+    // only complete graphs are cached for the neighbouring points in time
+    if (!focused) {
+      ctx.getPersistence().onDependencyGraphShown(dependencyGraph);
     }
   }
 
   /**
+   * Loads the dependency graph at a point in time on the reader thread of the
+   * persistence, so that the calling UI thread does not wait for the
+   * database. The loaded point in time is shown by {@link #show}.
    *
-   * @return A set of reactive variable vertices.
+   * @param newPointInTime
+   *          The new point in time.
+   * @param withHeatmap
+   *          <code>true</code>, if the heatmap of the point in time should be
+   *          loaded as well
+   * @param token
+   *          the token which drops the load, when another point in time is
+   *          requested before
+   * @return the future data of the point in time
    */
-  public List<ReactiveVariableVertex> getVertices() {
-    final List<ReactiveVariableVertex> vertices = new ArrayList<>();
+  public CompletableFuture<PointInTimeData> load(final int newPointInTime, final boolean withHeatmap, final CancellationToken token) {
+    final DependencyGraph baseGraph = getBaseGraph();
+    final Set<UUID> loadedFocus = focus;
+    final int loadedDepth = focusDepth;
 
-    for (final Vertex vertex : dependencyGraph.getVertices()) {
-      final ReactiveVariable variable = vertex.getVariable();
-      final boolean variableChanged = hasVariableChanged(variable);
+    return ctx.getPersistence().submitRead(token, new Supplier<PointInTimeData>() {
 
-      // create reactive variable vertex
-      final boolean isHighlighted = variableChanged && highlightChange;
-      final BreakpointInformation breakpointInformation = ctx.getVariableLocation(variable.getId());
-      final ReactiveVariableVertex variableVertext = new ReactiveVariableVertex(vertex, breakpointInformation, isHighlighted);
+      @Override
+      public PointInTimeData get() {
+        final DependencyGraph graph = loadGraph(baseGraph, newPointInTime, loadedFocus, loadedDepth);
+        token.throwIfCancelled();
 
-      vertices.add(variableVertext);
+        final Map<String, String> newHeatmap = withHeatmap ? Heatmap.generateHeatmap(newPointInTime, ctx) : null;
+        return new PointInTimeData(ContentModel.this, newPointInTime, graph, loadedFocus != null, newHeatmap);
+      }
+    });
+  }
+
+  /**
+   * Shows a point in time which has been loaded by {@link #load}. The graph is
+   * compared in memory with the shown graph, which might have changed since
+   * the load has been started.
+   *
+   * @param data
+   *          the loaded data of the point in time
+   * @param propagateChange
+   *          <code>true</code>, if the changed variables should be highlighted
+   * @return <code>false</code>, if the data has been loaded by another model
+   */
+  public boolean show(final PointInTimeData data, final boolean propagateChange) {
+    if (data.model != this) {
+      return false;
     }
 
-    Collections.sort(vertices);
+    this.pointInTime = data.pointInTime;
+    this.highlightChange = propagateChange;
+    this.lastChange = null;
+    this.heatmap = data.heatmap;
 
-    return vertices;
+    if (dependencyGraph.getPointInTime() == DependencyGraph.NO_POINT_IN_TIME) {
+      replaceGraph(data.graph);
+    }
+    else {
+      updateGraph(data.graph);
+    }
+
+    onGraphShown(data.focused);
+    return true;
+  }
+
+  private DependencyGraph loadGraph(final DependencyGraph baseGraph, final int newPointInTime, final Set<UUID> loadedFocus, final int loadedDepth) {
+    final PersistenceFacade persistence = ctx.getPersistence();
+
+    if (loadedFocus != null) {
+      return persistence.getNeighbourhood(loadedFocus, loadedDepth, newPointInTime);
+    }
+
+    final DependencyGraph cachedGraph = persistence.getCachedDependencyGraph(newPointInTime);
+
+    if (cachedGraph != null) {
+      return cachedGraph;
+    }
+
+    if (baseGraph.isNearby(newPointInTime)) {
+      final DependencyGraphDelta delta = persistence.getDependencyGraphDelta(baseGraph.getPointInTime(), newPointInTime);
+
+      if (delta != null) {
+        return baseGraph.applyDelta(delta);
+      }
+    }
+
+    return persistence.getDependencyGraph(newPointInTime);
+  }
+
+  private void updateGraph(final DependencyGraph newGraph) {
+    // graphs which have been derived from the shown graph are compared quickly
+    applyDelta(dependencyGraph.diff(newGraph), newGraph);
   }
 
-  private boolean hasVariableChanged(final ReactiveVariable variable) {
+  private void replaceGraph(final DependencyGraph newGraph) {
+    final Map<UUID, String> library = new HashMap<>();
+
+    for (final Vertex vertex : dependencyGraph.getVertices()) {
+      final ReactiveVariable variable = vertex.getVariable();
+      library.put(variable.getId(), variable.getValueString());
+    }
+
+    this.dependencyGraph = newGraph;
+    this.changedVertices = new HashSet<>();
+
+    for (final Vertex vertex : dependencyGraph.getVertices()) {
+      if (hasVariableChanged(library, vertex.getVariable())) {
+        changedVertices.add(vertex);
+      }
+    }
+  }
+
+  private static boolean hasVariableChanged(final Map<UUID, String> library, final ReactiveVariable variable) {
     if (!library.containsKey(variable.getId())) {
       return !library.isEmpty();
     }
@@ -103,11 +248,129 @@ public class ContentModel {
     return !Objects.equals(oldValue, variable.getValueString());
   }
 
+  private void applyDelta(final DependencyGraphDelta delta, final DependencyGraph newGraph) {
+    final boolean wasEmpty = dependencyGraph.getVertices().isEmpty();
+    final Set<Vertex> newChangedVertices = new HashSet<>();
+    final Set<Vertex> reconnectedVertices = new HashSet<>();
+    final Set<UUID> removedVariables = new HashSet<>();
+    boolean structural = false;
+
+    for (final int id : delta.getRemovedVertices()) {
+      final Vertex vertex = dependencyGraph.getVertex(id);
+
+      if (vertex != null) {
+        removedVariables.add(vertex.getVariable().getId());
+        structural = true;
+      }
+    }
+
+    for (final Vertex updated : delta.getUpdatedVertices()) {
+      final Vertex vertex = dependencyGraph.getVertex(updated.getId());
+
+      if (vertex == null) {
+        reconnectedVertices.add(updated);
+        structural = true;
+
+        if (!wasEmpty) {
+          newChangedVertices.add(updated);
+        }
+
+        continue;
+      }
+
+      if (!Objects.equals(vertex.getVariable().getValueString(), updated.getVariable().getValueString())) {
+        newChangedVertices.add(vertex);
+      }
+
+      if (!dependencyGraph.getConnectedIds(vertex.getId()).equals(delta.getConnections(updated.getId()))) {
+        reconnectedVertices.add(vertex);
+        structural = true;
+      }
+    }
+
+    dependencyGraph = newGraph;
+
+    // the previously changed vertices are redrawn to remove their highlighting
+    final Set<Vertex> redrawnVertices = new HashSet<>();
+
+    for (final Vertex vertex : changedVertices) {
+      final Vertex currentVertex = dependencyGraph.getVertex(vertex.getId());
+
+      if (currentVertex != null) {
+        redrawnVertices.add(currentVertex);
+      }
+    }
+
+    for (final Vertex updated : delta.getUpdatedVertices()) {
+      redrawnVertices.add(dependencyGraph.getVertex(updated.getId()));
+    }
+
+    changedVertices = newChangedVertices;
+
+    final List<ReactiveVariableVertex> updatedVertices = new ArrayList<>();
+
+    for (final Vertex vertex : redrawnVertices) {
+      updatedVertices.add(createVertex(vertex));
+    }
+
+    Collections.sort(updatedVertices);
+
+    final Map<UUID, Set<UUID>> changedEdges = new HashMap<>();
+
+    for (final Vertex vertex : reconnectedVertices) {
+      changedEdges.put(vertex.getVariable().getId(), getConnectedVariables(vertex));
+    }
+
+    lastChange = new ContentModelChange(updatedVertices, removedVariables, changedEdges, structural);
+  }
+
+  private Set<UUID> getConnectedVariables(final Vertex vertex) {
+    final Set<UUID> connectedWith = new HashSet<>();
+
+    for (final Vertex connectedVertex : dependencyGraph.getConnectedVertices(vertex)) {
+      connectedWith.add(connectedVertex.getVariable().getId());
+    }
+
+    return connectedWith;
+  }
+
+  /**
+   * @return the changes of the last update of the point in time or
+   *         <code>null</code>, if the graph has been loaded completely
+   */
+  public ContentModelChange getLastChange() {
+    return lastChange;
+  }
+
+  /**
+   *
+   * @return A set of reactive variable vertices.
+   */
+  public List<ReactiveVariableVertex> getVertices() {
+    final List<ReactiveVariableVertex> vertices = new ArrayList<>();
+
+    for (final Vertex vertex : dependencyGraph.getVertices()) {
+      vertices.add(createVertex(vertex));
+    }
+
+    Collections.sort(vertices);
+
+    return vertices;
+  }
+
+  private ReactiveVariableVertex createVertex(final Vertex vertex) {
+    final boolean isHighlighted = changedVertices.contains(vertex) && highlightChange;
+    final BreakpointInformation breakpointInformation = ctx.getVariableLocation(vertex.getVariable().getId());
+    return new ReactiveVariableVertex(vertex, breakpointInformation, isHighlighted);
+  }
+
   public List<ReactiveVariableVertex> getHeatmapVertices() {
     final List<ReactiveVariableVertex> vertices = new ArrayList<>();
 
-    // generate heatmap based on point in time
-    final Map<String, String> heatmap = Heatmap.generateHeatmap(pointInTime, ctx);
+    // generate heatmap based on point in time, unless it has been loaded
+    if (heatmap == null) {
+      heatmap = Heatmap.generateHeatmap(pointInTime, ctx);
+    }
 
     for (final Vertex vertex : dependencyGraph.getVertices()) {
       final ReactiveVariable variable = vertex.getVariable();
@@ -138,15 +401,38 @@ public class ContentModel {
     final Map<UUID, Set<UUID>> edges = new HashMap<>();
 
     for (final Vertex vertex : dependencyGraph.getVertices()) {
-      final Set<UUID> connectedWith = new HashSet<>();
+      edges.put(vertex.getVariable().getId(), getConnectedVariables(vertex));
+    }
 
-      for (final Vertex connectedVertex : vertex.getConnectedVertices()) {
-        connectedWith.add(connectedVertex.getVariable().getId());
-      }
+    return edges;
+  }
+
+  /**
+   * The dependency graph and heatmap of a point in time, which have been loaded
+   * in the background.
+   */
+  public static class PointInTimeData {
+
+    private final ContentModel model;
+    private final int pointInTime;
+    private final DependencyGraph graph;
+    private final boolean focused;
+    private final Map<String, String> heatmap;
+
+    PointInTimeData(final ContentModel model, final int pointInTime, final DependencyGraph graph, final boolean focused, final Map<String, String> heatmap) {
+      this.model = model;
+      this.pointInTime = pointInTime;
+      this.graph = graph;
+      this.focused = focused;
+      this.heatmap = heatmap;
+    }
 
-      edges.put(vertex.getVariable().getId(), connectedWith);
+    public int getPointInTime() {
+      return pointInTime;
     }
 
-    return edges;
+    public DependencyGraph getGraph() {
+      return graph;
+    }
   }
 }
@@ -0,0 +1,56 @@
+package de.tuda.stg.reclipse.graphview.provider;
+
+import de.tuda.stg.reclipse.graphview.view.graph.ReactiveVariableVertex;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Describes how the vertices of the {@link ContentModel} have changed when it
+ * has been moved to a neighbouring point in time, so that the graph can be
+ * updated in place.
+ */
+public class ContentModelChange {
+
+  private final List<ReactiveVariableVertex> updatedVertices;
+  private final Set<UUID> removedVariables;
+  private final Map<UUID, Set<UUID>> changedEdges;
+  private final boolean structural;
+
+  protected ContentModelChange(final List<ReactiveVariableVertex> updatedVertices, final Set<UUID> removedVariables, final Map<UUID, Set<UUID>> changedEdges, final boolean structural) {
+    this.updatedVertices = updatedVertices;
+    this.removedVariables = removedVariables;
+    this.changedEdges = changedEdges;
+    this.structural = structural;
+  }
+
+  /**
+   * @return the vertices which have been added or have to be redrawn, because
+   *         their variable or their highlighting has changed
+   */
+  public List<ReactiveVariableVertex> getUpdatedVertices() {
+    return Collections.unmodifiableList(updatedVertices);
+  }
+
+  public Set<UUID> getRemovedVariables() {
+    return Collections.unmodifiableSet(removedVariables);
+  }
+
+  /**
+   * @return the new outgoing edges of all vertices whose edges have changed
+   */
+  public Map<UUID, Set<UUID>> getChangedEdges() {
+    return Collections.unmodifiableMap(changedEdges);
+  }
+
+  /**
+   * @return <code>true</code>, if vertices or edges have been added or removed,
+   *         so that the graph has to be laid out again
+   */
+  public boolean isStructural() {
+    return structural;
+  }
+}
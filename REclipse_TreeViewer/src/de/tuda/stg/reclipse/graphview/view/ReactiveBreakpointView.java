@@ -5,6 +5,7 @@ import de.tuda.stg.reclipse.graphview.Images;
 import de.tuda.stg.reclipse.graphview.Texts;
 import de.tuda.stg.reclipse.graphview.controller.QueryController;
 import de.tuda.stg.reclipse.graphview.model.BreakpointQueryRegistry;
+import de.tuda.stg.reclipse.graphview.model.persistence.LiveEsperAdapter;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.Queries;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseErrorListener;
 import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
@@ -12,6 +13,7 @@ import de.tuda.stg.reclipse.graphview.model.querylanguage.ReclipseQuery;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
@@ -61,7 +63,10 @@ public class ReactiveBreakpointView extends ViewPart {
 
         final ReclipseQuery query = Queries.parse(queryText, new ReclipseErrorListener(getSite().getShell()));
 
-        if (query != null) {
+        if (query != null && !LiveEsperAdapter.isSupported(query)) {
+          MessageDialog.openError(getSite().getShell(), Texts.BreakpointQuery_Unsupported_Title, Texts.BreakpointQuery_Aggregation);
+        }
+        else if (query != null) {
           queries.add(query);
           BreakpointQueryRegistry.getInstance().addQuery(query);
 
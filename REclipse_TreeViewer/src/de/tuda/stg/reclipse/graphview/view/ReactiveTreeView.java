@@ -13,18 +13,24 @@ import de.tuda.stg.reclipse.graphview.controller.QueryController;
 import de.tuda.stg.reclipse.graphview.model.ISessionSelectionListener;
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
 import de.tuda.stg.reclipse.graphview.model.SessionManager;
+import de.tuda.stg.reclipse.graphview.model.persistence.AggregationResult;
+import de.tuda.stg.reclipse.graphview.model.persistence.CancellationToken;
 import de.tuda.stg.reclipse.graphview.model.persistence.IDependencyGraphListener;
+import de.tuda.stg.reclipse.graphview.model.querylanguage.Aggregation;
 import de.tuda.stg.reclipse.graphview.preferences.PreferenceConstants;
+import de.tuda.stg.reclipse.graphview.provider.ContentModel.PointInTimeData;
 import de.tuda.stg.reclipse.graphview.view.graph.GraphComponent;
 import de.tuda.stg.reclipse.graphview.view.graph.TreeViewGraph;
 import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
 
 import java.awt.Frame;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.osgi.util.NLS;
@@ -46,6 +52,9 @@ import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Scale;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IPartListener2;
 import org.eclipse.ui.IViewSite;
@@ -75,6 +84,7 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   protected Button prevPointButton;
   protected Combo queryTextField;
   protected Label queryResultsLabel;
+  protected Table aggregationTable;
   protected Text searchTextField;
   protected Label searchResultsLabel;
   protected TreeViewGraph graph;
@@ -85,6 +95,8 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   protected long lastUpdate = 0;
   protected ScheduledFuture<?> delayedUpdateTask;
   protected int lastPointInTime = -1;
+  protected int firstPointInTime = 0;
+  protected CancellationToken pendingRebuild;
 
   protected boolean manualMode = false;
 
@@ -251,6 +263,20 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
     nextResultButton.setLayoutData(new GridData(GridData.VERTICAL_ALIGN_CENTER));
     nextResultButton.addSelectionListener(queryController.new NextQueryResultButtonHandler());
 
+    // shows the groups of aggregation queries below the query
+    aggregationTable = new Table(queryComposite, SWT.BORDER | SWT.FULL_SELECTION);
+    aggregationTable.setHeaderVisible(true);
+    aggregationTable.setLinesVisible(true);
+    final GridData aggregationTableGridData = new GridData(SWT.FILL, SWT.FILL, true, false, 5, 1);
+    aggregationTableGridData.heightHint = 120;
+    aggregationTable.setLayoutData(aggregationTableGridData);
+
+    createAggregationColumn(Texts.Query_Aggregation_Group, 240);
+    createAggregationColumn(Texts.Query_Aggregation_Count, 80);
+    createAggregationColumn(Texts.Query_Aggregation_Rate, 80);
+
+    updateAggregationTable();
+
     createActions();
 
     final SessionManager sessionManager = SessionManager.getInstance();
@@ -263,6 +289,12 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
     sessionManager.addSessionSelectionListener(this);
   }
 
+  private void createAggregationColumn(final String text, final int width) {
+    final TableColumn column = new TableColumn(aggregationTable, SWT.NONE);
+    column.setText(text);
+    column.setWidth(width);
+  }
+
   private void createActions() {
     // creating the toolbar entries
     getViewSite().getActionBars().getToolBarManager().add(new SessionSelect());
@@ -282,6 +314,7 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   @Override
   public void onSessionSelected(final SessionContext ctx) {
     lastPointInTime = ctx.getPersistence().getLastPointInTime();
+    firstPointInTime = ctx.getPersistence().getFirstPointInTime();
 
     queryController.reset();
 
@@ -293,8 +326,9 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
       @Override
       public void run() {
         disableManualMode();
-        updateSliderLabel(0);
+        updateSliderLabel(firstPointInTime);
         updateQueryResultsLabel();
+        updateAggregationTable();
       }
     });
   }
@@ -302,6 +336,8 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   @Override
   public void onSessionDeselected(final SessionContext ctx) {
     ctx.getDbHelper().removeDependencyGraphListener(this);
+    cancelPendingRebuild();
+    queryController.reset();
     graph.removeSessionContext();
 
     if (delayedUpdateTask != null) {
@@ -312,26 +348,65 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   }
 
   @Override
-  public void onDependencyGraphChanged(final DependencyGraphHistoryType type, final int pointInTime) {
+  public void onDependencyGraphChanged(final Set<DependencyGraphHistoryType> types, final int pointInTime) {
     lastPointInTime = pointInTime;
 
+    final Optional<SessionContext> ctx = SessionManager.getInstance().getSelectedSession();
+
+    if (ctx.isPresent()) {
+      // the history before this point in time might have been compacted
+      firstPointInTime = ctx.get().getPersistence().getFirstPointInTime();
+    }
+
     // only update if the graph is visible
     if (isVisible()) {
       updateGraph();
     }
   }
 
+  /**
+   * Loads the graph at a point in time in the background and shows it on the
+   * UI thread afterwards. A rebuild which is still loading is dropped, so that
+   * moving the slider quickly only loads the points in time which are shown.
+   */
   protected void rebuildGraph(final int pointInTime, final boolean highlightChange) {
     if (!isVisible()) {
       return;
     }
 
-    graph.setPointInTime(pointInTime, highlightChange);
+    cancelPendingRebuild();
+
+    final CancellationToken token = new CancellationToken();
+    pendingRebuild = token;
 
     updateSliderLabel(pointInTime);
 
-    if (graphComponent.clearSearch()) {
-      updateSearchResultsLabel();
+    graph.loadPointInTime(pointInTime, token).thenAccept(new Consumer<PointInTimeData>() {
+
+      @Override
+      public void accept(final PointInTimeData data) {
+        Display.getDefault().asyncExec(new Runnable() {
+
+          @Override
+          public void run() {
+            if (token.isCancelled() || slider == null || slider.isDisposed()) {
+              return;
+            }
+
+            graph.showPointInTime(data, highlightChange);
+
+            if (graphComponent.clearSearch()) {
+              updateSearchResultsLabel();
+            }
+          }
+        });
+      }
+    });
+  }
+
+  private void cancelPendingRebuild() {
+    if (pendingRebuild != null) {
+      pendingRebuild.cancel();
     }
   }
 
@@ -360,6 +435,7 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
         }
 
         slider.setMaximum(lastPointInTime);
+        slider.setMinimum(firstPointInTime);
 
         if (!manualMode) {
           slider.setSelection(lastPointInTime);
@@ -386,9 +462,12 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
     return System.currentTimeMillis() - lastUpdate < updateInterval;
   }
 
-  public void jumpToPointInTime(final int pointInTime) {
+  public void jumpToPointInTime(final int requestedPointInTime) {
     enableManualMode();
 
+    // query results might refer to points in time which have been compacted
+    final int pointInTime = Math.max(requestedPointInTime, firstPointInTime);
+
     Display.getDefault().syncExec(new Runnable() {
 
       @Override
@@ -397,6 +476,7 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
           slider.setMaximum(pointInTime);
         }
 
+        slider.setMinimum(firstPointInTime);
         slider.setSelection(pointInTime);
 
         rebuildGraph(pointInTime, false);
@@ -445,7 +525,7 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   protected void prevPointInTime() {
     final int pointInTime = slider.getSelection() - 1;
 
-    if (pointInTime >= 0) {
+    if (pointInTime >= slider.getMinimum()) {
       slider.setSelection(pointInTime);
       rebuildGraph(pointInTime, true);
     }
@@ -496,12 +576,46 @@ public class ReactiveTreeView extends ViewPart implements IDependencyGraphListen
   }
 
   public void updateQueryResultsLabel() {
+    if (queryResultsLabel.isDisposed()) {
+      return;
+    }
+
     final int current = queryController.getCurrentResultSelection();
     final int count = queryController.getResultCount();
 
     queryResultsLabel.setText(current + " / " + count); //$NON-NLS-1$
   }
 
+  /**
+   * Shows the groups of the submitted aggregation query or hides the table, if
+   * the submitted query is no aggregation.
+   */
+  public void updateAggregationTable() {
+    if (aggregationTable.isDisposed()) {
+      return;
+    }
+
+    final AggregationResult result = queryController.getAggregationResult();
+
+    aggregationTable.removeAll();
+
+    if (result != null) {
+      final boolean rate = result.getAggregation().getFunction() == Aggregation.Function.RATE;
+
+      for (final AggregationResult.Row row : result.getRows()) {
+        final TableItem item = new TableItem(aggregationTable, SWT.NONE);
+        item.setText(0, row.getGroup() != null ? row.getGroup() : Texts.Query_Aggregation_AllEvents);
+        item.setText(1, Integer.toString(row.getCount()));
+        item.setText(2, rate ? String.format("%.3f", row.getRate()) : ""); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    }
+
+    final GridData gridData = (GridData) aggregationTable.getLayoutData();
+    gridData.exclude = result == null;
+    aggregationTable.setVisible(result != null);
+    graphParent.getParent().layout(true, true);
+  }
+
   public void showInformation(final String title, final String message) {
     MessageDialog.openInformation(getSite().getShell(), title, message);
   }
@@ -2,6 +2,7 @@ package de.tuda.stg.reclipse.graphview.view.graph;
 
 import de.tuda.stg.reclipse.graphview.view.graph.actions.BreakpointAction;
 import de.tuda.stg.reclipse.graphview.view.graph.actions.CollapseAction;
+import de.tuda.stg.reclipse.graphview.view.graph.actions.FocusAction;
 import de.tuda.stg.reclipse.graphview.view.graph.actions.HighlightAction;
 import de.tuda.stg.reclipse.graphview.view.graph.actions.LocateAction;
 
@@ -30,6 +31,7 @@ public class GraphComponent extends mxGraphComponent {
 
   protected final CollapseAction collapser;
   protected final HighlightAction highlighter;
+  protected final FocusAction focuser;
   protected BreakpointAction breakpointer;
   protected LocateAction locater;
 
@@ -49,6 +51,7 @@ public class GraphComponent extends mxGraphComponent {
 
     collapser = new CollapseAction(graph);
     highlighter = new HighlightAction(graph);
+    focuser = new FocusAction(graph);
     breakpointer = new BreakpointAction(graph);
     locater = new LocateAction(graph);
 
@@ -146,6 +149,7 @@ public class GraphComponent extends mxGraphComponent {
       // add menu items
       popupMenu.add(collapser.createMenuItem(cell));
       popupMenu.add(highlighter.createMenuItem(cell));
+      popupMenu.add(focuser.createMenuItem(cell));
       popupMenu.addSeparator();
       popupMenu.add(breakpointer.createMenuItem(cell));
       popupMenu.add(locater.createMenuItem(cell));
@@ -3,9 +3,10 @@ package de.tuda.stg.reclipse.graphview.view.graph;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
+import de.tuda.stg.reclipse.graphview.model.persistence.EventCursor;
+import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceFacade;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,42 +65,48 @@ public class Heatmap {
 
     final Map<String, String> values = new HashMap<>();
 
-    // iterate through points in time
-    for (int pointInTime = 0; pointInTime < lastPointInTime; pointInTime++) {
-      // get reactive variables for current point in time
-      final List<ReactiveVariable> currentReVars = ctx.getPersistence().getReVars(pointInTime);
-
-      for (final ReactiveVariable reVar : currentReVars) {
-        if (reVar == null) {
-          continue;
-        }
-
-        final String name = reVar.getName();
-
-        // create non-empty string from value
-        String value = reVar.getValueString();
-        if (value == null) {
-          value = new String();
-        }
-
-        // update change map
-        if (values.containsKey(name)) {
-          if (!values.get(name).equals(value)) {
-            changes.put(name, changes.get(name) + 1);
-          }
-        }
-        else {
-          changes.put(name, 0);
-        }
-
-        // save count
-        values.put(name, value);
-      }
+    final PersistenceFacade persistence = ctx.getPersistence();
+    final int firstPointInTime = persistence.getFirstPointInTime();
+
+    if (lastPointInTime <= firstPointInTime) {
+      return changes;
+    }
+
+    for (final ReactiveVariable reVar : persistence.getReVars(firstPointInTime)) {
+      countChange(reVar.getName(), reVar.getValueString(), values, changes);
+    }
+
+    // the values only change with the events of the retained points in time
+    final EventCursor cursor = persistence.getEventCursor(firstPointInTime + 1, lastPointInTime - 1);
+
+    while (cursor.next()) {
+      countChange(cursor.getVariableName(), cursor.getValueString(), values, changes);
     }
 
     return changes;
   }
 
+  private static void countChange(final String name, final String valueString, final Map<String, String> values, final Map<String, Integer> changes) {
+    // create non-empty string from value
+    String value = valueString;
+    if (value == null) {
+      value = new String();
+    }
+
+    // update change map
+    if (values.containsKey(name)) {
+      if (!values.get(name).equals(value)) {
+        changes.put(name, changes.get(name) + 1);
+      }
+    }
+    else {
+      changes.put(name, 0);
+    }
+
+    // save count
+    values.put(name, value);
+  }
+
   /**
    * Calculates a "heat" color for a given value and a maximum value.
    *
@@ -1,20 +1,34 @@
 package de.tuda.stg.reclipse.graphview.view.graph;
 
 import de.tuda.stg.reclipse.logger.BreakpointInformation;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.Texts;
 
 public class ReactiveVariableTooltip {
 
+  /**
+   * Maximum number of frames of a stack trace shown in the tooltip.
+   */
+  private static final int MAX_STACK_TRACE_FRAMES = 10;
+
   private final ReactiveVariable var;
+  private final String valueString;
   private final BreakpointInformation breakpointInformation;
+  private final ExceptionRecord exception;
   private final String tooltipContent;
 
   public ReactiveVariableTooltip(final ReactiveVariable var, final BreakpointInformation breakpointInformation) {
+    this(var, var.getValueString(), breakpointInformation, null);
+  }
+
+  public ReactiveVariableTooltip(final ReactiveVariable var, final String valueString, final BreakpointInformation breakpointInformation, final ExceptionRecord exception) {
     super();
     this.var = var;
+    this.valueString = valueString;
     this.breakpointInformation = breakpointInformation;
+    this.exception = exception;
     this.tooltipContent = createContent();
   }
 
@@ -28,6 +42,7 @@ public class ReactiveVariableTooltip {
     appendClass(builder);
     appendSource(builder);
     appendLineNumber(builder);
+    appendStackTrace(builder);
 
     builder.append("</table></html>"); //$NON-NLS-1$
 
@@ -50,10 +65,11 @@ public class ReactiveVariableTooltip {
 
   private void appendValue(final StringBuilder builder) {
     final String name = var.isExceptionOccured() ? Texts.Graph_Tooltip_Exception : Texts.Graph_Tooltip_Value;
+    final String value = var.isExceptionOccured() && exception != null ? exception.toString() : valueString;
 
     builder.append("<tr>"); //$NON-NLS-1$
     builder.append("<td><b>").append(name).append("<b></td>"); //$NON-NLS-1$ //$NON-NLS-2$
-    builder.append("<td>").append(var.getValueString()).append("</td>"); //$NON-NLS-1$//$NON-NLS-2$
+    builder.append("<td>").append(value).append("</td>"); //$NON-NLS-1$//$NON-NLS-2$
     builder.append("</tr>"); //$NON-NLS-1$
   }
 
@@ -78,6 +94,30 @@ public class ReactiveVariableTooltip {
     builder.append("</tr>"); //$NON-NLS-1$
   }
 
+  private void appendStackTrace(final StringBuilder builder) {
+    if (exception == null || !exception.hasStackTrace()) {
+      return;
+    }
+
+    final StackTraceElement[] stackTrace = exception.getStackTrace();
+
+    builder.append("<tr>"); //$NON-NLS-1$
+    builder.append("<td valign=\"top\"><b>").append(Texts.Graph_Tooltip_StackTrace).append("<b></td>"); //$NON-NLS-1$ //$NON-NLS-2$
+    builder.append("<td>"); //$NON-NLS-1$
+
+    for (int i = 0; i < stackTrace.length && i < MAX_STACK_TRACE_FRAMES; i++) {
+      // constructors are shown as <init>
+      builder.append(stackTrace[i].toString().replace("<", "&lt;")).append("<br>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    if (stackTrace.length > MAX_STACK_TRACE_FRAMES) {
+      builder.append("..."); //$NON-NLS-1$
+    }
+
+    builder.append("</td>"); //$NON-NLS-1$
+    builder.append("</tr>"); //$NON-NLS-1$
+  }
+
   private String getClassName() {
     return breakpointInformation != null ? breakpointInformation.getClassName() : "?"; //$NON-NLS-1$
   }
@@ -4,6 +4,7 @@ import de.tuda.stg.reclipse.graphview.model.persistence.DependencyGraph.Vertex;
 import de.tuda.stg.reclipse.logger.BreakpointInformation;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
+import com.mxgraph.model.mxCell;
 import com.mxgraph.view.mxGraph;
 
 /**
@@ -68,6 +69,32 @@ public class ReactiveVariableVertex implements Comparable<ReactiveVariableVertex
     return graph.insertVertex(parent, var.getId().toString(), label, 0, 0, 160, 80, style);
   }
 
+  /**
+   * Replaces the label of a cell which has been inserted by
+   * {@link #draw(mxGraph, boolean)} before. The highlighting of dependent nodes
+   * and search results is kept.
+   *
+   * @param graph
+   *          A graph.
+   * @param cell
+   *          The cell representing the vertex in the graph.
+   */
+  public void redraw(final mxGraph graph, final mxCell cell, final boolean showClassName) {
+    final ReactiveVariableLabel label = new ReactiveVariableLabel(var, breakpointInformation, showClassName);
+    label.getStyleProperties().setValueChanged(highlighted);
+
+    if (cell.getValue() instanceof ReactiveVariableLabel) {
+      final StyleProperties oldProperties = ((ReactiveVariableLabel) cell.getValue()).getStyleProperties();
+      label.getStyleProperties().setGrayedOut(oldProperties.isGrayedOut());
+      label.getStyleProperties().setSearchResult(oldProperties.isSearchResult());
+    }
+
+    final String style = (customStyle != null) ? customStyle : Stylesheet.getStyle(label);
+
+    graph.getModel().setValue(cell, label);
+    graph.getModel().setStyle(cell, style);
+  }
+
   /**
    *
    * @return A reactive variable.
@@ -2,8 +2,12 @@ package de.tuda.stg.reclipse.graphview.view.graph;
 
 import de.tuda.stg.reclipse.graphview.Properties;
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
+import de.tuda.stg.reclipse.graphview.model.persistence.CancellationToken;
 import de.tuda.stg.reclipse.graphview.provider.ContentModel;
+import de.tuda.stg.reclipse.graphview.provider.ContentModel.PointInTimeData;
+import de.tuda.stg.reclipse.graphview.provider.ContentModelChange;
 import de.tuda.stg.reclipse.logger.BreakpointInformation;
+import de.tuda.stg.reclipse.logger.ExceptionRecord;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import java.util.Deque;
@@ -15,7 +19,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import javax.swing.SwingConstants;
 
@@ -26,6 +33,8 @@ import com.mxgraph.model.mxGraphModel;
 import com.mxgraph.model.mxICell;
 import com.mxgraph.view.mxGraph;
 
+import org.eclipse.swt.widgets.Display;
+
 public class TreeViewGraph extends mxGraph {
 
   private Optional<SessionContext> ctx = Optional.empty();
@@ -36,6 +45,14 @@ public class TreeViewGraph extends mxGraph {
   private final mxGraphLayout graphLayout;
 
   private final List<IGraphListener> graphListeners = new CopyOnWriteArrayList<>();
+  private final Map<UUID, Object> cells = new HashMap<>();
+
+  /**
+   * The token of the last load of a point in time, which is not complete yet,
+   * and the point in time it loads.
+   */
+  private CancellationToken pendingLoad;
+  private int requestedPointInTime;
 
   public TreeViewGraph() {
     super();
@@ -55,23 +72,147 @@ public class TreeViewGraph extends mxGraph {
     this.ctx = Optional.of(ctx);
     this.contentModel = Optional.of(new ContentModel(ctx));
     this.setModel(new mxGraphModel());
+    this.cells.clear();
   }
 
   public void removeSessionContext() {
     this.ctx = Optional.empty();
     this.contentModel = Optional.empty();
     this.setModel(new mxGraphModel());
+    this.cells.clear();
   }
 
-  public void setPointInTime(final int pointInTime, final boolean highlightChange) {
+  /**
+   * Shows only the neighbourhood of some variables at the current point in
+   * time and all following points in time.
+   *
+   * @param variableIds
+   *          the ids of the variables in the center of the neighbourhood
+   * @param depth
+   *          the maximum number of hops upstream or downstream
+   */
+  public void setFocus(final Set<UUID> variableIds, final int depth) {
     if (!contentModel.isPresent()) {
       return;
     }
 
-    // set point in time in content model
-    contentModel.get().setPointInTime(pointInTime, highlightChange);
+    contentModel.get().setFocus(variableIds, depth);
+    reloadPointInTime();
+  }
+
+  /**
+   * Shows the whole graph again.
+   */
+  public void clearFocus() {
+    if (!contentModel.isPresent()) {
+      return;
+    }
+
+    contentModel.get().clearFocus();
+    reloadPointInTime();
+  }
+
+  public boolean isFocused() {
+    return contentModel.isPresent() && contentModel.get().isFocused();
+  }
+
+  /**
+   * Loads the requested point in time again in the background, e.g. after the
+   * focus has changed, and shows it on the UI thread afterwards.
+   */
+  private void reloadPointInTime() {
+    final CancellationToken token = new CancellationToken();
+
+    loadPointInTime(getRequestedPointInTime(), token).thenAccept(new Consumer<PointInTimeData>() {
+
+      @Override
+      public void accept(final PointInTimeData data) {
+        Display.getDefault().asyncExec(new Runnable() {
+
+          @Override
+          public void run() {
+            if (!token.isCancelled()) {
+              showPointInTime(data, false);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  private synchronized int getRequestedPointInTime() {
+    return pendingLoad != null ? requestedPointInTime : contentModel.get().getPointInTime();
+  }
+
+  /**
+   * Loads a point in time in the background. The graph is not changed until
+   * the loaded point in time is shown by {@link #showPointInTime}. The token of
+   * the previous load is cancelled, since the graph shows only the last
+   * requested point in time.
+   *
+   * @param pointInTime
+   *          the point in time to load
+   * @param token
+   *          the token which drops the load, when it has been superseded
+   * @return the future data of the point in time, which is cancelled if there
+   *         is no session
+   */
+  public synchronized CompletableFuture<PointInTimeData> loadPointInTime(final int pointInTime, final CancellationToken token) {
+    if (!contentModel.isPresent()) {
+      final CompletableFuture<PointInTimeData> future = new CompletableFuture<>();
+      future.cancel(false);
+      return future;
+    }
+
+    if (pendingLoad != null) {
+      pendingLoad.cancel();
+    }
+
+    pendingLoad = token;
+    requestedPointInTime = pointInTime;
 
-    updateGraph();
+    return contentModel.get().load(pointInTime, activeHeatmap, token).whenComplete(new BiConsumer<PointInTimeData, Throwable>() {
+
+      @Override
+      public void accept(final PointInTimeData data, final Throwable t) {
+        clearPendingLoad(token);
+      }
+    });
+  }
+
+  private synchronized void clearPendingLoad(final CancellationToken token) {
+    if (pendingLoad == token) {
+      pendingLoad = null;
+    }
+  }
+
+  /**
+   * Shows a point in time which has been loaded by {@link #loadPointInTime}.
+   * Data which has been loaded for a previous session is ignored.
+   *
+   * @param data
+   *          the loaded data of the point in time
+   * @param highlightChange
+   *          <code>true</code>, if the changed variables should be highlighted
+   */
+  public void showPointInTime(final PointInTimeData data, final boolean highlightChange) {
+    if (!contentModel.isPresent() || !contentModel.get().show(data, highlightChange)) {
+      return;
+    }
+
+    redrawChange();
+  }
+
+  private void redrawChange() {
+    final ContentModelChange change = contentModel.get().getLastChange();
+
+    // the heatmap colors depend on the point in time of all vertices
+    if (change != null && !activeHeatmap && !cells.isEmpty()) {
+      updateGraph(change);
+    }
+    else {
+      updateGraph();
+    }
   }
 
   /**
@@ -96,6 +237,7 @@ public class TreeViewGraph extends mxGraph {
   private void doUpdateGraph() {
     // remove cells, if any
     removeCells(getChildVertices(getDefaultParent()));
+    cells.clear();
 
     // load vertices from content model
     List<ReactiveVariableVertex> vertices;
@@ -111,31 +253,78 @@ public class TreeViewGraph extends mxGraph {
     final Map<UUID, Set<UUID>> edges = contentModel.get().getEdges();
 
     // insert vertices
-    final Map<UUID, Object> mapping = new HashMap<>();
     for (final ReactiveVariableVertex vertex : vertices) {
       final Object cell = vertex.draw(this, showClassName);
 
       // add cell to mapping
-      mapping.put(vertex.getVar().getId(), cell);
+      cells.put(vertex.getVar().getId(), cell);
     }
 
     // insert edges
-    for (final Object sourceId : edges.keySet()) {
-      // get source vertex
-      final Object source = mapping.get(sourceId);
+    for (final UUID sourceId : edges.keySet()) {
+      insertEdges(sourceId, edges.get(sourceId));
+    }
+
+    doLayoutGraph();
 
-      // get destinations
-      final Set<UUID> destinations = edges.get(sourceId);
+    fireGraphChanged();
+  }
 
-      for (final UUID destinationId : destinations) {
-        // get destination vertex
-        final Object destination = mapping.get(destinationId);
+  private void insertEdges(final UUID sourceId, final Set<UUID> destinations) {
+    // get source vertex
+    final Object source = cells.get(sourceId);
 
-        insertEdge(defaultParent, null, "", source, destination, "EDGE"); //$NON-NLS-1$ //$NON-NLS-2$
+    for (final UUID destinationId : destinations) {
+      // get destination vertex
+      final Object destination = cells.get(destinationId);
+
+      insertEdge(defaultParent, null, "", source, destination, "EDGE"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+
+  /**
+   * Updates only the cells which are affected by the change of the content
+   * model. The graph is only laid out again, if vertices or edges have been
+   * added or removed.
+   */
+  private void updateGraph(final ContentModelChange change) {
+    getModel().beginUpdate();
+    try {
+      doUpdateGraph(change);
+    }
+    finally {
+      getModel().endUpdate();
+    }
+  }
+
+  private void doUpdateGraph(final ContentModelChange change) {
+    for (final UUID id : change.getRemovedVariables()) {
+      final Object cell = cells.remove(id);
+
+      if (cell != null) {
+        removeCells(new Object[] { cell });
       }
     }
 
-    doLayoutGraph();
+    for (final ReactiveVariableVertex vertex : change.getUpdatedVertices()) {
+      final mxCell cell = (mxCell) cells.get(vertex.getVar().getId());
+
+      if (cell == null) {
+        cells.put(vertex.getVar().getId(), vertex.draw(this, showClassName));
+      }
+      else {
+        vertex.redraw(this, cell, showClassName);
+      }
+    }
+
+    for (final Map.Entry<UUID, Set<UUID>> edges : change.getChangedEdges().entrySet()) {
+      removeCells(getOutgoingEdges(cells.get(edges.getKey())));
+      insertEdges(edges.getKey(), edges.getValue());
+    }
+
+    if (change.isStructural()) {
+      doLayoutGraph();
+    }
 
     fireGraphChanged();
   }
@@ -359,7 +548,12 @@ public class TreeViewGraph extends mxGraph {
     final ReactiveVariable reVar = reVarLabel.getVar();
     final BreakpointInformation breakpointInformation = ctx.isPresent() ? ctx.get().getVariableLocation(reVar.getId()) : null;
 
-    final ReactiveVariableTooltip tooltip = new ReactiveVariableTooltip(reVarLabel.getVar(), breakpointInformation);
+    // abbreviated values are only loaded in full when the tooltip is shown
+    final String valueString = ctx.isPresent() ? ctx.get().getPersistence().getFullValueString(reVar) : reVar.getValueString();
+
+    final ExceptionRecord exception = ctx.isPresent() ? ctx.get().getPersistence().getExceptionRecord(reVar) : null;
+
+    final ReactiveVariableTooltip tooltip = new ReactiveVariableTooltip(reVarLabel.getVar(), valueString, breakpointInformation, exception);
     return tooltip.toString();
   }
 
@@ -0,0 +1,78 @@
+package de.tuda.stg.reclipse.graphview.view.graph.actions;
+
+import de.tuda.stg.reclipse.graphview.Images;
+import de.tuda.stg.reclipse.graphview.Texts;
+import de.tuda.stg.reclipse.graphview.view.graph.ReactiveVariableLabel;
+import de.tuda.stg.reclipse.graphview.view.graph.TreeViewGraph;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Collections;
+
+import javax.swing.ImageIcon;
+import javax.swing.JMenuItem;
+
+import com.mxgraph.model.mxCell;
+
+/**
+ * Restricts the graph to the neighbourhood of a variable, so that only the
+ * variables around it are loaded and drawn.
+ */
+public class FocusAction {
+
+  /**
+   * Number of hops upstream and downstream of the focused variable.
+   */
+  private static final int FOCUS_DEPTH = 2;
+
+  private final TreeViewGraph graph;
+
+  public FocusAction(final TreeViewGraph g) {
+    super();
+    this.graph = g;
+  }
+
+  /**
+   * Creates a menu item for the cell.
+   *
+   * @param cell
+   *          A cell in the graph.
+   * @return JMenuItem instance
+   */
+  public JMenuItem createMenuItem(final mxCell cell) {
+    final JMenuItem item = new JMenuItem();
+
+    // set text to label
+    item.setText(graph.isFocused() ? Texts.MenuItem_Focus_ShowAll : Texts.MenuItem_Focus_Neighbourhood);
+
+    // load icon
+    final ImageIcon icon = new ImageIcon(getClass().getResource('/' + Images.HIGHLIGHT.getPath()));
+    item.setIcon(icon);
+
+    item.addActionListener(new ActionListener() {
+
+      @Override
+      public void actionPerformed(final ActionEvent e) {
+        if (graph.isFocused()) {
+          graph.clearFocus();
+        }
+        else {
+          focusOnCell(cell);
+        }
+      }
+    });
+
+    return item;
+  }
+
+  /**
+   * Shows only the neighbourhood of the variable of a cell.
+   *
+   * @param cell
+   *          A cell in the graph.
+   */
+  public void focusOnCell(final mxCell cell) {
+    final ReactiveVariableLabel label = (ReactiveVariableLabel) cell.getValue();
+    graph.setFocus(Collections.singleton(label.getVar().getId()), FOCUS_DEPTH);
+  }
+}
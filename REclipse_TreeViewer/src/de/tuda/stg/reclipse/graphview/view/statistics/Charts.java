@@ -3,16 +3,24 @@ package de.tuda.stg.reclipse.graphview.view.statistics;
 import de.tuda.stg.reclipse.logger.ReactiveVariable;
 
 import de.tuda.stg.reclipse.graphview.model.SessionContext;
+import de.tuda.stg.reclipse.graphview.model.persistence.CancellationToken;
+import de.tuda.stg.reclipse.graphview.model.persistence.CheckpointStatistics;
+import de.tuda.stg.reclipse.graphview.model.persistence.PersistenceFacade;
 import de.tuda.stg.reclipse.graphview.view.graph.Heatmap;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.title.TextTitle;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.DefaultPieDataset;
 
@@ -29,19 +37,30 @@ public class Charts {
 
   private final JFreeChart changeChart;
 
+  private final JFreeChart checkpointChart;
+
   private final DefaultPieDataset typeDataset;
 
   private final DefaultCategoryDataset changeDataset;
 
+  private final DefaultCategoryDataset checkpointDataset;
+
+  private final TextTitle checkpointSubtitle;
+
+  private CancellationToken pendingRefresh;
+
   private static String TYPE_TITLE = "Reactive Variable Types"; //$NON-NLS-1$
 
   private static String CHANGE_TITLE = "Amount of Updates"; //$NON-NLS-1$
 
+  private static String CHECKPOINT_TITLE = "Checkpoint Overhead"; //$NON-NLS-1$
+
   public Charts(final SessionContext ctx) {
     this.ctx = ctx;
 
     typeDataset = new DefaultPieDataset();
     changeDataset = new DefaultCategoryDataset();
+    checkpointDataset = new DefaultCategoryDataset();
 
     typeChart = ChartFactory.createPieChart3D(TYPE_TITLE, typeDataset, true, true, false);
     changeChart = ChartFactory.createBarChart3D(CHANGE_TITLE, "Variables", "Changes", changeDataset, PlotOrientation.VERTICAL, false, true, false); //$NON-NLS-1$ //$NON-NLS-2$
@@ -49,7 +68,11 @@ public class Charts {
     final NumberAxis rangeAxis = (NumberAxis) changeChart.getCategoryPlot().getRangeAxis();
     rangeAxis.setStandardTickUnits(NumberAxis.createIntegerTickUnits());
 
-    populateTypeDataset();
+    checkpointChart = ChartFactory.createBarChart3D(CHECKPOINT_TITLE, "", "Rows", checkpointDataset, PlotOrientation.VERTICAL, false, true, false); //$NON-NLS-1$ //$NON-NLS-2$
+    checkpointSubtitle = new TextTitle();
+    checkpointChart.addSubtitle(checkpointSubtitle);
+
+    refresh();
   }
 
   /**
@@ -64,27 +87,77 @@ public class Charts {
     return changeChart;
   }
 
+  public JFreeChart getCheckpointChart() {
+    return checkpointChart;
+  }
+
   /**
-   * Refreshses the dataset of the pie chart.
+   * Refreshses the datasets of the charts. The statistics are loaded in the
+   * background and the datasets are updated on the event dispatch thread
+   * afterwards. A refresh which is still loading is dropped.
    */
-  public void refresh() {
-    populateTypeDataset();
-    populateChangeDataset();
+  public synchronized void refresh() {
+    if (pendingRefresh != null) {
+      pendingRefresh.cancel();
+    }
 
-    typeChart.fireChartChanged();
-    changeChart.fireChartChanged();
+    final CancellationToken token = new CancellationToken();
+    pendingRefresh = token;
+
+    ctx.getPersistence().submitRead(token, new Supplier<Statistics>() {
+
+      @Override
+      public Statistics get() {
+        return loadStatistics(token);
+      }
+    }).thenAccept(new Consumer<Statistics>() {
+
+      @Override
+      public void accept(final Statistics statistics) {
+        SwingUtilities.invokeLater(new Runnable() {
+
+          @Override
+          public void run() {
+            if (token.isCancelled()) {
+              return;
+            }
+
+            populateTypeDataset(statistics.types);
+            populateChangeDataset(statistics.changes);
+            populateCheckpointDataset(statistics.checkpoints, statistics.pointsInTime);
+
+            typeChart.fireChartChanged();
+            changeChart.fireChartChanged();
+            checkpointChart.fireChartChanged();
+          }
+        });
+      }
+    });
+  }
+
+  private Statistics loadStatistics(final CancellationToken token) {
+    final PersistenceFacade persistence = ctx.getPersistence();
+    final int lastPointInTime = persistence.getLastPointInTime();
+    final Statistics statistics = new Statistics();
+
+    statistics.types = calculateTypes(persistence.getReVars(lastPointInTime));
+    token.throwIfCancelled();
+
+    statistics.changes = Heatmap.calculateChangeMap(lastPointInTime, ctx);
+    token.throwIfCancelled();
+
+    statistics.checkpoints = persistence.getCheckpointStatistics();
+    statistics.pointsInTime = lastPointInTime - persistence.getFirstPointInTime();
+
+    return statistics;
   }
 
   /**
-   * Calculates the distribution of reactive variable types and populates the
-   * dataset accordingly.
+   * Calculates the distribution of reactive variable types.
    */
-  private void populateTypeDataset() {
+  private static Map<String, Integer> calculateTypes(final List<ReactiveVariable> reVars) {
     final Map<String, Integer> types = new HashMap<>();
 
-    final int lastPointInTime = ctx.getPersistence().getLastPointInTime();
-    final List<ReactiveVariable> reVars = ctx.getPersistence().getReVars(lastPointInTime);
-
     for (final ReactiveVariable reVar : reVars) {
       final String type = reVar.getTypeSimple();
 
@@ -96,16 +169,16 @@ public class Charts {
       }
     }
 
+    return types;
+  }
+
+  private void populateTypeDataset(final Map<String, Integer> types) {
     for (final String type : types.keySet()) {
       typeDataset.setValue(type, types.get(type));
     }
   }
 
-  private void populateChangeDataset() {
-    final int lastPointInTime = ctx.getPersistence().getLastPointInTime();
-
-    final Map<String, Integer> changemap = Heatmap.calculateChangeMap(lastPointInTime, ctx);
-
+  private void populateChangeDataset(final Map<String, Integer> changemap) {
     for (final String name : changemap.keySet()) {
       final Integer value = changemap.get(name);
 
@@ -116,4 +189,31 @@ public class Charts {
       changeDataset.setValue(value, "", name); //$NON-NLS-1$
     }
   }
+
+  /**
+   * Compares the number of stored checkpoint entries with the number of
+   * retained points in time.
+   */
+  private void populateCheckpointDataset(final CheckpointStatistics statistics, final int pointsInTime) {
+    checkpointDataset.setValue(pointsInTime, "", "Points in Time"); //$NON-NLS-1$ //$NON-NLS-2$
+    checkpointDataset.setValue(statistics.getEntryCount(), "", "Checkpoint Entries"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    if (statistics.getInterval() > 0) {
+      checkpointSubtitle.setText(statistics.getCheckpointCount() + " checkpoints every " + statistics.getInterval() + " points in time, written in " + statistics.getWriteTimeMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    else {
+      checkpointSubtitle.setText("checkpoints disabled"); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * The statistics shown by the charts, which are loaded together.
+   */
+  private static class Statistics {
+
+    private Map<String, Integer> types;
+    private Map<String, Integer> changes;
+    private CheckpointStatistics checkpoints;
+    private int pointsInTime;
+  }
 }
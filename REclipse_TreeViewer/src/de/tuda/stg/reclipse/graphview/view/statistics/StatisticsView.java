@@ -8,6 +8,7 @@ import de.tuda.stg.reclipse.logger.DependencyGraphHistoryType;
 
 import java.awt.Frame;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.swing.JPanel;
 
@@ -52,11 +53,13 @@ public class StatisticsView extends ViewPart implements IDependencyGraphListener
     pieCharts = new Charts(ctx);
     final ChartPanel typeChartPanel = new ChartPanel(pieCharts.getTypeChart());
     final ChartPanel changeChartPanel = new ChartPanel(pieCharts.getChangeChart());
+    final ChartPanel checkpointChartPanel = new ChartPanel(pieCharts.getCheckpointChart());
 
     final JPanel chartsPanel = new JPanel();
-    chartsPanel.setLayout(new java.awt.GridLayout(1, 2));
+    chartsPanel.setLayout(new java.awt.GridLayout(1, 3));
     chartsPanel.add(typeChartPanel);
     chartsPanel.add(changeChartPanel);
+    chartsPanel.add(checkpointChartPanel);
 
     frame.add(chartsPanel);
 
@@ -75,7 +78,7 @@ public class StatisticsView extends ViewPart implements IDependencyGraphListener
   }
 
   @Override
-  public void onDependencyGraphChanged(final DependencyGraphHistoryType type, final int pointInTime) {
+  public void onDependencyGraphChanged(final Set<DependencyGraphHistoryType> types, final int pointInTime) {
     if (pieCharts != null) {
       pieCharts.refresh();
     }